@@ -0,0 +1,15 @@
+package org.sam.server.benchmark;
+
+import org.sam.server.annotation.ComponentScan;
+
+/**
+ * 벤치마크에서 사용하는 핸들러와 컴포넌트의 루트 패키지를 지정하는 클래스입니다.
+ *
+ * @author hypernova1
+ */
+@ComponentScan
+public class BenchmarkApplication {
+
+    private BenchmarkApplication() {}
+
+}
@@ -0,0 +1,36 @@
+package org.sam.server.benchmark;
+
+import org.sam.server.annotation.component.Handler;
+import org.sam.server.annotation.handle.GetMapping;
+import org.sam.server.annotation.handle.JsonRequest;
+import org.sam.server.annotation.handle.PostMapping;
+import org.sam.server.annotation.handle.RestApi;
+
+/**
+ * 파라미터 바인딩 벤치마크에서 실행하는 핸들러입니다. 바인딩 비용을 비교할 수 있도록 핸들러는 받은 값을 그대로 반환합니다.
+ *
+ * @author hypernova1
+ * @see ExecutorBenchmark
+ */
+@Handler("/bench")
+public class BenchmarkHandler {
+
+    @RestApi
+    @GetMapping("/search")
+    public String search(String keyword, int page, int size, boolean available) {
+        return keyword;
+    }
+
+    @RestApi
+    @GetMapping("/items")
+    public ItemQuery items(ItemQuery query) {
+        return query;
+    }
+
+    @RestApi
+    @PostMapping("/items")
+    public Item create(@JsonRequest Item item) {
+        return item;
+    }
+
+}
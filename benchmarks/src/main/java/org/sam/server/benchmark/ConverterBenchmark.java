@@ -0,0 +1,59 @@
+package org.sam.server.benchmark;
+
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+import org.sam.server.util.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 변환 비용을 측정합니다. 요청 바디를 읽는 경로와 응답 바디를 쓰는 경로를 모델 목록의 크기별로 비교합니다.
+ *
+ * @author hypernova1
+ * @see Converter#jsonToObject(java.io.InputStream, Type)
+ * @see Converter#writeJson(Object, Type, java.io.Writer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConverterBenchmark {
+
+    private static final Type ITEMS_TYPE = new TypeToken<List<Item>>() {}.getType();
+
+    @Param({"1", "100"})
+    private int items;
+
+    private List<Item> value;
+
+    private byte[] json;
+
+    private final CharArrayWriter writer = new CharArrayWriter(64 * 1024);
+
+    @Setup
+    public void setUp() {
+        value = Fixtures.items(items);
+        json = Converter.objectToJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Item> readJson() {
+        return Converter.jsonToObject(new ByteArrayInputStream(json), ITEMS_TYPE);
+    }
+
+    @Benchmark
+    public int writeJson() throws IOException {
+        writer.reset();
+        Converter.writeJson(value, ITEMS_TYPE, writer);
+        return writer.size();
+    }
+
+}
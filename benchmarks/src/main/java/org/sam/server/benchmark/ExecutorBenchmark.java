@@ -0,0 +1,88 @@
+package org.sam.server.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.sam.server.context.BeanContainer;
+import org.sam.server.context.HandlerInfo;
+import org.sam.server.http.context.HandlerExecutor;
+import org.sam.server.http.web.HttpResponse;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 파라미터를 바인딩하고 실행하는 비용을 측정합니다.
+ * 요청 인스턴스는 한 번만 사용할 수 있으므로 매번 해석하며, 해석 비용은 parseOnly의 결과를 빼서 비교합니다.
+ * 핸들러를 찾는 비용은 포함하지 않으며, 반환 값을 JSON으로 쓰는 비용은 포함합니다.
+ *
+ * @author hypernova1
+ * @see HandlerExecutor#execute(HandlerInfo)
+ * @see BenchmarkHandler
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExecutorBenchmark {
+
+    private byte[] searchMessage;
+
+    private byte[] modelMessage;
+
+    private byte[] jsonMessage;
+
+    private HandlerInfo searchHandler;
+
+    private HandlerInfo modelHandler;
+
+    private HandlerInfo jsonHandler;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        searchMessage = Requests.browser("/bench/search?keyword=phone&page=2&size=20&available=true");
+        modelMessage = Requests.browser("/bench/items?keyword=phone&page=2&size=20&available=true&category.name=mobile");
+        jsonMessage = Requests.json("POST", "/bench/items", Fixtures.itemJson());
+
+        Object handler = findHandler();
+        searchHandler = HandlerInfo.of(handler, BenchmarkHandler.class.getMethod("search", String.class, int.class, int.class, boolean.class));
+        modelHandler = HandlerInfo.of(handler, BenchmarkHandler.class.getMethod("items", ItemQuery.class));
+        jsonHandler = HandlerInfo.of(handler, BenchmarkHandler.class.getMethod("create", Item.class));
+    }
+
+    private static Object findHandler() {
+        for (Object handler : BeanContainer.getHandlerBeans()) {
+            if (handler instanceof BenchmarkHandler) return handler;
+        }
+        throw new IllegalStateException("handler not registered: " + BenchmarkHandler.class.getName());
+    }
+
+    @Benchmark
+    public Request parseOnly() {
+        return Requests.parse(searchMessage);
+    }
+
+    @Benchmark
+    public Response bindQueryParameters() {
+        return execute(searchMessage, searchHandler);
+    }
+
+    @Benchmark
+    public Response bindModel() {
+        return execute(modelMessage, modelHandler);
+    }
+
+    @Benchmark
+    public Response bindJsonBody() {
+        return execute(jsonMessage, jsonHandler);
+    }
+
+    private static Response execute(byte[] message, HandlerInfo handlerInfo) {
+        Request request = Requests.parse(message);
+        Response response = HttpResponse.of(Requests.DISCARD, request.getUrl(), request.getMethod());
+        HandlerExecutor.of(request, response).execute(handlerInfo);
+        return response;
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.sam.server.benchmark;
+
+import org.sam.server.util.Converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크에서 사용하는 모델 인스턴스와 JSON을 만드는 클래스입니다.
+ *
+ * @author hypernova1
+ */
+final class Fixtures {
+
+    private Fixtures() {}
+
+    /**
+     * 모델 인스턴스를 만듭니다.
+     *
+     * @param id 아이디
+     * @return 모델 인스턴스
+     * */
+    static Item item(long id) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName("Wireless Noise Cancelling Headphones #" + id);
+        item.setPrice(329000);
+        item.setAvailable(id % 3 != 0);
+        item.setTags(Arrays.asList("audio", "bluetooth", "electronics"));
+        return item;
+    }
+
+    /**
+     * 모델 인스턴스 목록을 만듭니다.
+     *
+     * @param size 목록의 크기
+     * @return 모델 인스턴스 목록
+     * */
+    static List<Item> items(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(item(i));
+        }
+        return items;
+    }
+
+    /**
+     * 모델 인스턴스 하나를 JSON으로 변환한 값을 반환합니다.
+     *
+     * @return JSON 문자열
+     * */
+    static String itemJson() {
+        return Converter.objectToJson(item(1));
+    }
+
+}
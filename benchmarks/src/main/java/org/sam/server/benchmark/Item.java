@@ -0,0 +1,62 @@
+package org.sam.server.benchmark;
+
+import java.util.List;
+
+/**
+ * 벤치마크에서 JSON으로 주고받는 모델입니다.
+ *
+ * @author hypernova1
+ */
+public class Item {
+
+    private long id;
+
+    private String name;
+
+    private int price;
+
+    private boolean available;
+
+    private List<String> tags;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public void setPrice(int price) {
+        this.price = price;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.sam.server.benchmark;
+
+/**
+ * 벤치마크에서 요청 파라미터를 바인딩하는 모델입니다. category는 "category.name" 형식의 파라미터로 바인딩합니다.
+ *
+ * @author hypernova1
+ */
+public class ItemQuery {
+
+    private String keyword;
+
+    private int page;
+
+    private int size;
+
+    private boolean available;
+
+    private Category category;
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public static class Category {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.sam.server.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.sam.server.http.web.Request;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 메시지를 해석하는 비용을 측정합니다. 헤더 구성별로 Host만 있는 요청, 브라우저 요청, JSON 바디를 가진 API 요청을 비교합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.http.web.HttpRequest#from(java.io.InputStream)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestParserBenchmark {
+
+    @Param({"minimal", "browser", "api"})
+    private String headers;
+
+    private byte[] message;
+
+    @Setup
+    public void setUp() {
+        switch (headers) {
+            case "minimal":
+                message = Requests.minimal("/bench/search?keyword=phone&page=2&size=20&available=true");
+                break;
+            case "browser":
+                message = Requests.browser("/bench/search?keyword=phone&page=2&size=20&available=true");
+                break;
+            default:
+                message = Requests.json("POST", "/bench/items", Fixtures.itemJson());
+        }
+    }
+
+    @Benchmark
+    public Request parse() {
+        return Requests.parse(message);
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.sam.server.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.http.web.HttpResponse;
+import org.sam.server.http.web.Response;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 헤더와 바디를 쓰는 비용을 측정합니다. 출력 스트림은 쓰기를 무시하므로 소켓 I/O는 포함하지 않습니다.
+ *
+ * @author hypernova1
+ * @see HttpResponse
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseWriterBenchmark {
+
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        item = Fixtures.item(1);
+    }
+
+    @Benchmark
+    public Response writeText(TextBody body) {
+        Response response = createResponse();
+        response.executeText(body.text, HttpStatus.OK);
+        return response;
+    }
+
+    @Benchmark
+    public Response writeJson() {
+        Response response = createResponse();
+        response.executeJson(item, Item.class, HttpStatus.OK);
+        return response;
+    }
+
+    private static Response createResponse() {
+        Response response = HttpResponse.of(Requests.DISCARD, "/bench/items", HttpMethod.GET);
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Request-Id", "3b9d7c1e-5a2f-4e8b-9c6d-1f0a2b3c4d5e");
+        return response;
+    }
+
+    @State(Scope.Benchmark)
+    public static class TextBody {
+
+        @Param({"64", "4096"})
+        private int bodySize;
+
+        private String text;
+
+        @Setup
+        public void setUp() {
+            char[] body = new char[bodySize];
+            Arrays.fill(body, 'a');
+            text = new String(body);
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.sam.server.benchmark;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 라우팅 벤치마크에서 사용하는 핸들러 클래스를 만드는 클래스입니다. 핸들러마다 경로 파라미터가 없는 경로 9개와 있는 경로 1개를 가집니다.
+ * 핸들러 클래스는 소스를 만들어 임시 디렉토리에 컴파일한 후 별도의 클래스 로더로 불러오므로 JDK에서 실행해야 합니다.
+ *
+ * @author hypernova1
+ * @see RouterBenchmark
+ */
+final class RouteFixtures {
+
+    static final int ROUTES_PER_HANDLER = 10;
+
+    private static final String PACKAGE_NAME = "org.sam.server.benchmark.route";
+
+    private RouteFixtures() {}
+
+    /**
+     * 핸들러 클래스를 만들고 순서대로 인스턴스를 생성합니다.
+     *
+     * @param handlers 핸들러 개수
+     * @return 핸들러 인스턴스 목록
+     * @throws IllegalStateException JDK가 아니거나 컴파일에 실패했을 시
+     * */
+    static List<Object> create(int handlers) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) throw new IllegalStateException("route fixtures require a JDK");
+        try {
+            Path directory = Files.createTempDirectory("route-fixtures");
+            List<File> sources = new ArrayList<>();
+            for (int i = 0; i < handlers; i++) {
+                sources.add(writeSource(directory, i));
+            }
+            compile(compiler, directory, sources);
+            ClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, RouteFixtures.class.getClassLoader());
+            List<Object> instances = new ArrayList<>();
+            for (int i = 0; i < handlers; i++) {
+                instances.add(classLoader.loadClass(PACKAGE_NAME + "." + className(i)).getDeclaredConstructor().newInstance());
+            }
+            return instances;
+        } catch (IOException | ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 순서에 해당하는 핸들러의 경로를 반환합니다.
+     *
+     * @param index 핸들러 순서
+     * @return 핸들러 경로
+     * */
+    static String handlerPath(int index) {
+        return "/h" + index;
+    }
+
+    private static String className(int index) {
+        return "Handler" + index;
+    }
+
+    private static File writeSource(Path directory, int index) throws IOException {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE_NAME).append(";\n\n")
+                .append("import org.sam.server.annotation.component.Handler;\n")
+                .append("import org.sam.server.annotation.handle.GetMapping;\n")
+                .append("import org.sam.server.annotation.handle.PathValue;\n\n")
+                .append("@Handler(\"").append(handlerPath(index)).append("\")\n")
+                .append("public class ").append(className(index)).append(" {\n");
+        for (int i = 0; i < ROUTES_PER_HANDLER - 1; i++) {
+            source.append("    @GetMapping(\"/r").append(i).append("\") public String r").append(i)
+                    .append("() { return \"r").append(i).append("\"; }\n");
+        }
+        int last = ROUTES_PER_HANDLER - 1;
+        source.append("    @GetMapping(\"/r").append(last).append("/{id}\") public String r").append(last)
+                .append("(@PathValue long id) { return \"r").append(last).append("\"; }\n")
+                .append("}\n");
+        Path file = directory.resolve(className(index) + ".java");
+        Files.write(file, source.toString().getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    private static void compile(JavaCompiler compiler, Path directory, List<File> sources) throws IOException {
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", directory.toString(),
+                    "-proc:none");
+            Boolean compiled = compiler.getTask(null, fileManager, null, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(sources)).call();
+            if (!Boolean.TRUE.equals(compiled)) throw new IllegalStateException("failed to compile route fixtures");
+        }
+    }
+
+}
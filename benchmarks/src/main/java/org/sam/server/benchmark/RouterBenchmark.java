@@ -0,0 +1,90 @@
+package org.sam.server.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.context.BeanContainer;
+import org.sam.server.context.HandlerInfo;
+import org.sam.server.exception.HandlerNotFoundException;
+import org.sam.server.http.context.HandlerFinder;
+import org.sam.server.http.web.HttpResponse;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록된 경로 수에 따른 핸들러 탐색 비용을 측정합니다.
+ * 핸들러 빈 목록을 경로 수만큼 RouteFixtures로 만든 핸들러로 바꾼 후 마지막 핸들러의 경로, 경로 파라미터가 있는 경로, 없는 경로를 탐색합니다.
+ *
+ * @author hypernova1
+ * @see HandlerFinder#createHandlerInfo()
+ * @see RouteFixtures
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RouterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    private final List<Object> registeredHandlers = new ArrayList<>();
+
+    private Request lastRouteRequest;
+
+    private Request pathValueRequest;
+
+    private Request unmatchedRequest;
+
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        int handlers = routes / RouteFixtures.ROUTES_PER_HANDLER;
+        if (handlers < 1) {
+            throw new IllegalArgumentException("routes must be at least " + RouteFixtures.ROUTES_PER_HANDLER);
+        }
+        List<Object> handlerBeans = BeanContainer.getHandlerBeans();
+        registeredHandlers.addAll(handlerBeans);
+        handlerBeans.clear();
+        handlerBeans.addAll(RouteFixtures.create(handlers));
+        String lastHandlerPath = RouteFixtures.handlerPath(handlers - 1);
+        lastRouteRequest = Requests.parse(Requests.minimal(lastHandlerPath + "/r8"));
+        pathValueRequest = Requests.parse(Requests.minimal(lastHandlerPath + "/r9/42"));
+        unmatchedRequest = Requests.parse(Requests.minimal("/unmatched/path"));
+        response = HttpResponse.of(Requests.DISCARD, "/", HttpMethod.GET);
+    }
+
+    @TearDown
+    public void tearDown() {
+        List<Object> handlerBeans = BeanContainer.getHandlerBeans();
+        handlerBeans.clear();
+        handlerBeans.addAll(registeredHandlers);
+        registeredHandlers.clear();
+    }
+
+    @Benchmark
+    public HandlerInfo lastRoute() throws HandlerNotFoundException {
+        return HandlerFinder.of(lastRouteRequest, response).createHandlerInfo();
+    }
+
+    @Benchmark
+    public HandlerInfo pathValueRoute() throws HandlerNotFoundException {
+        return HandlerFinder.of(pathValueRequest, response).createHandlerInfo();
+    }
+
+    @Benchmark
+    public Object unmatchedRoute() {
+        try {
+            return HandlerFinder.of(unmatchedRequest, response).createHandlerInfo();
+        } catch (HandlerNotFoundException e) {
+            return e;
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+package org.sam.server.accesslog;
+
+import org.sam.server.common.ServerProperties;
+import org.sam.server.constant.HttpMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청마다 접근 로그를 남기는 클래스입니다. accesslog.enabled가 true일 때만 기록합니다.
+ * 요청 쓰레드는 링 버퍼에 항목을 넣기만 하고, 파일에 쓰는 일은 access-log 쓰레드가 맡으므로 로그 I/O가 응답 시간에 영향을 주지 않습니다.
+ *
+ * <pre>
+ * accesslog.file           로그 파일 경로 (기본 값 logs/access.log)
+ * accesslog.format         json, common 혹은 패턴 (기본 값 common)
+ * accesslog.sample-rate    남길 요청의 비율, 0~1 사이 (기본 값 1). 500 이상의 응답은 항상 남깁니다.
+ * accesslog.buffer-size    링 버퍼 크기 (기본 값 8192)
+ * accesslog.max-file-size  로그 파일의 최대 크기, MB 단위 (기본 값 100)
+ * accesslog.max-files      보관할 이전 로그 파일 수 (기본 값 10)
+ * </pre>
+ *
+ * @author hypernova1
+ * @see AccessLogRingBuffer
+ * @see AccessLogFormat
+ */
+public final class AccessLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLog.class);
+
+    private static final boolean ENABLED = ServerProperties.getBoolean("accesslog.enabled", false);
+
+    private static final double SAMPLE_RATE = getSampleRate();
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final AccessLogRingBuffer ringBuffer =
+            ENABLED ? new AccessLogRingBuffer(ServerProperties.getInt("accesslog.buffer-size", 8192)) : null;
+
+    static {
+        if (ENABLED) start();
+    }
+
+    private AccessLog() {}
+
+    /**
+     * 접근 로그 기록 여부를 반환합니다.
+     *
+     * @return 접근 로그 기록 여부
+     * */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 처리가 끝난 요청을 기록합니다. 표본에서 빠지거나 버퍼가 가득 찼다면 기록하지 않습니다.
+     *
+     * @param method HTTP Method
+     * @param url 요청 URL
+     * @param route 핸들러의 경로 템플릿
+     * @param status 응답 상태 코드
+     * @param bytes 응답 바디의 바이트 수
+     * @param startNanos 요청 처리를 시작한 System.nanoTime()
+     * */
+    public static void record(HttpMethod method, String url, String route, int status, long bytes, long startNanos) {
+        if (!ENABLED) return;
+        if (status < 500 && SAMPLE_RATE < 1 && ThreadLocalRandom.current().nextDouble() >= SAMPLE_RATE) return;
+        ringBuffer.publish(System.currentTimeMillis(), method, url, route, status, bytes, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 버퍼가 가득 차서 버린 항목의 수를 반환합니다.
+     *
+     * @return 버린 항목 수
+     * */
+    public static long getDropped() {
+        return ENABLED ? ringBuffer.getDropped() : 0;
+    }
+
+    private static void start() {
+        File file = new File(getProperty("accesslog.file", "logs/access.log"));
+        long maxFileSize = ServerProperties.getInt("accesslog.max-file-size", 100) * 1024L * 1024L;
+        RollingFileWriter writer = new RollingFileWriter(file, maxFileSize, ServerProperties.getInt("accesslog.max-files", 10));
+        AccessLogFormat format = AccessLogFormat.of(ServerProperties.get("accesslog.format"));
+        Drainer drainer = new Drainer(writer, format);
+        Thread thread = new Thread(drainer, "access-log");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(drainer::stop, "access-log-flush"));
+        logger.info("access log: {} (buffer {})", file, ringBuffer.capacity());
+    }
+
+    private static String getProperty(String key, String defaultValue) {
+        String value = ServerProperties.get(key);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    private static double getSampleRate() {
+        String value = ServerProperties.get("accesslog.sample-rate");
+        if (value == null || value.isEmpty()) return 1;
+        try {
+            return Math.max(0, Math.min(1, Double.parseDouble(value)));
+        } catch (NumberFormatException e) {
+            logger.warn("invalid accesslog.sample-rate: {}", value);
+            return 1;
+        }
+    }
+
+    /**
+     * 링 버퍼의 항목을 읽어 파일에 쓰는 작업입니다. 버퍼가 비면 파일을 flush하고 잠시 쉽니다.
+     */
+    private static final class Drainer implements Runnable {
+
+        private final RollingFileWriter writer;
+
+        private final AccessLogFormat format;
+
+        private final StringBuilder line = new StringBuilder(256);
+
+        private volatile boolean running = true;
+
+        private volatile Thread thread;
+
+        private Drainer(RollingFileWriter writer, AccessLogFormat format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            boolean dirty = false;
+            while (running) {
+                if (drain()) {
+                    dirty = true;
+                    continue;
+                }
+                if (dirty) {
+                    flush();
+                    dirty = false;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            drain();
+            flush();
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("failed to close access log", e);
+            }
+        }
+
+        /**
+         * 버퍼에 쌓인 항목을 모두 씁니다.
+         *
+         * @return 쓴 항목이 있는지 여부
+         * */
+        private boolean drain() {
+            boolean drained = false;
+            AccessLogEntry entry;
+            while ((entry = ringBuffer.poll()) != null) {
+                line.setLength(0);
+                format.format(entry, line);
+                ringBuffer.release(entry);
+                try {
+                    writer.writeLine(line);
+                } catch (IOException e) {
+                    logger.warn("failed to write access log", e);
+                }
+                drained = true;
+            }
+            return drained;
+        }
+
+        private void flush() {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                logger.warn("failed to flush access log", e);
+            }
+        }
+
+        /**
+         * 남은 항목을 모두 쓰고 파일을 닫을 때 까지 기다립니다.
+         * */
+        private void stop() {
+            running = false;
+            Thread current = thread;
+            if (current == null) return;
+            LockSupport.unpark(current);
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
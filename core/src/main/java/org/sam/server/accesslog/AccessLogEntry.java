@@ -0,0 +1,49 @@
+package org.sam.server.accesslog;
+
+import org.sam.server.constant.HttpMethod;
+
+/**
+ * 링 버퍼의 한 칸에 해당하는 접근 로그 항목입니다. 인스턴스는 미리 만들어 두고 값만 바꿔가며 재사용합니다.
+ * sequence에 쓰는 것으로 항목을 발행하며, 읽는 쪽은 sequence를 먼저 읽은 뒤 나머지 값을 읽습니다.
+ *
+ * @author hypernova1
+ * @see AccessLogRingBuffer
+ */
+final class AccessLogEntry {
+
+    volatile long sequence = -1;
+
+    long timestamp;
+
+    HttpMethod method;
+
+    String url;
+
+    String route;
+
+    int status;
+
+    long bytes;
+
+    long latencyNanos;
+
+    void set(long timestamp, HttpMethod method, String url, String route, int status, long bytes, long latencyNanos) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.url = url;
+        this.route = route;
+        this.status = status;
+        this.bytes = bytes;
+        this.latencyNanos = latencyNanos;
+    }
+
+    /**
+     * 읽은 항목이 참조하던 문자열을 놓아줍니다.
+     * */
+    void clear() {
+        this.method = null;
+        this.url = null;
+        this.route = null;
+    }
+
+}
@@ -0,0 +1,162 @@
+package org.sam.server.accesslog;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접근 로그 항목을 한 줄의 문자열로 만드는 형식입니다. 형식 문자열은 생성할 때 한 번만 해석합니다.
+ * json을 지정하면 JSON 한 줄로, 그 외에는 아래의 치환자를 사용한 패턴으로 씁니다. common은 "%t %m %U %s %b %D"와 같습니다.
+ * <pre>
+ * %t 요청 시각   %m HTTP Method   %U 요청 URL   %R 핸들러 경로 템플릿
+ * %s 응답 상태   %b 응답 바디 바이트 수   %D 소요 시간(µs)   %T 소요 시간(ms)   %% %
+ * </pre>
+ *
+ * @author hypernova1
+ */
+final class AccessLogFormat {
+
+    private static final String COMMON = "%t %m %U %s %b %D";
+
+    private static final String JSON = "json";
+
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneId.systemDefault());
+
+    private final boolean json;
+
+    private final Token[] tokens;
+
+    private final StringBuilder timeBuffer = new StringBuilder(32);
+
+    private long cachedSecond = Long.MIN_VALUE;
+
+    private String cachedTime;
+
+    private AccessLogFormat(String format) {
+        this.json = format.equals(JSON);
+        this.tokens = json ? new Token[0] : parse(format.equals("common") ? COMMON : format);
+    }
+
+    /**
+     * 형식 문자열을 해석하여 인스턴스를 생성합니다.
+     *
+     * @param format 형식 문자열, json, common 혹은 패턴
+     * @return AccessLogFormat 인스턴스
+     * */
+    static AccessLogFormat of(String format) {
+        return new AccessLogFormat(format == null || format.isEmpty() ? COMMON : format);
+    }
+
+    /**
+     * 항목을 형식에 맞춰 한 줄로 씁니다. 줄바꿈 문자는 쓰지 않습니다. 쓰레드 안전하지 않습니다.
+     *
+     * @param entry 접근 로그 항목
+     * @param builder 출력할 StringBuilder
+     * */
+    void format(AccessLogEntry entry, StringBuilder builder) {
+        if (json) {
+            formatJson(entry, builder);
+            return;
+        }
+        for (Token token : tokens) {
+            token.append(this, entry, builder);
+        }
+    }
+
+    private void formatJson(AccessLogEntry entry, StringBuilder builder) {
+        builder.append("{\"time\":\"").append(formatTime(entry.timestamp))
+                .append("\",\"method\":\"").append(entry.method.name())
+                .append("\",\"url\":\"");
+        appendEscaped(builder, entry.url);
+        builder.append("\",\"route\":\"");
+        appendEscaped(builder, entry.route);
+        builder.append("\",\"status\":").append(entry.status)
+                .append(",\"bytes\":").append(entry.bytes)
+                .append(",\"latencyMicros\":").append(TimeUnit.NANOSECONDS.toMicros(entry.latencyNanos))
+                .append('}');
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        if (value == null) return;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') builder.append('\\').append(c);
+            else if (c < 0x20) builder.append(String.format("\\u%04x", (int) c));
+            else builder.append(c);
+        }
+    }
+
+    /**
+     * 요청 시각을 문자열로 바꿉니다. 같은 초 안의 항목이 많으므로 초 단위까지의 문자열은 재사용합니다.
+     *
+     * @param timestamp 밀리초 단위의 요청 시각
+     * @return 요청 시각 문자열
+     * */
+    private String formatTime(long timestamp) {
+        long second = timestamp / 1000;
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTime = TIME_FORMATTER.format(Instant.ofEpochMilli(second * 1000));
+        }
+        timeBuffer.setLength(0);
+        int millisIndex = cachedTime.indexOf('.') + 1;
+        long millis = timestamp % 1000;
+        timeBuffer.append(cachedTime, 0, millisIndex);
+        if (millis < 100) timeBuffer.append('0');
+        if (millis < 10) timeBuffer.append('0');
+        timeBuffer.append(millis).append(cachedTime, millisIndex + 3, cachedTime.length());
+        return timeBuffer.toString();
+    }
+
+    private static Token[] parse(String format) {
+        List<Token> tokens = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if (c != '%' || i == format.length() - 1) {
+                literal.append(c);
+                continue;
+            }
+            Token token = createToken(format.charAt(++i));
+            if (token == null) {
+                literal.append(format.charAt(i) == '%' ? "%" : "%" + format.charAt(i));
+                continue;
+            }
+            if (literal.length() > 0) {
+                String text = literal.toString();
+                tokens.add((self, entry, builder) -> builder.append(text));
+                literal.setLength(0);
+            }
+            tokens.add(token);
+        }
+        if (literal.length() > 0) {
+            String text = literal.toString();
+            tokens.add((self, entry, builder) -> builder.append(text));
+        }
+        return tokens.toArray(new Token[0]);
+    }
+
+    private static Token createToken(char c) {
+        switch (c) {
+            case 't': return (format, entry, builder) -> builder.append(format.formatTime(entry.timestamp));
+            case 'm': return (format, entry, builder) -> builder.append(entry.method.name());
+            case 'U': return (format, entry, builder) -> builder.append(entry.url);
+            case 'R': return (format, entry, builder) -> builder.append(entry.route);
+            case 's': return (format, entry, builder) -> builder.append(entry.status);
+            case 'b': return (format, entry, builder) -> builder.append(entry.bytes);
+            case 'D': return (format, entry, builder) -> builder.append(TimeUnit.NANOSECONDS.toMicros(entry.latencyNanos));
+            case 'T': return (format, entry, builder) -> builder.append(TimeUnit.NANOSECONDS.toMillis(entry.latencyNanos));
+            default: return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Token {
+        void append(AccessLogFormat format, AccessLogEntry entry, StringBuilder builder);
+    }
+
+}
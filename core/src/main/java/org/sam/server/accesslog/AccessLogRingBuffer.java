@@ -0,0 +1,102 @@
+package org.sam.server.accesslog;
+
+import org.sam.server.constant.HttpMethod;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 접근 로그 항목을 담는 고정 크기의 링 버퍼입니다. 여러 요청 쓰레드가 쓰고 하나의 쓰레드가 읽습니다.
+ * 쓰는 쪽은 CAS로 순번을 하나 차지한 뒤 미리 만들어 둔 항목에 값을 채우므로 잠금과 할당이 없습니다.
+ * 읽는 쪽이 따라오지 못해 버퍼가 가득 차면 요청 쓰레드를 기다리게 하지 않고 항목을 버린 뒤 개수만 셉니다.
+ *
+ * @author hypernova1
+ * @see AccessLogEntry
+ */
+final class AccessLogRingBuffer {
+
+    private final AccessLogEntry[] entries;
+
+    private final int mask;
+
+    private final AtomicLong claimed = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile long consumed;
+
+    /**
+     * 링 버퍼를 생성합니다. 크기는 2의 거듭제곱으로 올림합니다.
+     *
+     * @param capacity 최소 크기
+     * */
+    AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.entries = new AccessLogEntry[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new AccessLogEntry();
+        }
+    }
+
+    /**
+     * 항목을 버퍼에 씁니다.
+     *
+     * @return 쓰였는지 여부, 버퍼가 가득 찼다면 false
+     * */
+    boolean publish(long timestamp, HttpMethod method, String url, String route, int status, long bytes, long latencyNanos) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= entries.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        AccessLogEntry entry = entries[(int) sequence & mask];
+        entry.set(timestamp, method, url, route, status, bytes, latencyNanos);
+        entry.sequence = sequence;
+        return true;
+    }
+
+    /**
+     * 다음 순번의 항목을 반환합니다. 아직 발행되지 않았다면 null을 반환합니다.
+     * 반환된 항목은 release를 호출하기 전까지 덮어쓰이지 않습니다.
+     *
+     * @return 항목
+     * */
+    AccessLogEntry poll() {
+        long sequence = consumed;
+        AccessLogEntry entry = entries[(int) sequence & mask];
+        return entry.sequence == sequence ? entry : null;
+    }
+
+    /**
+     * poll로 받은 항목을 다 읽었음을 알려 다시 쓸 수 있게 합니다.
+     *
+     * @param entry 다 읽은 항목
+     * */
+    void release(AccessLogEntry entry) {
+        entry.clear();
+        consumed = consumed + 1;
+    }
+
+    /**
+     * 버퍼가 가득 차서 버린 항목의 수를 반환합니다.
+     *
+     * @return 버린 항목 수
+     * */
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 버퍼의 크기를 반환합니다.
+     *
+     * @return 버퍼 크기
+     * */
+    int capacity() {
+        return entries.length;
+    }
+
+}
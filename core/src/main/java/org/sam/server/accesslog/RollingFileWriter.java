@@ -0,0 +1,100 @@
+package org.sam.server.accesslog;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일이 최대 크기를 넘으면 이름 뒤에 번호를 붙여 보관하고 새 파일에 이어 쓰는 클래스입니다.
+ * access.log가 가득 차면 access.log.1로 옮기고, 기존의 번호는 하나씩 밀려나며 maxFiles를 넘는 파일은 지웁니다.
+ * 한 쓰레드에서만 사용합니다.
+ *
+ * @author hypernova1
+ */
+final class RollingFileWriter {
+
+    private final File file;
+
+    private final long maxFileSize;
+
+    private final int maxFiles;
+
+    private OutputStream outputStream;
+
+    private long size;
+
+    RollingFileWriter(File file, long maxFileSize, int maxFiles) {
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = Math.max(1, maxFiles);
+    }
+
+    /**
+     * 한 줄을 쓰고 줄바꿈 문자를 붙입니다. 최대 크기를 넘는다면 먼저 파일을 교체합니다.
+     *
+     * @param line 쓸 문자열
+     * @throws IOException 파일에 쓰다가 오류 발생시
+     * */
+    void writeLine(CharSequence line) throws IOException {
+        byte[] bytes = (line.toString() + '\n').getBytes(StandardCharsets.UTF_8);
+        if (outputStream == null) open();
+        if (size > 0 && size + bytes.length > maxFileSize) roll();
+        outputStream.write(bytes);
+        size += bytes.length;
+    }
+
+    /**
+     * 버퍼에 남은 내용을 파일에 씁니다.
+     *
+     * @throws IOException 파일에 쓰다가 오류 발생시
+     * */
+    void flush() throws IOException {
+        if (outputStream != null) outputStream.flush();
+    }
+
+    /**
+     * 파일을 닫습니다.
+     *
+     * @throws IOException 파일을 닫다가 오류 발생시
+     * */
+    void close() throws IOException {
+        if (outputStream == null) return;
+        outputStream.close();
+        outputStream = null;
+    }
+
+    private void open() throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("failed to create directory: " + parent);
+        }
+        outputStream = new BufferedOutputStream(new FileOutputStream(file, true), 64 * 1024);
+        size = file.length();
+    }
+
+    private void roll() throws IOException {
+        close();
+        File oldest = archive(maxFiles);
+        if (oldest.exists() && !oldest.delete()) {
+            throw new IOException("failed to delete " + oldest);
+        }
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            File archived = archive(i);
+            if (archived.exists() && !archived.renameTo(archive(i + 1))) {
+                throw new IOException("failed to rename " + archived);
+            }
+        }
+        if (!file.renameTo(archive(1))) {
+            throw new IOException("failed to rename " + file);
+        }
+        open();
+    }
+
+    private File archive(int index) {
+        return new File(file.getPath() + "." + index);
+    }
+
+}
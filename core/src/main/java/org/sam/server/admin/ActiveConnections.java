@@ -0,0 +1,48 @@
+package org.sam.server.admin;
+
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 처리 중인 연결과 연결된 시각을 저장하는 클래스입니다. 관리 리스너가 활성화 되어 있을 때만 저장합니다.
+ *
+ * @author hypernova1
+ * @see AdminServer
+ */
+public final class ActiveConnections {
+
+    private static final Map<Socket, Long> connections = new ConcurrentHashMap<>();
+
+    private ActiveConnections() {}
+
+    /**
+     * 연결을 저장합니다.
+     *
+     * @param socket 소켓
+     * */
+    public static void opened(Socket socket) {
+        if (!AdminServer.isEnabled()) return;
+        connections.put(socket, System.currentTimeMillis());
+    }
+
+    /**
+     * 연결을 삭제합니다.
+     *
+     * @param socket 소켓
+     * */
+    public static void closed(Socket socket) {
+        if (!AdminServer.isEnabled()) return;
+        connections.remove(socket);
+    }
+
+    /**
+     * 처리 중인 연결과 연결된 시각(epoch 밀리초)을 반환합니다.
+     *
+     * @return 소켓과 연결된 시각
+     * */
+    static Map<Socket, Long> getConnections() {
+        return connections;
+    }
+
+}
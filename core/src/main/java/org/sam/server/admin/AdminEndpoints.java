@@ -0,0 +1,244 @@
+package org.sam.server.admin;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.context.BeanContainer;
+import org.sam.server.context.BeanInfo;
+import org.sam.server.context.HandlerPaths;
+import org.sam.server.http.SessionManager;
+import org.sam.server.metrics.ServerMetrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.*;
+import java.lang.reflect.Method;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 관리 리스너의 요청 경로별 응답을 만드는 클래스입니다. 일반 요청의 라우팅과 필터, 인터셉터를 거치지 않습니다.
+ *
+ * <pre>
+ * GET /              경로 목록
+ * GET /threadpool    요청 처리 쓰레드 풀 상태
+ * GET /connections   처리 중인 연결 목록과 연결된 시간
+ * GET /sessions      세션 수
+ * GET /routes        핸들러별 경로 목록
+ * GET /beans         빈 목록
+ * GET /threads       쓰레드 덤프
+ * GET /heap          살아있는 객체의 클래스별 히스토그램, Full GC가 발생합니다. ?all=true 라면 GC 없이 모든 객체를 셉니다.
+ * GET /metrics       Prometheus 형식의 메트릭, metrics.enabled가 false라면 요청 관련 메트릭은 비어 있습니다.
+ * </pre>
+ *
+ * @author hypernova1
+ * @see AdminServer
+ */
+final class AdminEndpoints {
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private static final String APPLICATION_JSON = "application/json; charset=utf-8";
+
+    private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+
+    private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+
+    private final ThreadPoolExecutor executor;
+
+    private AdminEndpoints(ThreadPoolExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param executor 요청을 처리하는 쓰레드 풀
+     * @return AdminEndpoints 인스턴스
+     * */
+    static AdminEndpoints of(ThreadPoolExecutor executor) {
+        return new AdminEndpoints(executor);
+    }
+
+    /**
+     * 요청 경로에 해당하는 응답을 만듭니다.
+     *
+     * @param method HTTP Method
+     * @param target 쿼리 스트링을 포함한 요청 경로
+     * @return 응답
+     * */
+    AdminResponse handle(String method, String target) {
+        if (!method.equals("GET") && !method.equals("HEAD")) {
+            return AdminResponse.of(HttpStatus.METHOD_NOT_ALLOWED, TEXT_PLAIN, HttpStatus.METHOD_NOT_ALLOWED.getMessage());
+        }
+        int queryIndex = target.indexOf('?');
+        String path = queryIndex == -1 ? target : target.substring(0, queryIndex);
+        String query = queryIndex == -1 ? "" : target.substring(queryIndex + 1);
+        switch (path) {
+            case "/":
+                return json(Arrays.asList("/threadpool", "/connections", "/sessions", "/routes", "/beans", "/threads", "/heap", "/metrics"));
+            case "/threadpool":
+                return json(threadPool());
+            case "/connections":
+                return json(connections());
+            case "/sessions":
+                return json(Collections.singletonMap("count", SessionManager.getSessionCount()));
+            case "/routes":
+                return json(routes());
+            case "/beans":
+                return json(beans());
+            case "/threads":
+                return AdminResponse.of(HttpStatus.OK, TEXT_PLAIN, threadDump());
+            case "/heap":
+                return heapHistogram(query.contains("all=true"));
+            case "/metrics":
+                return AdminResponse.of(HttpStatus.OK, TEXT_PLAIN, ServerMetrics.scrape());
+            default:
+                return AdminResponse.of(HttpStatus.NOT_FOUND, TEXT_PLAIN, HttpStatus.NOT_FOUND.getMessage());
+        }
+    }
+
+    private Map<String, Object> threadPool() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (executor == null) return stats;
+        stats.put("poolSize", executor.getPoolSize());
+        stats.put("corePoolSize", executor.getCorePoolSize());
+        stats.put("maximumPoolSize", executor.getMaximumPoolSize());
+        stats.put("largestPoolSize", executor.getLargestPoolSize());
+        stats.put("activeThreads", executor.getActiveCount());
+        stats.put("queueSize", executor.getQueue().size());
+        stats.put("taskCount", executor.getTaskCount());
+        stats.put("completedTaskCount", executor.getCompletedTaskCount());
+        return stats;
+    }
+
+    /**
+     * 처리 중인 연결을 오래된 순서로 반환합니다.
+     *
+     * @return 연결 수와 연결 목록
+     * */
+    private static Map<String, Object> connections() {
+        long now = System.currentTimeMillis();
+        List<Map.Entry<Socket, Long>> entries = new ArrayList<>(ActiveConnections.getConnections().entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+        List<Map<String, Object>> connections = new ArrayList<>(entries.size());
+        for (Map.Entry<Socket, Long> entry : entries) {
+            Map<String, Object> connection = new LinkedHashMap<>();
+            connection.put("remoteAddress", String.valueOf(entry.getKey().getRemoteSocketAddress()));
+            connection.put("localPort", entry.getKey().getLocalPort());
+            connection.put("ageMillis", now - entry.getValue());
+            connections.add(connection);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", ServerMetrics.getActiveConnections());
+        result.put("connections", connections);
+        return result;
+    }
+
+    private static Map<String, List<String>> routes() {
+        Map<String, List<String>> routes = new TreeMap<>();
+        for (Object handler : BeanContainer.getHandlerBeans()) {
+            Class<?> handlerClass = handler.getClass();
+            List<String> mappings = new ArrayList<>();
+            for (Method handlerMethod : handlerClass.getDeclaredMethods()) {
+                for (String mapping : HandlerPaths.mappingsOf(handlerClass, handlerMethod)) {
+                    mappings.add(mapping + " -> " + handlerMethod.getName());
+                }
+            }
+            Collections.sort(mappings);
+            routes.put(handlerClass.getName(), mappings);
+        }
+        return routes;
+    }
+
+    private static List<Map<String, Object>> beans() {
+        List<Map<String, Object>> beans = new ArrayList<>();
+        for (Map.Entry<Class<?>, List<BeanInfo>> entry : BeanContainer.getBeanInfoMap().entrySet()) {
+            for (BeanInfo beanInfo : entry.getValue()) {
+                Map<String, Object> bean = new LinkedHashMap<>();
+                bean.put("name", beanInfo.getName());
+                bean.put("type", entry.getKey().getName());
+                bean.put("initialized", beanInfo.isInitialized());
+                beans.add(bean);
+            }
+        }
+        beans.sort(Comparator.comparing(bean -> String.valueOf(bean.get("type"))));
+        return beans;
+    }
+
+    /**
+     * 모든 쓰레드의 스택과 잠금 정보를 jstack과 비슷한 형식으로 반환합니다. 교착 상태인 쓰레드가 있다면 먼저 표시합니다.
+     *
+     * @return 쓰레드 덤프
+     * */
+    static String threadDump() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        StringBuilder dump = new StringBuilder();
+        long[] deadlocked = threadMXBean.findDeadlockedThreads();
+        if (deadlocked != null) {
+            dump.append("Deadlocked threads: ").append(Arrays.toString(deadlocked)).append("\n\n");
+        }
+        ThreadInfo[] threadInfos = threadMXBean.dumpAllThreads(
+                threadMXBean.isObjectMonitorUsageSupported(), threadMXBean.isSynchronizerUsageSupported());
+        for (ThreadInfo threadInfo : threadInfos) {
+            appendThread(dump, threadInfo);
+        }
+        return dump.toString();
+    }
+
+    private static void appendThread(StringBuilder dump, ThreadInfo threadInfo) {
+        dump.append('"').append(threadInfo.getThreadName()).append("\" id=").append(threadInfo.getThreadId())
+                .append(' ').append(threadInfo.getThreadState());
+        if (threadInfo.getLockName() != null) dump.append(" on ").append(threadInfo.getLockName());
+        if (threadInfo.getLockOwnerName() != null) {
+            dump.append(" owned by \"").append(threadInfo.getLockOwnerName()).append("\" id=").append(threadInfo.getLockOwnerId());
+        }
+        if (threadInfo.isInNative()) dump.append(" (in native)");
+        dump.append('\n');
+        StackTraceElement[] stackTrace = threadInfo.getStackTrace();
+        MonitorInfo[] lockedMonitors = threadInfo.getLockedMonitors();
+        for (int i = 0; i < stackTrace.length; i++) {
+            dump.append("\tat ").append(stackTrace[i]).append('\n');
+            if (i == 0 && threadInfo.getLockInfo() != null) {
+                dump.append("\t-  waiting on ").append(threadInfo.getLockInfo()).append('\n');
+            }
+            for (MonitorInfo lockedMonitor : lockedMonitors) {
+                if (lockedMonitor.getLockedStackDepth() == i) {
+                    dump.append("\t-  locked ").append(lockedMonitor).append('\n');
+                }
+            }
+        }
+        LockInfo[] lockedSynchronizers = threadInfo.getLockedSynchronizers();
+        if (lockedSynchronizers.length > 0) {
+            dump.append("\n\tLocked synchronizers:\n");
+            for (LockInfo lockedSynchronizer : lockedSynchronizers) {
+                dump.append("\t- ").append(lockedSynchronizer).append('\n');
+            }
+        }
+        dump.append('\n');
+    }
+
+    /**
+     * HotSpot의 GC.class_histogram 진단 명령으로 클래스별 객체 수와 크기를 반환합니다.
+     *
+     * @param all true라면 GC 없이 도달할 수 없는 객체까지 셉니다.
+     * @return 응답
+     * */
+    private static AdminResponse heapHistogram(boolean all) {
+        try {
+            String[] arguments = all ? new String[]{"-all"} : new String[0];
+            Object histogram = ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName(DIAGNOSTIC_COMMAND), "gcClassHistogram",
+                    new Object[]{arguments}, new String[]{String[].class.getName()});
+            return AdminResponse.of(HttpStatus.OK, TEXT_PLAIN, String.valueOf(histogram));
+        } catch (JMException | RuntimeException e) {
+            return AdminResponse.of(HttpStatus.SERVICE_UNAVAILABLE, TEXT_PLAIN, "heap histogram is not available: " + e);
+        }
+    }
+
+    private static AdminResponse json(Object value) {
+        return AdminResponse.of(HttpStatus.OK, APPLICATION_JSON, gson.toJson(value));
+    }
+
+}
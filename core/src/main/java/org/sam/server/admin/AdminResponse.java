@@ -0,0 +1,51 @@
+package org.sam.server.admin;
+
+import org.sam.server.constant.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리 리스너의 응답입니다.
+ *
+ * @author hypernova1
+ * @see AdminEndpoints
+ */
+final class AdminResponse {
+
+    private final HttpStatus status;
+
+    private final String contentType;
+
+    private final byte[] body;
+
+    private AdminResponse(HttpStatus status, String contentType, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param status 응답 상태
+     * @param contentType 미디어 타입
+     * @param body 응답 바디
+     * @return AdminResponse 인스턴스
+     * */
+    static AdminResponse of(HttpStatus status, String contentType, String body) {
+        return new AdminResponse(status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    HttpStatus getStatus() {
+        return status;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+}
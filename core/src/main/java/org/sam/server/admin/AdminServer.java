@@ -0,0 +1,178 @@
+package org.sam.server.admin;
+
+import org.sam.server.common.ServerProperties;
+import org.sam.server.constant.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중인 서버의 상태를 확인하는 관리 리스너입니다. admin.enabled가 true일 때만 일반 요청과 다른 포트에서 시작합니다.
+ * 요청 처리 쓰레드 풀이 가득 차도 응답할 수 있도록 admin-listener 쓰레드 하나에서 요청을 하나씩 처리하며, 응답 후 연결을 닫습니다.
+ * 한 연결이 리스너를 오래 붙잡지 못하도록 요청 줄과 헤더의 크기를 제한하고, 요청 전체를 읽는 시간에 기한을 둡니다.
+ * 쓰레드 덤프와 힙 히스토그램을 노출하므로 기본적으로 루프백 주소에만 바인딩합니다.
+ *
+ * <pre>
+ * admin.enabled  관리 리스너 사용 여부 (기본 값 false)
+ * admin.port     포트 (기본 값 9091)
+ * admin.address  바인딩할 주소 (기본 값 127.0.0.1)
+ * </pre>
+ *
+ * @author hypernova1
+ * @see AdminEndpoints
+ */
+public final class AdminServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminServer.class);
+
+    private static final boolean ENABLED = ServerProperties.getBoolean("admin.enabled", false);
+
+    private static final int READ_TIMEOUT = 5000;
+
+    private static final int MAX_REQUEST_LINE_LENGTH = 8192;
+
+    private static final int MAX_HEADER_SIZE = 16384;
+
+    private AdminServer() {}
+
+    /**
+     * 관리 리스너 사용 여부를 반환합니다.
+     *
+     * @return 관리 리스너 사용 여부
+     * */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 관리 리스너를 시작합니다. 포트를 열지 못 했다면 서버는 그대로 두고 오류를 남깁니다.
+     *
+     * @param executor 요청을 처리하는 쓰레드 풀
+     * */
+    public static void start(ThreadPoolExecutor executor) {
+        if (!ENABLED) return;
+        String address = ServerProperties.get("admin.address");
+        if (address == null || address.trim().isEmpty()) address = "127.0.0.1";
+        int port = ServerProperties.getInt("admin.port", 9091);
+        ServerSocket serverSocket;
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(new InetSocketAddress(address.trim(), port));
+        } catch (IOException e) {
+            logger.error("failed to start admin listener on {}:{}", address, port, e);
+            return;
+        }
+        AdminEndpoints endpoints = AdminEndpoints.of(executor);
+        Thread listener = new Thread(() -> listen(serverSocket, endpoints), "admin-listener");
+        listener.setDaemon(true);
+        listener.start();
+        logger.info("admin listener started: {}:{}", address, serverSocket.getLocalPort());
+    }
+
+    private static void listen(ServerSocket serverSocket, AdminEndpoints endpoints) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Socket socket = serverSocket.accept()) {
+                handle(socket, endpoints, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(READ_TIMEOUT));
+            } catch (IOException e) {
+                logger.debug("admin request failed", e);
+            } catch (RuntimeException e) {
+                logger.warn("admin request failed", e);
+            }
+        }
+    }
+
+    /**
+     * 요청 줄을 읽고 나머지 헤더는 버린 후 응답합니다.
+     * 요청 줄이나 헤더가 제한을 넘으면 414, 431로 응답하며, 기한까지 요청을 다 읽지 못 하면 응답하지 않습니다.
+     *
+     * @param socket 소켓
+     * @param endpoints 응답을 만드는 인스턴스
+     * @param deadline 요청을 다 읽어야 하는 기한의 System.nanoTime() 값
+     * @throws IOException 요청을 읽거나 응답을 쓰지 못 했거나 기한이 지났을 시
+     * */
+    static void handle(Socket socket, AdminEndpoints endpoints, long deadline) throws IOException {
+        InputStream in = new BufferedInputStream(socket.getInputStream());
+        String requestLine;
+        try {
+            requestLine = readLine(socket, in, MAX_REQUEST_LINE_LENGTH, deadline);
+        } catch (LineTooLongException e) {
+            write(socket.getOutputStream(), error(HttpStatus.URI_TOO_LONG), false);
+            return;
+        }
+        if (requestLine == null) return;
+        try {
+            int headerSize = 0;
+            String line;
+            while ((line = readLine(socket, in, MAX_HEADER_SIZE - headerSize, deadline)) != null && !line.isEmpty()) {
+                headerSize += line.length() + 2;
+            }
+        } catch (LineTooLongException e) {
+            write(socket.getOutputStream(), error(HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE), false);
+            return;
+        }
+        String[] tokens = requestLine.split(" ");
+        if (tokens.length < 2) return;
+        AdminResponse response = endpoints.handle(tokens[0], tokens[1]);
+        write(socket.getOutputStream(), response, tokens[0].equals("HEAD"));
+    }
+
+    /**
+     * 줄바꿈 문자까지 한 줄을 읽습니다. 읽을 때 마다 소켓의 읽기 시간 제한을 기한까지 남은 시간으로 바꿉니다.
+     *
+     * @param socket 소켓
+     * @param in 소켓의 InputStream
+     * @param limit 줄의 최대 길이
+     * @param deadline 기한의 System.nanoTime() 값
+     * @return 줄바꿈 문자를 뺀 줄, 스트림이 끝났다면 null
+     * @throws LineTooLongException 줄이 최대 길이를 넘었을 시
+     * @throws SocketTimeoutException 기한이 지났을 시
+     * */
+    private static String readLine(Socket socket, InputStream in, int limit, long deadline) throws IOException {
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) throw new SocketTimeoutException("admin request deadline exceeded");
+            socket.setSoTimeout((int) remaining);
+            int b = in.read();
+            if (b == -1) return line.length() == 0 ? null : line.toString();
+            if (b == '\n') break;
+            if (line.length() >= limit) throw new LineTooLongException();
+            line.append((char) b);
+        }
+        int last = line.length() - 1;
+        if (last >= 0 && line.charAt(last) == '\r') line.setLength(last);
+        return line.toString();
+    }
+
+    private static AdminResponse error(HttpStatus status) {
+        return AdminResponse.of(status, "text/plain; charset=utf-8", status.getMessage());
+    }
+
+    private static void write(OutputStream out, AdminResponse response, boolean headOnly) throws IOException {
+        String head = "HTTP/1.1 " + response.getStatus().getCode() + " " + response.getStatus().getMessage() + "\r\n"
+                + "Content-Type: " + response.getContentType() + "\r\n"
+                + "Content-Length: " + response.getBody().length + "\r\n"
+                + "Cache-Control: no-store\r\n"
+                + "Connection: close\r\n"
+                + "\r\n";
+        out.write(head.getBytes(StandardCharsets.ISO_8859_1));
+        if (!headOnly) out.write(response.getBody());
+        out.flush();
+    }
+
+    private static final class LineTooLongException extends IOException {
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.sam.server.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Interceptor 구현 클래스에 선언하여 인터셉터를 적용할 핸들러 경로와 실행 순서를 지정합니다.
+ * 선언하지 않은 인터셉터는 모든 핸들러에 적용됩니다. 경로는 서버가 시작될 때 핸들러 메서드의 경로와 비교합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.http.Interceptor
+ * @see org.sam.server.util.PathPattern
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface InterceptorMapping {
+
+    /**
+     * 인터셉터를 적용할 경로 패턴 목록
+     *
+     * @return 경로 패턴 목록
+     * */
+    String[] include() default "/**";
+
+    /**
+     * 인터셉터를 적용하지 않을 경로 패턴 목록
+     *
+     * @return 경로 패턴 목록
+     * */
+    String[] exclude() default {};
+
+    /**
+     * 실행 순서, 작을수록 먼저 preHandler를 실행하며 postHandler는 역순으로 실행합니다.
+     *
+     * @return 실행 순서
+     * */
+    int order() default 0;
+}
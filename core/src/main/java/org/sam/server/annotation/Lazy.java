@@ -0,0 +1,19 @@
+package org.sam.server.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴포넌트나 빈 메서드에 선언하여 서버 시작시가 아닌 처음 주입되거나 조회될 때 빈을 생성하도록 합니다.
+ * 컴포넌트에 선언하면 내부의 빈 메서드도 모두 지연 생성됩니다.
+ * 지연 빈을 주입 받는 생성자 파라미터가 public 인터페이스나 Supplier라면 빈을 처음 사용할 때 생성하며,
+ * 그 외의 타입이라면 주입할 때 생성합니다.
+ *
+ * @author hypernova1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface Lazy {
+}
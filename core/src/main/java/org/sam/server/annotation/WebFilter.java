@@ -0,0 +1,34 @@
+package org.sam.server.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Filter 구현 클래스에 선언하면 빈으로 생성되어 요청 URL이 URL 패턴과 일치하는 요청마다 핸들러를 찾기 전에 실행됩니다.
+ * /* 혹은 /**를 포함한 필터는 모든 요청에 실행됩니다.
+ * 여러 필터가 일치하면 order가 작은 필터부터 실행합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.http.Filter
+ * @see org.sam.server.util.PathPattern
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WebFilter {
+
+    /**
+     * 필터를 적용할 URL 패턴 목록
+     *
+     * @return URL 패턴 목록
+     * */
+    String[] value() default "/*";
+
+    /**
+     * 실행 순서
+     *
+     * @return 실행 순서
+     * */
+    int order() default 0;
+}
@@ -0,0 +1,52 @@
+package org.sam.server.annotation.handle;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * 핸들러 메서드 위에 선언을 하여 GET, HEAD 요청의 응답을 직렬화된 바이트로 저장해 두고 만료될 때까지 핸들러를 실행하지 않고 응답합니다.
+ * 저장 키는 핸들러의 경로와 요청 파라미터, headers에 지정한 헤더의 값으로 만들며, 같은 키의 동시 요청은 한 번만 핸들러를 실행합니다.
+ * 2xx 응답만 저장하며, 핸들러가 설정한 헤더와 쿠키는 저장하지 않습니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.http.cache.ResponseCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheResponse {
+
+    /**
+     * 응답을 저장해 둘 시간
+     * */
+    long ttl() default 60;
+
+    /**
+     * ttl의 단위
+     * */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * 저장 키에 포함할 요청 파라미터 이름 목록. 비어 있다면 모든 요청 파라미터를 포함합니다.
+     * */
+    String[] key() default {};
+
+    /**
+     * 저장 키에 포함할 요청 헤더 이름 목록
+     * */
+    String[] headers() default {};
+
+    /**
+     * gzip으로 압축한 바디를 함께 저장할지 여부. Accept-Encoding에 gzip이 포함된 요청에는 압축된 바디로 응답합니다.
+     * */
+    boolean compress() default false;
+
+    /**
+     * 저장할 응답의 최대 개수
+     * */
+    int maxEntries() default 1024;
+
+}
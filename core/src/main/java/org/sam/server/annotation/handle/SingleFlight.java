@@ -0,0 +1,28 @@
+package org.sam.server.annotation.handle;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ *
+ * 핸들러 메서드 위에 선언을 하여 같은 GET, HEAD 요청이 동시에 들어오면 핸들러를 한 번만 실행하고 직렬화된 응답을 모든 요청에 씁니다.
+ * HTTP Method, 경로, 이름순으로 정렬한 모든 파라미터, headers에 지정한 헤더의 값과 쿠키가 같은 요청을 같은 요청으로 봅니다.
+ * 쿠키를 포함하므로 세션이나 인증 쿠키가 다른 사용자의 응답을 함께 쓰지 않습니다.
+ * 응답은 저장하지 않으므로 실행 중인 핸들러가 끝난 후 들어온 요청은 핸들러를 다시 실행합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.http.cache.RequestCoalescer
+ * @see CacheResponse
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SingleFlight {
+
+    /**
+     * 같은 요청인지 비교할 때 포함할 요청 헤더 이름 목록
+     * */
+    String[] headers() default {};
+
+}
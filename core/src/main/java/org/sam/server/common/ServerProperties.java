@@ -20,6 +20,10 @@ public class ServerProperties {
     private static boolean isSSL;
 
     static {
+        StartupProfiler.time(StartupProfiler.PHASE, "load properties", ServerProperties::loadProperties);
+    }
+
+    private static void loadProperties() {
         InputStream resourceAsStream = Thread.currentThread().getContextClassLoader()
                 .getResourceAsStream("config/application.properties");
         if (resourceAsStream == null) throw new ResourcesNotFoundException("application.properties");
@@ -40,6 +44,32 @@ public class ServerProperties {
         return properties.getProperty(key);
     }
 
+    /**
+     * 서버 설정을 정수로 가져옵니다. 설정이 없다면 기본 값을 반환합니다.
+     *
+     * @param key 설정 이름
+     * @param defaultValue 기본 값
+     * @return 설정 값
+     * */
+    public static int getInt(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) return defaultValue;
+        return Integer.parseInt(value.trim());
+    }
+
+    /**
+     * 서버 설정을 boolean 값으로 가져옵니다. 설정이 없다면 기본 값을 반환합니다.
+     *
+     * @param key 설정 이름
+     * @param defaultValue 기본 값
+     * @return 설정 값
+     * */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) return defaultValue;
+        return Boolean.parseBoolean(value.trim());
+    }
+
     /**
      * SSL 설정을 활성화 합니다.
      * */
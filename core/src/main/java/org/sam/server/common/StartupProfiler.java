@@ -0,0 +1,234 @@
+package org.sam.server.common;
+
+import com.google.gson.GsonBuilder;
+import org.sam.server.exception.StartupBudgetExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 서버 시작 과정의 단계별, 빈별 소요 시간을 기록하는 클래스입니다.
+ * 단계는 중첩될 수 있으며, 같은 쓰레드에서 안쪽 단계가 걸린 시간을 뺀 시간을 따로 기록합니다.
+ * 서버가 요청을 받을 준비가 되면 report로 결과를 로그와 JSON 파일에 남기고 기록을 멈춥니다.
+ *
+ * startup.profile.enabled가 true면 전체 보고서를 로그에 남기고, startup.profile.output에 경로를 지정하면 JSON 파일로 저장합니다.
+ * startup.budget-ms보다 오래 걸리면 서버 시작을 실패시킵니다.
+ *
+ * @author hypernova1
+ */
+public class StartupProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupProfiler.class);
+
+    public static final String PHASE = "phase";
+
+    public static final String BEAN = "bean";
+
+    private static final long startedAt = System.nanoTime();
+
+    private static final Queue<Record> records = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<Deque<Step>> steps = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static volatile boolean finished;
+
+    private StartupProfiler() {}
+
+    /**
+     * 소요 시간 측정을 시작합니다. 반환된 Step을 닫으면 기록합니다.
+     *
+     * @param category 분류. phase 혹은 bean
+     * @param name 이름
+     * @return 측정 중인 단계
+     * */
+    public static Step start(String category, String name) {
+        Step step = new Step(category, name);
+        if (!finished) steps.get().push(step);
+        return step;
+    }
+
+    /**
+     * 작업을 실행하고 소요 시간을 기록합니다.
+     *
+     * @param category 분류. phase 혹은 bean
+     * @param name 이름
+     * @param task 작업
+     * */
+    public static void time(String category, String name, Runnable task) {
+        Step step = start(category, name);
+        try {
+            task.run();
+        } finally {
+            step.close();
+        }
+    }
+
+    /**
+     * 작업을 실행하고 소요 시간을 기록한 후 결과를 반환합니다.
+     *
+     * @param <T> 결과 타입
+     * @param category 분류. phase 혹은 bean
+     * @param name 이름
+     * @param task 작업
+     * @return 작업 결과
+     * */
+    public static <T> T time(String category, String name, Supplier<T> task) {
+        Step step = start(category, name);
+        try {
+            return task.get();
+        } finally {
+            step.close();
+        }
+    }
+
+    /**
+     * 기록한 결과를 로그와 JSON 파일에 남기고 기록을 멈춥니다. 두 번째 호출부터는 아무것도 하지 않습니다.
+     *
+     * @throws StartupBudgetExceededException 시작 시간이 startup.budget-ms 보다 오래 걸렸을 시
+     * */
+    public static synchronized void report() {
+        if (finished) return;
+        finished = true;
+        long totalNanos = System.nanoTime() - startedAt;
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        List<Record> sorted = new ArrayList<>(records);
+        records.clear();
+        sorted.sort(Comparator.comparingLong((Record record) -> record.selfNanos).reversed());
+
+        logger.info("startup finished in {} ms (jvm uptime {} ms)", toMillis(totalNanos), uptimeMillis);
+        if (ServerProperties.getBoolean("startup.profile.enabled", false)) {
+            logReport(sorted, PHASE);
+            logReport(sorted, BEAN);
+        }
+        String output = ServerProperties.get("startup.profile.output");
+        if (output != null && !output.trim().isEmpty()) {
+            writeJson(Paths.get(output.trim()), sorted, totalNanos, uptimeMillis);
+        }
+        int budget = ServerProperties.getInt("startup.budget-ms", 0);
+        if (budget > 0 && toMillis(totalNanos) > budget) {
+            throw new StartupBudgetExceededException(toMillis(totalNanos), budget);
+        }
+    }
+
+    private static void logReport(List<Record> sorted, String category) {
+        logger.info("startup {} timings (total / self ms):", category);
+        for (Record record : sorted) {
+            if (!record.category.equals(category)) continue;
+            logger.info(String.format("  %10.3f / %10.3f  %s", toMillisDecimal(record.totalNanos), toMillisDecimal(record.selfNanos), record.name));
+        }
+    }
+
+    /**
+     * 기록을 JSON 파일로 저장합니다.
+     *
+     * @param path 파일 경로
+     * @param sorted 자신의 소요 시간 순으로 정렬된 기록
+     * @param totalNanos 시작에 걸린 시간
+     * @param uptimeMillis JVM이 시작된 후 지난 시간
+     * */
+    private static void writeJson(Path path, List<Record> sorted, long totalNanos, long uptimeMillis) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("totalMillis", toMillisDecimal(totalNanos));
+        report.put("jvmUptimeMillis", uptimeMillis);
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Record record : sorted) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("category", record.category);
+            entry.put("name", record.name);
+            entry.put("thread", record.thread);
+            entry.put("startMillis", toMillisDecimal(record.startNanos - startedAt));
+            entry.put("totalMillis", toMillisDecimal(record.totalNanos));
+            entry.put("selfMillis", toMillisDecimal(record.selfNanos));
+            entries.add(entry);
+        }
+        report.put("timings", entries);
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            try (Writer writer = new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8)) {
+                new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+            }
+            logger.info("startup profile written: {}", path);
+        } catch (IOException e) {
+            logger.warn("failed to write startup profile: {}", path, e);
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static double toMillisDecimal(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * 측정 중인 단계입니다. 닫으면 소요 시간을 기록합니다.
+     */
+    public static final class Step implements AutoCloseable {
+
+        private final String category;
+
+        private final String name;
+
+        private final long startNanos = System.nanoTime();
+
+        private long childNanos;
+
+        private boolean closed;
+
+        private Step(String category, String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            long totalNanos = System.nanoTime() - startNanos;
+            Deque<Step> stack = steps.get();
+            if (!stack.remove(this)) return;
+            Step parent = stack.peek();
+            if (parent != null) parent.childNanos += totalNanos;
+            if (finished) return;
+            records.add(new Record(category, name, Thread.currentThread().getName(), startNanos, totalNanos, totalNanos - childNanos));
+        }
+    }
+
+    private static final class Record {
+
+        private final String category;
+
+        private final String name;
+
+        private final String thread;
+
+        private final long startNanos;
+
+        private final long totalNanos;
+
+        private final long selfNanos;
+
+        private Record(String category, String name, String thread, long startNanos, long totalNanos, long selfNanos) {
+            this.category = category;
+            this.name = name;
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.totalNanos = totalNanos;
+            this.selfNanos = selfNanos;
+        }
+    }
+
+}
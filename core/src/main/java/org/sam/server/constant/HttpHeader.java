@@ -9,4 +9,8 @@ public class HttpHeader {
     public static String ACCEPT = "accept";
     public static String CONTENT_TYPE = "content-type";
     public static String USER_AGENT = "user-agent";
+    public static String ACCEPT_ENCODING = "accept-encoding";
+    public static String CONTENT_ENCODING = "content-encoding";
+    public static String VARY = "vary";
+    public static String COOKIE = "cookie";
 }
@@ -14,7 +14,13 @@ public enum HttpStatus {
     FORBIDDEN("403", "Forbidden"),
     NOT_FOUND("404", "Not Found"),
     METHOD_NOT_ALLOWED("405", "Method Not Allowed"),
-    NOT_IMPLEMENTED("501", "Not Implemented");
+    PAYLOAD_TOO_LARGE("413", "Payload Too Large"),
+    URI_TOO_LONG("414", "URI Too Long"),
+    REQUEST_HEADER_FIELDS_TOO_LARGE("431", "Request Header Fields Too Large"),
+    INTERNAL_SERVER_ERROR("500", "Internal Server Error"),
+    NOT_IMPLEMENTED("501", "Not Implemented"),
+    SERVICE_UNAVAILABLE("503", "Service Unavailable"),
+    GATEWAY_TIMEOUT("504", "Gateway Timeout");
 
     private final String code;
     private final String message;
@@ -0,0 +1,233 @@
+package org.sam.server.context;
+
+import org.sam.server.annotation.ComponentScan;
+import org.sam.server.annotation.WebFilter;
+import org.sam.server.annotation.component.Handler;
+import org.sam.server.common.ServerProperties;
+import org.sam.server.common.StartupProfiler;
+import org.sam.server.exception.AmbiguousComponentScanException;
+import org.sam.server.exception.ComponentScanNotFoundException;
+import org.sam.server.http.Interceptor;
+import org.sam.server.processor.ComponentIndexProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 루트 패키지로 부터 클래스 파일을 읽어 클래스 정보를 저장하는 클래스입니다.
+ * 컴파일 시점에 생성된 컴포넌트 인덱스가 있다면 클래스 경로를 탐색하지 않고 인덱스에 기록된 클래스만 읽어 들입니다.
+ *
+ * @author hypernova1
+ */
+public class BeanClassLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeanClassLoader.class);
+
+    private static String rootPackageName;
+
+    private static final List<Class<?>> handlerClasses = new ArrayList<>();
+
+    private static final List<Class<?>> componentClasses = new ArrayList<>();
+
+    private static final List<Class<?>> interceptorClasses = new ArrayList<>();
+
+    private static final List<Class<?>> filterClasses = new ArrayList<>();
+
+    static {
+        StartupProfiler.time(StartupProfiler.PHASE, "load component classes", () -> {
+            if (!loadIndex()) {
+                findRootPackageName();
+                loadClasses();
+            }
+        });
+    }
+
+    /**
+     * 컴포넌트 인덱스를 읽어 핸들러, 컴포넌트, 인터셉터, 필터 클래스를 저장합니다. 클래스는 초기화하지 않고 로드만 합니다.
+     * component-index.enabled가 false이거나 루트 패키지가 기록된 인덱스가 없다면 false를 반환합니다.
+     *
+     * @return 인덱스를 읽었는지 여부
+     * @see ComponentIndexProcessor
+     * */
+    private static boolean loadIndex() {
+        if (!ServerProperties.getBoolean("component-index.enabled", true)) return false;
+        Map<String, Set<String>> entries = new HashMap<>();
+        try {
+            Enumeration<URL> resources = Thread.currentThread().getContextClassLoader()
+                    .getResources(ComponentIndexProcessor.INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                readIndex(resources.nextElement(), entries);
+            }
+        } catch (IOException e) {
+            logger.warn("failed to read component index", e);
+            return false;
+        }
+        Set<String> scanRoots = entries.getOrDefault(ComponentIndexProcessor.SCAN_ROOT, Collections.emptySet());
+        if (scanRoots.isEmpty()) return false;
+        rootPackageName = selectRootPackageName(scanRoots);
+        handlerClasses.addAll(loadIndexedClasses(entries.get(ComponentIndexProcessor.HANDLER)));
+        componentClasses.addAll(loadIndexedClasses(entries.get(ComponentIndexProcessor.COMPONENT)));
+        interceptorClasses.addAll(loadIndexedClasses(entries.get(ComponentIndexProcessor.INTERCEPTOR)));
+        filterClasses.addAll(loadIndexedClasses(entries.get(ComponentIndexProcessor.FILTER)));
+        logger.info("component index loaded: {}", rootPackageName);
+        return true;
+    }
+
+    /**
+     * 인덱스에 기록된 루트 패키지 중 나머지를 모두 포함하는 패키지를 반환합니다.
+     * 클래스 경로에 인덱스가 여러 개 있어도 읽은 순서와 상관 없이 같은 루트 패키지를 고릅니다.
+     *
+     * @param scanRoots 인덱스에 기록된 루트 패키지 목록
+     * @return 루트 패키지
+     * @throws AmbiguousComponentScanException 서로 포함하지 않는 패키지가 있을 시
+     * */
+    static String selectRootPackageName(Set<String> scanRoots) {
+        String root = null;
+        for (String packageName : new TreeSet<>(scanRoots)) {
+            if (root == null || !isSubPackage(packageName, root)) {
+                if (root != null) throw new AmbiguousComponentScanException(scanRoots);
+                root = packageName;
+            }
+        }
+        return root;
+    }
+
+    private static boolean isSubPackage(String packageName, String parentName) {
+        return parentName.isEmpty() || packageName.equals(parentName) || packageName.startsWith(parentName + ".");
+    }
+
+    /**
+     * 인덱스 파일을 읽어 항목별로 클래스 이름을 모읍니다.
+     *
+     * @param resource 인덱스 파일 경로
+     * @param entries 항목별 클래스 이름 목록
+     * @throws IOException 인덱스 파일을 읽다가 오류 발생시
+     * */
+    private static void readIndex(URL resource, Map<String, Set<String>> entries) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int index = line.indexOf('=');
+                if (line.startsWith("#") || index == -1) continue;
+                entries.computeIfAbsent(line.substring(0, index), key -> new LinkedHashSet<>())
+                        .add(line.substring(index + 1));
+            }
+        }
+    }
+
+    /**
+     * 인덱스에 기록된 클래스 중 루트 패키지 아래의 클래스를 로드합니다. 로드할 수 없는 클래스는 건너뜁니다.
+     *
+     * @param classNames 클래스 이름 목록
+     * @return 클래스 목록
+     * */
+    private static List<Class<?>> loadIndexedClasses(Set<String> classNames) {
+        List<Class<?>> classes = new ArrayList<>();
+        if (classNames == null) return classes;
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String className : classNames) {
+            if (!rootPackageName.isEmpty() && !className.startsWith(rootPackageName + ".")) continue;
+            Class<?> clazz = loadClass(className, classLoader);
+            if (clazz == null) continue;
+            classes.add(clazz);
+        }
+        return classes;
+    }
+
+    /**
+     * 루트 패키지부터 클래스 파일을 읽으며 핸들러, 컴포넌트, 인터셉터, 필터 클래스를 저장합니다.
+     * 클래스 파일의 바이트로 조건을 확인하므로 조건에 맞는 클래스만 로드하며, 클래스는 초기화하지 않습니다.
+     *
+     * @see ClassPathScanner
+     * */
+    private static void loadClasses() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ClassPathScanner scanner = ClassPathScanner.of(classLoader);
+        for (ClassMetadata metadata : scanner.scan(rootPackageName)) {
+            if (!metadata.isClass()) continue;
+            boolean isHandler = metadata.hasAnnotation(Handler.class);
+            boolean isComponent = scanner.isComponent(metadata);
+            boolean isInterceptor = metadata.implementsInterface(Interceptor.class);
+            boolean isFilter = metadata.hasAnnotation(WebFilter.class);
+            if (!isHandler && !isComponent && !isInterceptor && !isFilter) continue;
+            Class<?> clazz = loadClass(metadata.getClassName(), classLoader);
+            if (clazz == null) continue;
+            if (isHandler) handlerClasses.add(clazz);
+            if (isComponent) componentClasses.add(clazz);
+            if (isInterceptor) interceptorClasses.add(clazz);
+            if (isFilter) filterClasses.add(clazz);
+        }
+    }
+
+    /**
+     * 클래스를 초기화하지 않고 로드합니다.
+     *
+     * @param className 클래스 이름
+     * @param classLoader 클래스 로더
+     * @return 클래스, 로드할 수 없다면 null
+     * */
+    private static Class<?> loadClass(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.warn("failed to load class: {}", className, e);
+            return null;
+        }
+    }
+
+    /**
+     * 클래스 경로의 디렉토리와 jar 파일에서 ComponentScan이 선언된 클래스를 찾아 루트 패키지를 저장합니다.
+     * */
+    private static void findRootPackageName() {
+        ClassMetadata componentScanClass = ClassPathScanner.of(Thread.currentThread().getContextClassLoader())
+                .findFirst(metadata -> metadata.hasAnnotation(ComponentScan.class));
+        if (componentScanClass == null) throw new ComponentScanNotFoundException();
+        String className = componentScanClass.getClassName();
+        int index = className.lastIndexOf('.');
+        rootPackageName = index == -1 ? "" : className.substring(0, index);
+    }
+
+    /**
+     * 핸들러 클래스 목록을 반환합니다.
+     *
+     * @return 핸들러 클래스 목록
+     * */
+    static List<Class<?>> getHandlerClasses() {
+        return handlerClasses;
+    }
+
+    /**
+     * 컴포넌트 클래스 목록을 반환합니다.
+     *
+     * @return 컴포넌트 클래스 목록
+     * */
+    static List<Class<?>> getComponentClasses() {
+        return componentClasses;
+    }
+
+    /**
+     * 인터셉터 구현 클래스 목록을 반환합니다.
+     *
+     * @return 인터셉터 구현 클래스 목록
+     * */
+    static List<Class<?>> getInterceptorClasses() {
+        return interceptorClasses;
+    }
+
+    /**
+     * WebFilter가 선언된 필터 클래스 목록을 반환합니다.
+     *
+     * @return 필터 클래스 목록
+     * */
+    static List<Class<?>> getFilterClasses() {
+        return filterClasses;
+    }
+
+}
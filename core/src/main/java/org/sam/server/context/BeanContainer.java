@@ -0,0 +1,248 @@
+package org.sam.server.context;
+
+import org.sam.server.annotation.InterceptorMapping;
+import org.sam.server.annotation.WebFilter;
+import org.sam.server.common.ServerProperties;
+import org.sam.server.common.StartupProfiler;
+import org.sam.server.http.Filter;
+import org.sam.server.http.Interceptor;
+import org.sam.server.util.Converter;
+import org.sam.server.util.PathPattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빈을 생성하고 관리하는 클래스입니다.
+ *
+ * @author hypernova1
+ * */
+public class BeanContainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeanContainer.class);
+
+    private static final Map<Class<?>, List<BeanInfo>> beanMap = new ConcurrentHashMap<>();
+
+    private static final BeanCreator beanCreator = new BeanCreator(beanMap, ServerProperties.getBoolean("bean.lazy-init", false));
+
+    private static final List<Object> handlerBeans = new ArrayList<>();
+
+    private static final List<Interceptor> interceptors = new ArrayList<>();
+
+    private static final Interceptor[] NO_INTERCEPTORS = new Interceptor[0];
+
+    private static final Map<Method, Interceptor[]> handlerInterceptors = new HashMap<>();
+
+    private static final List<Filter> filters = new ArrayList<>();
+
+    private static final Object lock = new Object();
+
+    private static volatile boolean initialized;
+
+    private static boolean initializing;
+
+    /**
+     * 컴포넌트, 핸들러, 인터셉터, 필터를 생성합니다. 처음 빈을 조회할 때 한 번만 실행됩니다.
+     * 컴포넌트 생성자는 다른 쓰레드에서 실행되므로 클래스 초기화 중에 생성하면 생성자에서 BeanFactory나 BeanContainer에
+     * 접근할 때 클래스 초기화를 기다리며 멈춥니다. 따라서 클래스 초기화가 끝난 뒤에 생성하며,
+     * 생성 중인 쓰레드나 컴포넌트 생성 쓰레드에서 다시 호출하면 기다리지 않고 지금까지 생성된 빈을 사용합니다.
+     * */
+    public static void initialize() {
+        if (initialized || BeanCreator.isCreatorThread()) return;
+        synchronized (lock) {
+            if (initialized || initializing) return;
+            initializing = true;
+            try {
+                load();
+                initialized = true;
+            } finally {
+                initializing = false;
+            }
+        }
+        BeanFactory.getInstance().clearIndex();
+    }
+
+    private static void load() {
+        StartupProfiler.time(StartupProfiler.PHASE, "create component beans", BeanContainer::loadComponentBeans);
+        StartupProfiler.time(StartupProfiler.PHASE, "create handler beans", BeanContainer::loadHandlerBeans);
+        StartupProfiler.time(StartupProfiler.PHASE, "create interceptors", () -> {
+            loadInterceptors();
+            loadHandlerInterceptors();
+        });
+        StartupProfiler.time(StartupProfiler.PHASE, "create filters", BeanContainer::loadFilters);
+    }
+
+    /**
+     * 컴포넌트 클래스의 인스턴스를 의존 순서대로 생성하고 저장합니다. 서로 의존하지 않는 컴포넌트는
+     * bean.init-parallelism(기본 값은 프로세서 수) 만큼 동시에 생성합니다.
+     * Lazy가 선언된 컴포넌트나 bean.lazy-init이 true일 때의 모든 컴포넌트는 처음 주입되거나 조회될 때 생성합니다.
+     *
+     * @see BeanDependencyGraph
+     * */
+    private static void loadComponentBeans() {
+        int parallelism = ServerProperties.getInt("bean.init-parallelism", Runtime.getRuntime().availableProcessors());
+        beanCreator.createComponentBeans(BeanClassLoader.getComponentClasses(), parallelism);
+    }
+
+    /**
+     * 핸들러 클래스의 인스턴스를 생성하고 저장합니다. 핸들러 메서드가 사용하는 JSON 변환기도 미리 만들어 둡니다.
+     *
+     * @see Converter#registerHandler(Class)
+     * */
+    private static void loadHandlerBeans() {
+        for (Class<?> handlerClass : BeanClassLoader.getHandlerClasses()) {
+            StartupProfiler.time(StartupProfiler.BEAN, handlerClass.getName(), () -> {
+                Object bean = beanCreator.createInstance(handlerClass);
+                logger.info("create handler bean: {}", handlerClass.getName());
+                handlerBeans.add(bean);
+                Converter.registerHandler(handlerClass);
+            });
+        }
+    }
+
+    /**
+     * 인터셉터 구현체를 빈으로 생성하고 InterceptorMapping의 order 순으로 저장합니다.
+     * 컴포넌트로도 선언된 인터셉터는 이미 생성된 빈을 사용합니다.
+     * */
+    private static void loadInterceptors() {
+        for (Class<?> interceptorClass : BeanClassLoader.getInterceptorClasses()) {
+            Interceptor interceptor = (Interceptor) beanCreator.getOrCreateBean(interceptorClass);
+            logger.info("create interceptor: {}", interceptorClass.getName());
+            interceptors.add(interceptor);
+        }
+        interceptors.sort(Comparator.comparingInt(interceptor -> {
+            InterceptorMapping mapping = interceptor.getClass().getDeclaredAnnotation(InterceptorMapping.class);
+            return mapping != null ? mapping.order() : 0;
+        }));
+    }
+
+    /**
+     * 핸들러 메서드마다 경로가 일치하는 인터셉터 목록을 미리 계산하여 저장합니다.
+     * 핸들러 메서드의 경로 중 하나라도 include와 일치하고 exclude와 일치하지 않으면 인터셉터를 적용합니다.
+     * */
+    private static void loadHandlerInterceptors() {
+        if (interceptors.isEmpty()) return;
+        Map<Interceptor, PathPattern[][]> patterns = new HashMap<>();
+        for (Interceptor interceptor : interceptors) {
+            InterceptorMapping mapping = interceptor.getClass().getDeclaredAnnotation(InterceptorMapping.class);
+            if (mapping == null) continue;
+            patterns.put(interceptor, new PathPattern[][]{ toPathPatterns(mapping.include()), toPathPatterns(mapping.exclude()) });
+        }
+        for (Object handlerBean : handlerBeans) {
+            for (Method handlerMethod : handlerBean.getClass().getDeclaredMethods()) {
+                List<String> paths = HandlerPaths.of(handlerBean.getClass(), handlerMethod);
+                if (paths.isEmpty()) continue;
+                List<Interceptor> matched = new ArrayList<>();
+                for (Interceptor interceptor : interceptors) {
+                    PathPattern[][] interceptorPatterns = patterns.get(interceptor);
+                    if (interceptorPatterns == null || matchesAny(paths, interceptorPatterns[0], interceptorPatterns[1])) {
+                        matched.add(interceptor);
+                    }
+                }
+                handlerInterceptors.put(handlerMethod, matched.toArray(NO_INTERCEPTORS));
+            }
+        }
+    }
+
+    private static PathPattern[] toPathPatterns(String[] patterns) {
+        PathPattern[] pathPatterns = new PathPattern[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            pathPatterns[i] = PathPattern.of(patterns[i]);
+        }
+        return pathPatterns;
+    }
+
+    private static boolean matchesAny(List<String> paths, PathPattern[] includes, PathPattern[] excludes) {
+        for (String path : paths) {
+            if (matchesAny(path, includes) && !matchesAny(path, excludes)) return true;
+        }
+        return false;
+    }
+
+    private static boolean matchesAny(String path, PathPattern[] patterns) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * WebFilter가 선언된 필터의 인스턴스를 생성하고 order 순으로 저장합니다. 생성된 필터의 init을 실행하며,
+     * 서버가 종료될 때 destroy를 실행합니다.
+     * */
+    private static void loadFilters() {
+        for (Class<?> filterClass : BeanClassLoader.getFilterClasses()) {
+            if (!Filter.class.isAssignableFrom(filterClass)) {
+                logger.warn("WebFilter is not a Filter: {}", filterClass.getName());
+                continue;
+            }
+            Filter filter = (Filter) beanCreator.createInstance(filterClass);
+            filter.init();
+            logger.info("create filter: {}", filterClass.getName());
+            filters.add(filter);
+        }
+        filters.sort(Comparator.comparingInt(filter -> filter.getClass().getDeclaredAnnotation(WebFilter.class).order()));
+        if (filters.isEmpty()) return;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> filters.forEach(Filter::destroy), "filter-destroy"));
+    }
+
+    /**
+     * 핸들러 빈 목록을 반환합니다.
+     *
+     * @return 핸들러 빈 목록
+     * */
+    public static List<Object> getHandlerBeans() {
+        initialize();
+        return handlerBeans;
+    }
+
+    /**
+     * 인터셉터 구현체 인스턴스 목록을 반환합니다.
+     *
+     * @return 인터셉터 구현체 인스턴스
+     * */
+    public static List<Interceptor> getInterceptors() {
+        initialize();
+        return interceptors;
+    }
+
+    /**
+     * 핸들러 메서드에 적용할 인터셉터 목록을 실행 순서대로 반환합니다.
+     *
+     * @param handlerMethod 핸들러 메서드
+     * @return 인터셉터 목록, 적용할 인터셉터가 없다면 빈 배열
+     * */
+    public static Interceptor[] getInterceptors(Method handlerMethod) {
+        initialize();
+        return handlerInterceptors.getOrDefault(handlerMethod, NO_INTERCEPTORS);
+    }
+
+    /**
+     * order 순으로 정렬된 필터 목록을 반환합니다.
+     *
+     * @return 필터 목록
+     * */
+    public static List<Filter> getFilters() {
+        initialize();
+        return filters;
+    }
+
+    /**
+     * 빈 목록을 반환합니다.
+     *
+     * @return 빈 목록
+     * */
+    public static Map<Class<?>, List<BeanInfo>> getBeanInfoMap() {
+        initialize();
+        return beanMap;
+    }
+
+    public static List<BeanInfo> getBeanInfoList(Class<?> type) {
+        initialize();
+        return beanMap.get(type);
+    }
+
+}
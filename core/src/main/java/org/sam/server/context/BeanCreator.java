@@ -0,0 +1,352 @@
+package org.sam.server.context;
+
+import org.sam.server.annotation.Lazy;
+import org.sam.server.annotation.Qualifier;
+import org.sam.server.annotation.component.Bean;
+import org.sam.server.common.StartupProfiler;
+import org.sam.server.exception.BeanAccessModifierException;
+import org.sam.server.exception.BeanCreationException;
+import org.sam.server.exception.BeanNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
+
+/**
+ * 컴포넌트의 인스턴스를 생성하여 빈 저장소에 저장하는 클래스입니다.
+ * 의존 그래프의 단계 순서대로 생성하며, 같은 단계의 컴포넌트는 ForkJoinPool에서 동시에 생성합니다.
+ * 빈 저장소는 BeanContainer에서 넘겨 받아 사용하며, 생성자에서 BeanContainer를 조회하더라도 생성이 끝나기를 기다리지 않도록
+ * 작업 쓰레드를 구분할 수 있게 합니다.
+ * Lazy가 선언되었거나 지연 생성 모드라면 빈 정보만 저장하고, 처음 조회되거나 주입된 빈을 사용할 때 인스턴스를 생성합니다.
+ *
+ * @author hypernova1
+ * @see BeanContainer
+ * @see BeanDependencyGraph
+ */
+final class BeanCreator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeanCreator.class);
+
+    private final Map<Class<?>, List<BeanInfo>> beanMap;
+
+    private final boolean lazyInit;
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param beanMap 빈 저장소
+     * @param lazyInit 모든 컴포넌트를 지연 생성할지 여부
+     * */
+    BeanCreator(Map<Class<?>, List<BeanInfo>> beanMap, boolean lazyInit) {
+        this.beanMap = beanMap;
+        this.lazyInit = lazyInit;
+    }
+
+    /**
+     * 컴포넌트 클래스의 인스턴스를 의존 순서대로 생성하고 저장합니다.
+     *
+     * @param componentClasses 컴포넌트 클래스 목록
+     * @param parallelism 동시에 생성할 최대 빈 수
+     * @throws org.sam.server.exception.CircularDependencyException 순환 의존이 있을 시
+     * */
+    void createComponentBeans(Collection<Class<?>> componentClasses, int parallelism) {
+        List<List<Class<?>>> waves = BeanDependencyGraph.of(new LinkedHashSet<>(componentClasses)).sortInWaves();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism), CreatorThread::new, null, false);
+        try {
+            for (List<Class<?>> wave : waves) {
+                if (wave.size() == 1 || parallelism <= 1) {
+                    wave.forEach(this::createComponentBean);
+                    continue;
+                }
+                List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                for (Class<?> componentClass : wave) {
+                    tasks.add(pool.submit(() -> createComponentBean(componentClass)));
+                }
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 현재 쓰레드가 컴포넌트를 동시에 생성하는 작업 쓰레드인지 확인합니다.
+     *
+     * @return 작업 쓰레드 여부
+     * */
+    static boolean isCreatorThread() {
+        return Thread.currentThread() instanceof CreatorThread;
+    }
+
+    /**
+     * 컴포넌트의 인스턴스와 내부의 빈 메서드의 결과값을 저장합니다. 지연 생성되는 빈은 생성 함수만 저장합니다.
+     *
+     * @param componentClass 컴포넌트 클래스
+     * */
+    private void createComponentBean(Class<?> componentClass) {
+        String beanName = getBeanName(componentClass);
+        boolean lazy = lazyInit || componentClass.getDeclaredAnnotation(Lazy.class) != null;
+        BeanInfo componentBean = lazy
+                ? BeanInfo.lazy(beanName, () -> createBean(componentClass, beanName))
+                : BeanInfo.of(beanName, createBean(componentClass, beanName));
+        loadMethodBean(componentBean, componentClass.getDeclaredMethods(), lazy);
+        addBeanMap(componentClass, componentBean);
+    }
+
+    /**
+     * 컴포넌트 클래스 내부의 빈 메서드의 결과값을 받아 컴포넌트 인스턴스 목록에 추가합니다.
+     *
+     * @param componentBean 컴포넌트 빈 정보
+     * @param declaredMethods 컴포넌트 클래스에 선언 된 메서드 목록
+     * @param lazy 컴포넌트의 지연 생성 여부
+     * */
+    private void loadMethodBean(BeanInfo componentBean, Method[] declaredMethods, boolean lazy) {
+        for (Method declaredMethod : declaredMethods) {
+            if (declaredMethod.getDeclaredAnnotation(Bean.class) == null) continue;
+            Class<?> beanType = declaredMethod.getReturnType();
+            String beanName = declaredMethod.getName();
+            BeanInfo beanInfo = lazy || declaredMethod.getDeclaredAnnotation(Lazy.class) != null
+                    ? BeanInfo.lazy(beanName, () -> invokeBeanMethod(componentBean, declaredMethod, beanType))
+                    : BeanInfo.of(beanName, invokeBeanMethod(componentBean, declaredMethod, beanType));
+            addBeanMap(beanType, beanInfo);
+        }
+    }
+
+    /**
+     * 빈 메서드를 실행하여 빈을 생성합니다.
+     *
+     * @param componentBean 빈 메서드를 선언한 컴포넌트의 빈 정보
+     * @param method 빈 메서드
+     * @param beanType 빈 타입
+     * @return 빈 인스턴스
+     * */
+    private Object invokeBeanMethod(BeanInfo componentBean, Method method, Class<?> beanType) {
+        Object componentInstance = componentBean.getInstance();
+        return StartupProfiler.time(StartupProfiler.BEAN, beanType.getName() + "#" + method.getName(), () -> {
+            try {
+                Object instance = method.invoke(componentInstance);
+                logger.info("create bean: {} > {}", method.getName(), beanType.getName());
+                return instance;
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new BeanAccessModifierException();
+            }
+        });
+    }
+
+    /**
+     * 컴포넌트의 인스턴스를 생성합니다.
+     *
+     * @param componentClass 컴포넌트 클래스
+     * @param beanName 빈 이름
+     * @return 컴포넌트 인스턴스
+     * */
+    private Object createBean(Class<?> componentClass, String beanName) {
+        return StartupProfiler.time(StartupProfiler.BEAN, componentClass.getName(), () -> {
+            Object instance = createInstance(componentClass);
+            logger.info("create bean: {} > {}", beanName, componentClass.getName());
+            return instance;
+        });
+    }
+
+    /**
+     * 빈 정보를 저장합니다.
+     *
+     * @param componentType 컴포넌트 타입
+     * @param beanInfo 빈 정보
+     * */
+    private void addBeanMap(Class<?> componentType, BeanInfo beanInfo) {
+        if (!beanInfo.isInitialized()) {
+            logger.info("register lazy bean: {} > {}", beanInfo.getName(), componentType.getName());
+        }
+        beanMap.computeIfAbsent(componentType, key -> new CopyOnWriteArrayList<>()).add(beanInfo);
+    }
+
+    /**
+     * 클래스의 빈을 반환합니다. 같은 클래스의 빈이 없다면 인스턴스를 생성하여 빈으로 저장합니다.
+     *
+     * @param clazz 클래스 타입
+     * @return 빈 인스턴스
+     * */
+    Object getOrCreateBean(Class<?> clazz) {
+        List<BeanInfo> beanInfos = beanMap.get(clazz);
+        if (beanInfos != null && !beanInfos.isEmpty()) return beanInfos.get(0).getInstance();
+        Object instance = createInstance(clazz);
+        addBeanMap(clazz, BeanInfo.of(getBeanName(clazz), instance));
+        return instance;
+    }
+
+    /**
+     * 컴포넌트의 인스턴스를 생성 후 반환합니다. 생성자 파라미터는 이미 생성된 빈으로 채웁니다.
+     *
+     * @param clazz 클래스 타입
+     * @return 컴포넌트 인스턴스
+     * */
+    Object createInstance(Class<?> clazz) {
+        Constructor<?> constructor = getDefaultConstructor(clazz);
+        Object[] parameters = createParameters(constructor.getParameters());
+        try {
+            return constructor.newInstance(parameters);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            logger.error("failed to create bean: {}", clazz.getName(), e);
+        }
+        throw new BeanCreationException(clazz);
+    }
+
+    /**
+     * 빈 생성시 필요한 파라미터를 생성 후 반환합니다. 주입할 빈이 없다면 null을 넣습니다.
+     * 아직 생성되지 않은 지연 빈은 생성하지 않도록 Supplier 파라미터에는 호출할 때 빈을 찾는 함수를,
+     * public 인터페이스 파라미터에는 처음 메서드를 호출할 때 빈을 생성하는 프록시를 넣습니다.
+     *
+     * @param parameters 생성자 파라미터 목록
+     * @return 빈 목록
+     * */
+    private Object[] createParameters(Parameter[] parameters) {
+        Object[] result = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            if (parameter.getType() == Supplier.class) {
+                result[i] = createSupplier(parameter);
+                continue;
+            }
+            BeanInfo beanInfo = findBeanInfo(parameter.getType(), parameter.getName());
+            if (beanInfo == null) {
+                logger.warn("bean not found for parameter: {} > {}", parameter.getName(), parameter.getType().getName());
+                continue;
+            }
+            result[i] = beanInfo.isInitialized() || !isProxyable(parameter.getType())
+                    ? beanInfo.getInstance()
+                    : createLazyProxy(parameter.getType(), beanInfo);
+        }
+        return result;
+    }
+
+    /**
+     * Supplier의 타입 인자에 해당하는 빈을 호출할 때 찾아 반환하는 함수를 생성합니다.
+     *
+     * @param parameter Supplier 타입의 생성자 파라미터
+     * @return 빈을 반환하는 함수, 타입 인자가 클래스가 아니라면 null
+     * */
+    private Supplier<Object> createSupplier(Parameter parameter) {
+        Type parameterizedType = parameter.getParameterizedType();
+        Type beanType = parameterizedType instanceof ParameterizedType
+                ? ((ParameterizedType) parameterizedType).getActualTypeArguments()[0]
+                : null;
+        if (!(beanType instanceof Class)) {
+            logger.warn("bean type of supplier is unknown: {}", parameter.getName());
+            return null;
+        }
+        Class<?> componentType = (Class<?>) beanType;
+        String parameterName = parameter.getName();
+        return () -> {
+            BeanInfo beanInfo = findBeanInfo(componentType, parameterName);
+            if (beanInfo == null) throw new BeanNotFoundException(componentType.getName());
+            return beanInfo.getInstance();
+        };
+    }
+
+    private boolean isProxyable(Class<?> type) {
+        return type.isInterface() && Modifier.isPublic(type.getModifiers());
+    }
+
+    /**
+     * 메서드를 처음 호출할 때 지연 빈을 생성하여 위임하는 프록시를 생성합니다.
+     *
+     * @param type 인터페이스 타입
+     * @param beanInfo 지연 빈 정보
+     * @return 프록시 인스턴스
+     * */
+    private Object createLazyProxy(Class<?> type, BeanInfo beanInfo) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{ type }, (proxy, method, args) -> {
+            try {
+                return method.invoke(beanInfo.getInstance(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * 타입에 해당하는 빈을 찾아 반환합니다. 해당 타입으로 저장된 빈이 없다면 하위 타입의 빈을 찾으며,
+     * 여러 개라면 이름이 같은 빈을 반환합니다.
+     *
+     * @param componentType 컴포넌트 타입
+     * @param parameterName 파라미터 이름
+     * @return 빈 정보
+     * */
+    private BeanInfo findBeanInfo(Class<?> componentType, String parameterName) {
+        List<BeanInfo> beanInfos = beanMap.get(componentType);
+        if (beanInfos == null) {
+            beanInfos = new ArrayList<>();
+            for (Map.Entry<Class<?>, List<BeanInfo>> entry : beanMap.entrySet()) {
+                if (!componentType.isAssignableFrom(entry.getKey())) continue;
+                beanInfos.addAll(entry.getValue());
+            }
+        }
+        if (beanInfos.isEmpty()) return null;
+        if (beanInfos.size() == 1) return beanInfos.get(0);
+        for (BeanInfo beanInfo : beanInfos) {
+            if (!beanInfo.getName().equals(parameterName)) continue;
+            return beanInfo;
+        }
+        return null;
+    }
+
+    /**
+     * 빈 이름을 생성 후 반환합니다.
+     *
+     * @param componentType 컴포넌트 타입
+     * @return 빈 이름
+     * */
+    static String getBeanName(Class<?> componentType) {
+        Qualifier qualifier = componentType.getDeclaredAnnotation(Qualifier.class);
+        if (qualifier != null) {
+            return qualifier.value();
+        }
+        String beanName = componentType.getSimpleName();
+        return beanName.substring(0, 1).toLowerCase() + beanName.substring(1);
+    }
+
+    /**
+     * 기본 생성자를 반환합니다
+     *
+     * @param clazz 클래스 타입
+     * @return 기본 생성자
+     * */
+    static Constructor<?> getDefaultConstructor(Class<?> clazz) {
+        Constructor<?>[] constructors = clazz.getConstructors();
+        if (constructors.length > 0) return constructors[0];
+        try {
+            return clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new BeanCreationException(clazz);
+        }
+    }
+
+    /**
+     * 컴포넌트를 동시에 생성하는 작업 쓰레드입니다.
+     * */
+    private static final class CreatorThread extends ForkJoinWorkerThread {
+
+        private CreatorThread(ForkJoinPool pool) {
+            super(pool);
+            setName("bean-creator-" + getPoolIndex());
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package org.sam.server.context;
+
+import org.sam.server.annotation.component.Bean;
+import org.sam.server.exception.CircularDependencyException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * 컴포넌트 클래스 사이의 생성자 의존 관계를 나타내는 그래프입니다.
+ * 생성자 파라미터마다 그 타입의 빈을 만드는 컴포넌트(혹은 Bean 메서드를 선언한 컴포넌트)를 찾아 간선으로 연결하며,
+ * 서로 의존하지 않는 컴포넌트끼리 묶어 생성 순서대로 나눕니다.
+ *
+ * @author hypernova1
+ * @see BeanCreator
+ */
+final class BeanDependencyGraph {
+
+    private final Map<Class<?>, Set<Class<?>>> dependencies = new LinkedHashMap<>();
+
+    private final List<BeanProducer> producers = new ArrayList<>();
+
+    private BeanDependencyGraph(Collection<Class<?>> componentClasses) {
+        for (Class<?> componentClass : componentClasses) {
+            dependencies.put(componentClass, new LinkedHashSet<>());
+            producers.add(new BeanProducer(componentClass, BeanCreator.getBeanName(componentClass), componentClass));
+            for (Method method : componentClass.getDeclaredMethods()) {
+                if (method.getDeclaredAnnotation(Bean.class) == null) continue;
+                producers.add(new BeanProducer(method.getReturnType(), method.getName(), componentClass));
+            }
+        }
+        for (Class<?> componentClass : componentClasses) {
+            Parameter[] parameters = BeanCreator.getDefaultConstructor(componentClass).getParameters();
+            for (Parameter parameter : parameters) {
+                dependencies.get(componentClass).addAll(findProducers(parameter));
+            }
+        }
+    }
+
+    /**
+     * 컴포넌트 클래스 목록으로 의존 그래프를 생성합니다.
+     *
+     * @param componentClasses 컴포넌트 클래스 목록
+     * @return 의존 그래프
+     * */
+    static BeanDependencyGraph of(Collection<Class<?>> componentClasses) {
+        return new BeanDependencyGraph(componentClasses);
+    }
+
+    /**
+     * 생성자 파라미터에 주입될 빈을 만드는 컴포넌트 클래스 목록을 반환합니다.
+     * 타입이 맞는 빈이 여러 개라면 파라미터 이름과 빈 이름이 같은 것을 고르고, 없다면 모두 반환합니다.
+     *
+     * @param parameter 생성자 파라미터
+     * @return 컴포넌트 클래스 목록
+     * */
+    private Set<Class<?>> findProducers(Parameter parameter) {
+        List<BeanProducer> candidates = new ArrayList<>();
+        for (BeanProducer producer : producers) {
+            if (!parameter.getType().isAssignableFrom(producer.beanType)) continue;
+            candidates.add(producer);
+        }
+        Set<Class<?>> result = new LinkedHashSet<>();
+        if (candidates.size() > 1) {
+            for (BeanProducer candidate : candidates) {
+                if (!candidate.beanName.equals(parameter.getName())) continue;
+                result.add(candidate.componentClass);
+            }
+            if (!result.isEmpty()) return result;
+        }
+        for (BeanProducer candidate : candidates) {
+            result.add(candidate.componentClass);
+        }
+        return result;
+    }
+
+    /**
+     * 의존하는 컴포넌트가 모두 앞 단계에 오도록 컴포넌트를 단계별로 나눕니다. 같은 단계의 컴포넌트는 서로 의존하지 않습니다.
+     *
+     * @return 단계별 컴포넌트 클래스 목록
+     * @throws CircularDependencyException 순환 의존이 있을 시
+     * */
+    List<List<Class<?>>> sortInWaves() {
+        Map<Class<?>, Integer> remainingDependencies = new HashMap<>();
+        Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        List<Class<?>> ready = new ArrayList<>();
+        for (Map.Entry<Class<?>, Set<Class<?>>> entry : dependencies.entrySet()) {
+            remainingDependencies.put(entry.getKey(), entry.getValue().size());
+            if (entry.getValue().isEmpty()) ready.add(entry.getKey());
+            for (Class<?> dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        List<List<Class<?>>> waves = new ArrayList<>();
+        int sorted = 0;
+        while (!ready.isEmpty()) {
+            waves.add(ready);
+            sorted += ready.size();
+            List<Class<?>> next = new ArrayList<>();
+            for (Class<?> componentClass : ready) {
+                for (Class<?> dependent : dependents.getOrDefault(componentClass, Collections.emptyList())) {
+                    if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) next.add(dependent);
+                }
+            }
+            ready = next;
+        }
+        if (sorted < dependencies.size()) {
+            throw new CircularDependencyException(findCycle(remainingDependencies));
+        }
+        return waves;
+    }
+
+    /**
+     * 생성 순서를 정하지 못한 컴포넌트 사이에서 순환 경로 하나를 찾습니다.
+     *
+     * @param remainingDependencies 컴포넌트별 남은 의존 수
+     * @return 순환 경로. 시작 클래스로 끝납니다.
+     * */
+    private List<Class<?>> findCycle(Map<Class<?>, Integer> remainingDependencies) {
+        Class<?> current = null;
+        for (Map.Entry<Class<?>, Integer> entry : remainingDependencies.entrySet()) {
+            if (entry.getValue() == 0) continue;
+            current = entry.getKey();
+            break;
+        }
+        List<Class<?>> path = new ArrayList<>();
+        while (!path.contains(current)) {
+            path.add(current);
+            for (Class<?> dependency : dependencies.get(current)) {
+                if (remainingDependencies.get(dependency) == 0) continue;
+                current = dependency;
+                break;
+            }
+        }
+        List<Class<?>> cycle = new ArrayList<>(path.subList(path.indexOf(current), path.size()));
+        cycle.add(current);
+        return cycle;
+    }
+
+    /**
+     * 빈을 만드는 컴포넌트 클래스와 만들어지는 빈의 타입, 이름입니다.
+     */
+    private static class BeanProducer {
+
+        private final Class<?> beanType;
+
+        private final String beanName;
+
+        private final Class<?> componentClass;
+
+        private BeanProducer(Class<?> beanType, String beanName, Class<?> componentClass) {
+            this.beanType = beanType;
+            this.beanName = beanName;
+            this.componentClass = componentClass;
+        }
+    }
+
+}
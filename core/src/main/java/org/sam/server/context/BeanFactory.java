@@ -0,0 +1,111 @@
+package org.sam.server.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 빈을 관리하는 클래스입니다. BeanContainer는 이미 선언 된 클래스를 기반으로 빈을 생성하지만
+ * BeanFactory는 런타임시 동적으로 빈을 관리합니다.
+ * 빈은 타입과 이름으로 미리 색인해 두며, 조회는 잠금 없이 색인을 읽고 등록은 색인을 복사하여 교체합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.context.BeanContainer
+ * @see BeanIndex
+ * */
+public class BeanFactory {
+
+    private static final BeanFactory beanFactory;
+
+    static {
+        beanFactory = new BeanFactory();
+        List<BeanInfo> list = new CopyOnWriteArrayList<>();
+        BeanInfo beanInfo = new BeanInfo("beanFactory", beanFactory);
+        list.add(beanInfo);
+        BeanContainer.getBeanInfoMap().put(BeanFactory.class, list);
+    }
+
+    private volatile BeanIndex beanIndex;
+
+    private BeanFactory() {}
+
+    /**
+     * 인스턴스를 반환합니다.
+     *
+     * @return 인스턴스
+     * */
+    public static BeanFactory getInstance() {
+        return beanFactory;
+    }
+
+    /**
+     * 인자로 받은 이름과, 타입에 해당하는 빈을 반환합니다.
+     *
+     * @param <T> 빈 클래스 타입
+     * @param name 빈 이름
+     * @param type 빈 클래스
+     * @return 빈, 없다면 null
+     * */
+    @SuppressWarnings("unchecked")
+    public <T> T getBean(String name, Class<?> type) {
+        BeanInfo beanInfo = getBeanIndex().getBeanInfo(name, type);
+        if (beanInfo == null) return null;
+        return (T) beanInfo.getInstance();
+    }
+
+    /**
+     * 인자로 받은 타입으로 사용할 수 있는 빈 목록을 반환합니다. 하위 클래스와 구현체의 빈을 포함합니다.
+     *
+     * @param type 빈 타입
+     * @return 빈 목록
+     * */
+    public List<?> getBeanList(Class<?> type) {
+        List<BeanInfo> beanInfos = getBeanIndex().getBeanInfos(type);
+        List<Object> result = new ArrayList<>(beanInfos.size());
+        for (BeanInfo beanInfo : beanInfos) {
+            result.add(beanInfo.getInstance());
+        }
+        return result;
+    }
+
+    /**
+     * 인자로 받은 인스턴스를 빈으로 만들어 저장합니다. 같은 타입과 이름의 빈이 있다면 저장하지 않습니다.
+     *
+     * @param <T> 인스턴스 타입
+     * @param name 빈 이름
+     * @param instance 인스턴스
+     * */
+    public synchronized <T> void registerBean(String name, T instance) {
+        BeanIndex current = getBeanIndex();
+        if (current.getBeanInfo(name, instance.getClass()) != null) return;
+        BeanInfo beanInfo = new BeanInfo(name, instance);
+        BeanContainer.getBeanInfoMap()
+                .computeIfAbsent(instance.getClass(), key -> new CopyOnWriteArrayList<>())
+                .add(beanInfo);
+        beanIndex = current.with(instance.getClass(), beanInfo);
+    }
+
+    /**
+     * 빈 색인을 지웁니다. BeanContainer가 빈을 모두 생성하기 전에 만들어진 색인을 버리기 위해 사용합니다.
+     * */
+    synchronized void clearIndex() {
+        beanIndex = null;
+    }
+
+    /**
+     * 빈 색인을 반환합니다. 처음 호출될 때 BeanContainer의 빈 저장소로 생성합니다.
+     *
+     * @return 빈 색인
+     * */
+    private BeanIndex getBeanIndex() {
+        BeanIndex result = beanIndex;
+        if (result != null) return result;
+        synchronized (this) {
+            if (beanIndex == null) {
+                beanIndex = BeanIndex.of(BeanContainer.getBeanInfoMap());
+            }
+            return beanIndex;
+        }
+    }
+
+}
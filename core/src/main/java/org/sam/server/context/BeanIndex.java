@@ -0,0 +1,122 @@
+package org.sam.server.context;
+
+import java.util.*;
+
+/**
+ * 빈을 타입과 이름으로 바로 찾을 수 있도록 미리 계산해 둔 불변 색인입니다.
+ * 저장된 빈의 타입뿐 아니라 모든 상위 클래스와 인터페이스로도 빈을 찾을 수 있습니다.
+ * 빈을 추가하면 기존 색인을 수정하지 않고 복사한 새 색인을 반환합니다.
+ *
+ * @author hypernova1
+ * @see BeanFactory
+ */
+final class BeanIndex {
+
+    private final Map<Class<?>, List<BeanInfo>> typeIndex;
+
+    private final Map<String, List<BeanInfo>> nameIndex;
+
+    private BeanIndex(Map<Class<?>, List<BeanInfo>> typeIndex, Map<String, List<BeanInfo>> nameIndex) {
+        this.typeIndex = typeIndex;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * 빈 저장소로 색인을 생성합니다.
+     *
+     * @param beanMap 빈 저장소
+     * @return 색인
+     * */
+    static BeanIndex of(Map<Class<?>, List<BeanInfo>> beanMap) {
+        Map<Class<?>, List<BeanInfo>> typeIndex = new HashMap<>();
+        Map<String, List<BeanInfo>> nameIndex = new HashMap<>();
+        for (Map.Entry<Class<?>, List<BeanInfo>> entry : beanMap.entrySet()) {
+            for (BeanInfo beanInfo : entry.getValue()) {
+                addIndex(typeIndex, nameIndex, entry.getKey(), beanInfo);
+            }
+        }
+        return new BeanIndex(freeze(typeIndex), freeze(nameIndex));
+    }
+
+    /**
+     * 빈을 추가한 새 색인을 반환합니다.
+     *
+     * @param beanType 빈 타입
+     * @param beanInfo 빈 정보
+     * @return 새 색인
+     * */
+    BeanIndex with(Class<?> beanType, BeanInfo beanInfo) {
+        Map<Class<?>, List<BeanInfo>> typeIndex = copy(this.typeIndex);
+        Map<String, List<BeanInfo>> nameIndex = copy(this.nameIndex);
+        addIndex(typeIndex, nameIndex, beanType, beanInfo);
+        return new BeanIndex(freeze(typeIndex), freeze(nameIndex));
+    }
+
+    /**
+     * 해당 타입으로 사용할 수 있는 빈 목록을 반환합니다.
+     *
+     * @param type 빈 타입
+     * @return 빈 정보 목록
+     * */
+    List<BeanInfo> getBeanInfos(Class<?> type) {
+        return typeIndex.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * 이름과 타입이 일치하는 빈을 반환합니다.
+     *
+     * @param name 빈 이름
+     * @param type 빈 타입
+     * @return 빈 정보, 없다면 null
+     * */
+    BeanInfo getBeanInfo(String name, Class<?> type) {
+        List<BeanInfo> candidates = nameIndex.get(name);
+        if (candidates == null) return null;
+        List<BeanInfo> beanInfos = getBeanInfos(type);
+        for (BeanInfo candidate : candidates) {
+            if (beanInfos.contains(candidate)) return candidate;
+        }
+        return null;
+    }
+
+    private static void addIndex(Map<Class<?>, List<BeanInfo>> typeIndex, Map<String, List<BeanInfo>> nameIndex,
+                                 Class<?> beanType, BeanInfo beanInfo) {
+        for (Class<?> type : getAssignableTypes(beanType)) {
+            typeIndex.computeIfAbsent(type, key -> new ArrayList<>()).add(beanInfo);
+        }
+        nameIndex.computeIfAbsent(beanInfo.getName(), key -> new ArrayList<>()).add(beanInfo);
+    }
+
+    /**
+     * 빈 타입과 모든 상위 클래스, 인터페이스 목록을 반환합니다. Object는 제외합니다.
+     *
+     * @param beanType 빈 타입
+     * @return 타입 목록
+     * */
+    private static Set<Class<?>> getAssignableTypes(Class<?> beanType) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(beanType);
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (type == Object.class || !types.add(type)) continue;
+            if (type.getSuperclass() != null) queue.add(type.getSuperclass());
+            queue.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return types;
+    }
+
+    private static <K> Map<K, List<BeanInfo>> copy(Map<K, List<BeanInfo>> index) {
+        Map<K, List<BeanInfo>> result = new HashMap<>();
+        for (Map.Entry<K, List<BeanInfo>> entry : index.entrySet()) {
+            result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return result;
+    }
+
+    private static <K> Map<K, List<BeanInfo>> freeze(Map<K, List<BeanInfo>> index) {
+        index.replaceAll((key, value) -> Collections.unmodifiableList(value));
+        return Collections.unmodifiableMap(index);
+    }
+
+}
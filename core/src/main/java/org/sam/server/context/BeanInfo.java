@@ -0,0 +1,79 @@
+package org.sam.server.context;
+
+import java.util.function.Supplier;
+
+/**
+ * 빈의 정보를 저장하는 클래스입니다. 지연 생성되는 빈은 처음 인스턴스를 요청할 때 한 번만 생성합니다.
+ *
+ * @author hypernova1
+ */
+public class BeanInfo {
+
+    private final String name;
+
+    private final Supplier<Object> factory;
+
+    private volatile Object instance;
+
+    BeanInfo(String name, Object instance) {
+        this.name = name;
+        this.instance = instance;
+        this.factory = null;
+    }
+
+    private BeanInfo(String name, Supplier<Object> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    protected static BeanInfo of(String name, Object instance) {
+        return new BeanInfo(name, instance);
+    }
+
+    /**
+     * 처음 인스턴스를 요청할 때 생성되는 빈 정보를 생성합니다.
+     *
+     * @param name 빈 이름
+     * @param factory 빈을 생성하는 함수
+     * @return 빈 정보
+     * */
+    static BeanInfo lazy(String name, Supplier<Object> factory) {
+        return new BeanInfo(name, factory);
+    }
+
+    /**
+     * 빈의 이름을 반환합니다.
+     *
+     * @return 빈 이름
+     * */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 빈을 반환합니다. 지연 생성되는 빈이라면 처음 호출될 때 생성합니다.
+     *
+     * @return 빈 인스턴스
+     * */
+    public Object getInstance() {
+        Object result = instance;
+        if (result != null || factory == null) return result;
+        synchronized (this) {
+            result = instance;
+            if (result == null) {
+                result = factory.get();
+                instance = result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 빈이 생성되었는지 확인합니다.
+     *
+     * @return 생성 여부
+     * */
+    public boolean isInitialized() {
+        return factory == null || instance != null;
+    }
+}
@@ -0,0 +1,257 @@
+package org.sam.server.context;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 클래스를 로드하지 않고 클래스 파일의 바이트에서 읽어 들인 클래스 정보입니다.
+ * 상수 풀과 클래스의 RuntimeVisibleAnnotations 속성만 해석하며, 필드와 메서드는 건너뜁니다.
+ *
+ * @author hypernova1
+ * @see ClassPathScanner
+ */
+final class ClassMetadata {
+
+    private static final int ACC_INTERFACE = 0x0200;
+
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final String className;
+
+    private final int accessFlags;
+
+    private final List<String> interfaceNames;
+
+    private final List<String> annotationNames;
+
+    private ClassMetadata(String className, int accessFlags, List<String> interfaceNames, List<String> annotationNames) {
+        this.className = className;
+        this.accessFlags = accessFlags;
+        this.interfaceNames = interfaceNames;
+        this.annotationNames = annotationNames;
+    }
+
+    /**
+     * 클래스 파일을 읽어 클래스 정보를 생성합니다.
+     *
+     * @param in 클래스 파일의 InputStream
+     * @return 클래스 정보
+     * @throws IOException 클래스 파일 형식이 올바르지 않거나 읽다가 오류 발생시
+     * */
+    static ClassMetadata read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != 0xCAFEBABE) throw new IOException("not a class file");
+        data.readUnsignedShort();
+        data.readUnsignedShort();
+
+        int constantPoolCount = data.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = data.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8[i] = data.readUTF();
+                    break;
+                case 7:
+                    classNameIndexes[i] = data.readUnsignedShort();
+                    break;
+                case 5:
+                case 6:
+                    data.skipBytes(8);
+                    i++;
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    data.skipBytes(4);
+                    break;
+                case 15:
+                    data.skipBytes(3);
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    data.skipBytes(2);
+                    break;
+                default:
+                    throw new IOException("unknown constant pool tag: " + tag);
+            }
+        }
+
+        int accessFlags = data.readUnsignedShort();
+        String className = toClassName(utf8[classNameIndexes[data.readUnsignedShort()]]);
+        data.readUnsignedShort();
+        int interfaceCount = data.readUnsignedShort();
+        List<String> interfaceNames = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(toClassName(utf8[classNameIndexes[data.readUnsignedShort()]]));
+        }
+        skipMembers(data);
+        skipMembers(data);
+
+        List<String> annotationNames = Collections.emptyList();
+        int attributeCount = data.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8[data.readUnsignedShort()];
+            int length = data.readInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                data.skipBytes(length);
+                continue;
+            }
+            annotationNames = readAnnotationNames(data, utf8);
+        }
+        return new ClassMetadata(className, accessFlags, interfaceNames, annotationNames);
+    }
+
+    /**
+     * 클래스 파일의 바이트 배열을 읽어 클래스 정보를 생성합니다.
+     *
+     * @param bytes 클래스 파일
+     * @return 클래스 정보
+     * @throws IOException 클래스 파일 형식이 올바르지 않을 시
+     * */
+    static ClassMetadata read(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * 필드 혹은 메서드 목록을 건너뜁니다.
+     *
+     * @param data 클래스 파일
+     * @throws IOException 클래스 파일을 읽다가 오류 발생시
+     * */
+    private static void skipMembers(DataInputStream data) throws IOException {
+        int memberCount = data.readUnsignedShort();
+        for (int i = 0; i < memberCount; i++) {
+            data.skipBytes(6);
+            int attributeCount = data.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                data.skipBytes(2);
+                data.skipBytes(data.readInt());
+            }
+        }
+    }
+
+    /**
+     * RuntimeVisibleAnnotations 속성에서 어노테이션 타입 이름 목록을 읽습니다.
+     *
+     * @param data 클래스 파일
+     * @param utf8 상수 풀의 문자열 목록
+     * @return 어노테이션 타입 이름 목록
+     * @throws IOException 클래스 파일을 읽다가 오류 발생시
+     * */
+    private static List<String> readAnnotationNames(DataInputStream data, String[] utf8) throws IOException {
+        int annotationCount = data.readUnsignedShort();
+        List<String> annotationNames = new ArrayList<>(annotationCount);
+        for (int i = 0; i < annotationCount; i++) {
+            String descriptor = utf8[data.readUnsignedShort()];
+            annotationNames.add(toClassName(descriptor.substring(1, descriptor.length() - 1)));
+            skipElementValuePairs(data);
+        }
+        return annotationNames;
+    }
+
+    private static void skipElementValuePairs(DataInputStream data) throws IOException {
+        int pairCount = data.readUnsignedShort();
+        for (int i = 0; i < pairCount; i++) {
+            data.skipBytes(2);
+            skipElementValue(data);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream data) throws IOException {
+        int tag = data.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                data.skipBytes(4);
+                break;
+            case '@':
+                data.skipBytes(2);
+                skipElementValuePairs(data);
+                break;
+            case '[':
+                int valueCount = data.readUnsignedShort();
+                for (int i = 0; i < valueCount; i++) {
+                    skipElementValue(data);
+                }
+                break;
+            default:
+                data.skipBytes(2);
+        }
+    }
+
+    private static String toClassName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    /**
+     * 클래스의 이름을 반환합니다. 중첩 클래스는 $로 구분합니다.
+     *
+     * @return 클래스 이름
+     * */
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * 클래스가 직접 구현한 인터페이스 이름 목록을 반환합니다.
+     *
+     * @return 인터페이스 이름 목록
+     * */
+    List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * 클래스에 선언된 어노테이션 타입 이름 목록을 반환합니다.
+     *
+     * @return 어노테이션 타입 이름 목록
+     * */
+    List<String> getAnnotationNames() {
+        return annotationNames;
+    }
+
+    /**
+     * 해당 어노테이션이 직접 선언되어 있는지 확인합니다.
+     *
+     * @param annotationType 어노테이션 타입
+     * @return 어노테이션 선언 여부
+     * */
+    boolean hasAnnotation(Class<?> annotationType) {
+        return annotationNames.contains(annotationType.getName());
+    }
+
+    /**
+     * 해당 인터페이스를 직접 구현했는지 확인합니다.
+     *
+     * @param interfaceType 인터페이스 타입
+     * @return 구현 여부
+     * */
+    boolean implementsInterface(Class<?> interfaceType) {
+        return interfaceNames.contains(interfaceType.getName());
+    }
+
+    /**
+     * 인터페이스나 어노테이션이 아닌 클래스인지 확인합니다.
+     *
+     * @return 클래스 여부
+     * */
+    boolean isClass() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ANNOTATION)) == 0;
+    }
+
+}
@@ -0,0 +1,248 @@
+package org.sam.server.context;
+
+import org.sam.server.annotation.component.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 클래스 경로의 디렉토리와 jar 파일을 탐색하며 클래스 파일을 읽는 클래스입니다.
+ * 클래스를 로드하거나 초기화하지 않고 클래스 파일의 바이트에서 어노테이션과 인터페이스를 확인하므로,
+ * 조건에 맞는 클래스만 로드할 수 있습니다.
+ *
+ * @author hypernova1
+ * @see ClassMetadata
+ * @see BeanClassLoader
+ */
+final class ClassPathScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassPathScanner.class);
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final ClassLoader classLoader;
+
+    private final Map<String, Boolean> componentAnnotations = new HashMap<>();
+
+    private ClassPathScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param classLoader 클래스 경로를 가져올 클래스 로더
+     * @return ClassPathScanner 인스턴스
+     * */
+    static ClassPathScanner of(ClassLoader classLoader) {
+        return new ClassPathScanner(classLoader);
+    }
+
+    /**
+     * 패키지 아래의 모든 클래스 정보를 반환합니다.
+     *
+     * @param packageName 패키지 이름
+     * @return 클래스 정보 목록
+     * */
+    List<ClassMetadata> scan(String packageName) {
+        List<ClassMetadata> classes = new ArrayList<>();
+        forEachClass(packageName, metadata -> {
+            classes.add(metadata);
+            return false;
+        });
+        return classes;
+    }
+
+    /**
+     * 클래스 경로 전체에서 조건에 맞는 첫 번째 클래스 정보를 반환합니다. 디렉토리를 jar 파일보다 먼저 탐색합니다.
+     *
+     * @param condition 조건
+     * @return 클래스 정보, 없다면 null
+     * */
+    ClassMetadata findFirst(Predicate<ClassMetadata> condition) {
+        ClassMetadata[] found = new ClassMetadata[1];
+        forEachClass("", metadata -> {
+            if (!condition.test(metadata)) return false;
+            found[0] = metadata;
+            return true;
+        });
+        return found[0];
+    }
+
+    /**
+     * Component 어노테이션 혹은 Component가 선언된 어노테이션이 붙어 있는지 확인합니다.
+     * 어노테이션에 선언된 어노테이션은 클래스 파일을 읽어 재귀적으로 확인합니다.
+     *
+     * @param metadata 클래스 정보
+     * @return 컴포넌트 여부
+     * */
+    boolean isComponent(ClassMetadata metadata) {
+        for (String annotationName : metadata.getAnnotationNames()) {
+            if (isComponentAnnotation(annotationName, new HashSet<>())) return true;
+        }
+        return false;
+    }
+
+    private boolean isComponentAnnotation(String annotationName, Set<String> visited) {
+        if (annotationName.equals(Component.class.getName())) return true;
+        if (annotationName.startsWith("java.") || !visited.add(annotationName)) return false;
+        Boolean cached = componentAnnotations.get(annotationName);
+        if (cached != null) return cached;
+        boolean result = false;
+        ClassMetadata annotation = readClass(annotationName);
+        if (annotation != null) {
+            for (String metaAnnotationName : annotation.getAnnotationNames()) {
+                if (!isComponentAnnotation(metaAnnotationName, visited)) continue;
+                result = true;
+                break;
+            }
+        }
+        componentAnnotations.put(annotationName, result);
+        return result;
+    }
+
+    /**
+     * 클래스 로더에서 클래스 파일을 찾아 클래스 정보를 읽습니다.
+     *
+     * @param className 클래스 이름
+     * @return 클래스 정보, 찾을 수 없다면 null
+     * */
+    private ClassMetadata readClass(String className) {
+        try (InputStream in = classLoader.getResourceAsStream(className.replace('.', '/') + CLASS_FILE_SUFFIX)) {
+            if (in == null) return null;
+            return ClassMetadata.read(in);
+        } catch (IOException e) {
+            logger.warn("failed to read class file: {}", className, e);
+            return null;
+        }
+    }
+
+    /**
+     * 패키지 아래의 클래스 파일을 하나씩 읽어 방문합니다. 방문자가 true를 반환하면 탐색을 멈춥니다.
+     *
+     * @param packageName 패키지 이름
+     * @param visitor 방문자
+     * */
+    private void forEachClass(String packageName, Predicate<ClassMetadata> visitor) {
+        String path = packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+        for (File root : getClassPathRoots()) {
+            boolean stopped = root.isDirectory()
+                    ? scanDirectory(new File(root, path), visitor)
+                    : scanJar(root, path, visitor);
+            if (stopped) return;
+        }
+    }
+
+    /**
+     * 디렉토리를 재귀적으로 탐색합니다.
+     *
+     * @param directory 디렉토리
+     * @param visitor 방문자
+     * @return 탐색을 멈췄는지 여부
+     * */
+    private boolean scanDirectory(File directory, Predicate<ClassMetadata> visitor) {
+        File[] files = directory.listFiles();
+        if (files == null) return false;
+        for (File file : files) {
+            if (file.isDirectory()) {
+                if (scanDirectory(file, visitor)) return true;
+                continue;
+            }
+            if (!isClassFile(file.getName())) continue;
+            try (InputStream in = new FileInputStream(file)) {
+                if (visit(in, file.getPath(), visitor)) return true;
+            } catch (IOException e) {
+                logger.warn("failed to read class file: {}", file, e);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * jar 파일에서 경로로 시작하는 엔트리를 탐색합니다.
+     *
+     * @param jar jar 파일
+     * @param path 패키지 경로
+     * @param visitor 방문자
+     * @return 탐색을 멈췄는지 여부
+     * */
+    private boolean scanJar(File jar, String path, Predicate<ClassMetadata> visitor) {
+        try (JarFile jarFile = new JarFile(jar)) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.startsWith(path) || name.startsWith("META-INF/") || !isClassFile(name)) continue;
+                try (InputStream in = jarFile.getInputStream(entry)) {
+                    if (visit(in, name, visitor)) return true;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("failed to read jar file: {}", jar, e);
+        }
+        return false;
+    }
+
+    private boolean visit(InputStream in, String location, Predicate<ClassMetadata> visitor) {
+        try {
+            return visitor.test(ClassMetadata.read(in));
+        } catch (IOException e) {
+            logger.debug("skip unreadable class file: {}", location, e);
+            return false;
+        }
+    }
+
+    /**
+     * 클래스 경로의 디렉토리와 jar 파일 목록을 반환합니다. 디렉토리가 먼저 오도록 정렬합니다.
+     *
+     * @return 클래스 경로 목록
+     * */
+    private List<File> getClassPathRoots() {
+        Set<File> directories = new LinkedHashSet<>();
+        Set<File> jars = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources("");
+            while (resources.hasMoreElements()) {
+                File file = toFile(resources.nextElement());
+                if (file != null && file.isDirectory()) directories.add(file);
+            }
+            Enumeration<URL> manifests = classLoader.getResources(JarFile.MANIFEST_NAME);
+            while (manifests.hasMoreElements()) {
+                URL manifest = manifests.nextElement();
+                if (!"jar".equals(manifest.getProtocol())) continue;
+                File file = toFile(((JarURLConnection) manifest.openConnection()).getJarFileURL());
+                if (file != null && file.isFile()) jars.add(file);
+            }
+        } catch (IOException e) {
+            logger.warn("failed to read class path", e);
+        }
+        List<File> roots = new ArrayList<>(directories);
+        roots.addAll(jars);
+        return roots;
+    }
+
+    private File toFile(URL url) {
+        if (!"file".equals(url.getProtocol())) return null;
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return new File(url.getFile());
+        }
+    }
+
+    private boolean isClassFile(String name) {
+        return name.endsWith(CLASS_FILE_SUFFIX) && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.sam.server.context;
+
+import org.sam.server.annotation.component.Handler;
+import org.sam.server.annotation.handle.RequestMapping;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핸들러 메서드에 선언된 경로를 핸들러 클래스의 경로와 합쳐 반환하는 클래스입니다.
+ * 경로 파라미터는 {name} 형태 그대로 남겨둡니다.
+ *
+ * @author hypernova1
+ */
+public final class HandlerPaths {
+
+    private static final Map<Method, String> routes = new ConcurrentHashMap<>();
+
+    private HandlerPaths() {}
+
+    /**
+     * 핸들러 메서드를 대표하는 경로 템플릿을 반환합니다. 경로가 여러 개라면 처음 선언된 경로를 사용합니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     * @return 경로 템플릿
+     * */
+    public static String routeOf(HandlerInfo handlerInfo) {
+        Method handlerMethod = handlerInfo.getMethod();
+        String route = routes.get(handlerMethod);
+        if (route != null) return route;
+        List<String> paths = of(handlerInfo.getInstance().getClass(), handlerMethod);
+        route = paths.isEmpty() ? "/" : paths.get(0);
+        routes.put(handlerMethod, route);
+        return route;
+    }
+
+    /**
+     * 핸들러 메서드의 전체 경로 목록을 반환합니다. 요청 매핑 어노테이션이 없다면 빈 목록을 반환합니다.
+     *
+     * @param handlerClass 핸들러 클래스
+     * @param handlerMethod 핸들러 메서드
+     * @return 경로 목록
+     * */
+    public static List<String> of(Class<?> handlerClass, Method handlerMethod) {
+        Handler handlerAnnotation = handlerClass.getDeclaredAnnotation(Handler.class);
+        String handlerPath = handlerAnnotation != null ? normalize(handlerAnnotation.value()) : "";
+        List<String> paths = new ArrayList<>();
+        for (Annotation annotation : handlerMethod.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getDeclaredAnnotation(RequestMapping.class) == null) continue;
+            String path = handlerPath + normalize(getPath(annotation));
+            paths.add(path.isEmpty() ? "/" : path);
+        }
+        return paths;
+    }
+
+    /**
+     * 핸들러 메서드의 HTTP Method와 전체 경로를 "GET /path" 형식으로 반환합니다.
+     *
+     * @param handlerClass 핸들러 클래스
+     * @param handlerMethod 핸들러 메서드
+     * @return 매핑 목록
+     * */
+    public static List<String> mappingsOf(Class<?> handlerClass, Method handlerMethod) {
+        Handler handlerAnnotation = handlerClass.getDeclaredAnnotation(Handler.class);
+        String handlerPath = handlerAnnotation != null ? normalize(handlerAnnotation.value()) : "";
+        List<String> mappings = new ArrayList<>();
+        for (Annotation annotation : handlerMethod.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getDeclaredAnnotation(RequestMapping.class) == null) continue;
+            String path = handlerPath + normalize(getPath(annotation));
+            mappings.add(getMethod(annotation) + " " + (path.isEmpty() ? "/" : path));
+        }
+        return mappings;
+    }
+
+    private static String getMethod(Annotation annotation) {
+        try {
+            return String.valueOf(annotation.annotationType().getMethod("method").invoke(annotation));
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return "ANY";
+        }
+    }
+
+    private static String getPath(Annotation annotation) {
+        try {
+            return String.valueOf(annotation.annotationType().getMethod("value").invoke(annotation));
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return "";
+        }
+    }
+
+    private static String normalize(String path) {
+        if (path.isEmpty() || path.equals("/")) return "";
+        if (!path.startsWith("/")) path = "/" + path;
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+}
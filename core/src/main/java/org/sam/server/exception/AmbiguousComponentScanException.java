@@ -0,0 +1,14 @@
+package org.sam.server.exception;
+
+import java.util.Collection;
+
+/**
+ * ComponentScan이 선언된 패키지가 여러 개이고 하나의 루트 패키지로 정할 수 없을 때 발생합니다.
+ *
+ * @author hypernova1
+ * */
+public class AmbiguousComponentScanException extends RuntimeException {
+    public AmbiguousComponentScanException(Collection<String> packageNames) {
+        super("ComponentScan declared in unrelated packages: " + packageNames);
+    }
+}
@@ -0,0 +1,19 @@
+package org.sam.server.exception;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 빈 사이에 순환 의존이 있어 생성 순서를 정할 수 없을 때 발생합니다.
+ *
+ * @author hypernova1
+ * */
+public class CircularDependencyException extends RuntimeException {
+
+    public CircularDependencyException(List<Class<?>> cycle) {
+        super("Circular dependency between beans: " + cycle.stream()
+                .map(Class::getName)
+                .collect(Collectors.joining(" -> ")));
+    }
+
+}
@@ -0,0 +1,12 @@
+package org.sam.server.exception;
+
+/**
+ * 핸들러 메서드를 실행하다가 예외가 발생했을 때 발생합니다.
+ *
+ * @author hypernova1
+ * */
+public class HandlerExecutionException extends RuntimeException {
+    public HandlerExecutionException(String handlerName, Throwable cause) {
+        super("handler failed: " + handlerName, cause);
+    }
+}
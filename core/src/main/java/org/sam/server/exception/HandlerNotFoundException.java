@@ -0,0 +1,29 @@
+package org.sam.server.exception;
+
+/**
+ * 요청에 대한 핸들러를 찾지 못했을 시 발생합니다.
+ *
+ * @author hypernova1
+ * */
+public class HandlerNotFoundException extends RuntimeException {
+
+    private final boolean pathExists;
+
+    public HandlerNotFoundException() {
+        this(false);
+    }
+
+    public HandlerNotFoundException(boolean pathExists) {
+        super("handler not found");
+        this.pathExists = pathExists;
+    }
+
+    /**
+     * 경로는 일치하지만 HTTP Method가 다른 핸들러가 있는지 확인합니다.
+     *
+     * @return 경로가 일치하는 핸들러 존재 여부
+     * */
+    public boolean isPathExists() {
+        return pathExists;
+    }
+}
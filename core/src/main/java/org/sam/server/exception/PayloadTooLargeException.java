@@ -0,0 +1,12 @@
+package org.sam.server.exception;
+
+/**
+ * 요청 바디의 크기가 server.max-body-size를 넘을 시 발생합니다.
+ *
+ * @author hypernova1
+ * */
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(long length, long maxLength) {
+        super("request body too large: " + length + " > " + maxLength);
+    }
+}
@@ -0,0 +1,14 @@
+package org.sam.server.exception;
+
+/**
+ * 서버 시작에 걸린 시간이 startup.budget-ms를 넘었을 때 발생합니다.
+ *
+ * @author hypernova1
+ * */
+public class StartupBudgetExceededException extends RuntimeException {
+
+    public StartupBudgetExceededException(long elapsedMillis, long budgetMillis) {
+        super("Startup took " + elapsedMillis + " ms, exceeding the budget of " + budgetMillis + " ms");
+    }
+
+}
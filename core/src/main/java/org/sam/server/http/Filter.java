@@ -0,0 +1,35 @@
+package org.sam.server.http;
+
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+/**
+ * 핸들러를 찾기 전에 요청을 가로채는 필터입니다. 정적 자원과 핸들러가 없는 요청에도 실행됩니다. WebFilter를 선언하면 빈으로 생성되어 URL 패턴과 일치하는 요청에 실행됩니다.
+ * 다음 필터로 넘기려면 chain.doFilter를 호출하며, 호출하지 않고 끝낸다면 직접 응답을 써야 합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.annotation.WebFilter
+ * @see FilterChain
+ * */
+public interface Filter {
+
+    /**
+     * 필터가 생성된 후 한 번 실행됩니다.
+     * */
+    default void init() {}
+
+    /**
+     * 요청을 처리합니다.
+     *
+     * @param request 요청 인스턴스
+     * @param response 응답 인스턴스
+     * @param chain 다음 필터 혹은 핸들러를 실행하는 체인
+     * */
+    void doFilter(Request request, Response response, FilterChain chain);
+
+    /**
+     * 서버가 종료될 때 실행됩니다.
+     * */
+    default void destroy() {}
+
+}
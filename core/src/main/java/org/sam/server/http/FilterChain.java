@@ -0,0 +1,67 @@
+package org.sam.server.http;
+
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 필터를 순서대로 실행하는 불변 체인입니다. 필터 배열의 위치마다 체인을 미리 만들어 연결해 두므로,
+ * 요청을 처리할 때는 인스턴스를 만들지 않고 다음 위치의 체인으로 넘어가기만 합니다. 마지막 위치는 핸들러를 실행합니다.
+ *
+ * @author hypernova1
+ * @see Filter
+ * */
+public class FilterChain {
+
+    private final Filter[] filters;
+
+    private final int index;
+
+    private final FilterChain next;
+
+    private final BiConsumer<Request, Response> endpoint;
+
+    private FilterChain(Filter[] filters, int index, BiConsumer<Request, Response> endpoint) {
+        this.filters = filters;
+        this.index = index;
+        this.endpoint = endpoint;
+        this.next = index < filters.length ? new FilterChain(filters, index + 1, endpoint) : null;
+    }
+
+    /**
+     * 필터 목록을 순서대로 실행한 후 마지막에 endpoint를 실행하는 체인을 생성합니다.
+     *
+     * @param filters 필터 목록
+     * @param endpoint 모든 필터를 통과한 후 실행할 함수
+     * @return 첫 번째 필터부터 실행하는 체인
+     * */
+    public static FilterChain of(List<Filter> filters, BiConsumer<Request, Response> endpoint) {
+        return new FilterChain(filters.toArray(new Filter[0]), 0, endpoint);
+    }
+
+    /**
+     * 현재 위치의 필터를 실행합니다. 모든 필터를 통과했다면 endpoint를 실행합니다.
+     *
+     * @param request 요청 인스턴스
+     * @param response 응답 인스턴스
+     * */
+    public void doFilter(Request request, Response response) {
+        if (next == null) {
+            endpoint.accept(request, response);
+            return;
+        }
+        filters[index].doFilter(request, response, next);
+    }
+
+    /**
+     * 체인에 포함된 필터의 수를 반환합니다.
+     *
+     * @return 필터 수
+     * */
+    public int size() {
+        return filters.length;
+    }
+
+}
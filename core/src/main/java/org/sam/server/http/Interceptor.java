@@ -5,9 +5,11 @@ import org.sam.server.http.web.Response;
 
 /**
  * 핸들러 전/후로 실행되는 메서드를 가진 인터페이스입니다.
- * 상속 받아 구현하면 핸들러 실행 전/후로 호출 됩니다.
+ * 상속 받아 구현하면 빈으로 생성되어 핸들러 실행 전/후로 호출 됩니다. 생성자 파라미터로 다른 빈을 주입 받을 수 있습니다.
+ * 적용할 경로와 순서는 InterceptorMapping으로 지정합니다.
  *
  * @author hypernova1
+ * @see org.sam.server.annotation.InterceptorMapping
  * */
 public interface Interceptor {
 
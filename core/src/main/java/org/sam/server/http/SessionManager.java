@@ -36,6 +36,15 @@ public class SessionManager {
                 .findFirst().orElse(null);
     }
 
+    /**
+     * 저장된 세션의 수를 반환합니다.
+     *
+     * @return 세션 수
+     * */
+    public static int getSessionCount() {
+        return sessionList.size();
+    }
+
     /**
      * 세션을 삭제합니다.
      *
@@ -0,0 +1,243 @@
+package org.sam.server.http.buffer;
+
+import org.sam.server.common.ServerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 요청 파싱과 응답 쓰기에 사용하는 ByteBuffer를 재사용하는 버퍼 풀입니다.
+ * 큰 슬랩을 한 번에 할당한 뒤 같은 크기의 청크로 잘라 나눠주며, 쓰레드마다 작은 캐시를 두어 경합을 줄입니다.
+ * 디버그 모드에서는 반환되지 않은 버퍼를 추적하여 로그로 남깁니다.
+ *
+ * @author hypernova1
+ * @see PooledBuffer
+ */
+public class ByteBufferPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ByteBufferPool.class);
+
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private static final int CHUNKS_PER_SLAB = 64;
+
+    private final int chunkSize;
+
+    private final int maxSlabs;
+
+    private final int localCacheSize;
+
+    private final boolean direct;
+
+    private final boolean leakDetection;
+
+    private final Queue<ByteBuffer> sharedChunks = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<ArrayDeque<ByteBuffer>> localChunks = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final ThreadLocal<byte[]> scratch;
+
+    private final ReferenceQueue<PooledBuffer> leakQueue = new ReferenceQueue<>();
+
+    private final Set<LeakTracker> trackers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private int slabCount;
+
+    /**
+     * 버퍼 풀을 생성합니다.
+     *
+     * @param chunkSize 청크 하나의 크기
+     * @param maxChunks 풀에서 관리할 최대 청크 수
+     * @param localCacheSize 쓰레드마다 보관할 청크 수
+     * @param direct 다이렉트 버퍼 사용 여부
+     * @param leakDetection 누수 감지 여부
+     * */
+    public ByteBufferPool(int chunkSize, int maxChunks, int localCacheSize, boolean direct, boolean leakDetection) {
+        this.chunkSize = chunkSize;
+        this.maxSlabs = Math.max(1, (maxChunks + CHUNKS_PER_SLAB - 1) / CHUNKS_PER_SLAB);
+        this.localCacheSize = localCacheSize;
+        this.direct = direct;
+        this.leakDetection = leakDetection;
+        this.scratch = ThreadLocal.withInitial(() -> new byte[chunkSize]);
+    }
+
+    /**
+     * 서버 설정을 기반으로 생성된 공용 버퍼 풀을 반환합니다.
+     *
+     * @return 공용 버퍼 풀
+     * */
+    public static ByteBufferPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * 청크 크기의 버퍼를 가져옵니다.
+     *
+     * @return 버퍼
+     * */
+    public PooledBuffer acquire() {
+        return acquire(chunkSize);
+    }
+
+    /**
+     * 최소 용량 이상의 버퍼를 가져옵니다. 청크 크기보다 크다면 풀을 거치지 않고 할당합니다.
+     *
+     * @param capacity 최소 용량
+     * @return 버퍼
+     * */
+    public PooledBuffer acquire(int capacity) {
+        reportLeaks();
+        if (capacity > chunkSize) {
+            return new PooledBuffer(this, allocate(capacity), false);
+        }
+        ByteBuffer chunk = localChunks.get().pollFirst();
+        if (chunk == null) {
+            chunk = sharedChunks.poll();
+        }
+        if (chunk == null) {
+            chunk = allocateSlab();
+        }
+        if (chunk == null) {
+            return new PooledBuffer(this, allocate(chunkSize), false);
+        }
+        ((Buffer) chunk).clear();
+        return new PooledBuffer(this, chunk, true);
+    }
+
+    /**
+     * 청크 하나의 크기를 반환합니다.
+     *
+     * @return 청크 크기
+     * */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 다이렉트 버퍼를 스트림으로 복사할 때 사용하는 쓰레드 전용 배열을 반환합니다.
+     *
+     * @return 청크 크기의 배열
+     * */
+    byte[] scratch() {
+        return scratch.get();
+    }
+
+    /**
+     * 사용이 끝난 청크를 풀에 반환합니다.
+     *
+     * @param chunk 청크
+     * */
+    void recycle(ByteBuffer chunk) {
+        ArrayDeque<ByteBuffer> local = localChunks.get();
+        if (local.size() < localCacheSize) {
+            local.offerFirst(chunk);
+            return;
+        }
+        sharedChunks.offer(chunk);
+    }
+
+    /**
+     * 새로운 슬랩을 할당하여 청크로 나눈 뒤 하나를 반환합니다. 최대 슬랩 수를 넘으면 null을 반환합니다.
+     *
+     * @return 청크
+     * */
+    private synchronized ByteBuffer allocateSlab() {
+        ByteBuffer chunk = sharedChunks.poll();
+        if (chunk != null) return chunk;
+        if (slabCount >= maxSlabs) return null;
+        slabCount++;
+        ByteBuffer slab = allocate(chunkSize * CHUNKS_PER_SLAB);
+        for (int i = 1; i < CHUNKS_PER_SLAB; i++) {
+            sharedChunks.offer(slice(slab, i));
+        }
+        return slice(slab, 0);
+    }
+
+    /**
+     * 슬랩에서 해당 순번의 청크를 잘라냅니다.
+     *
+     * @param slab 슬랩
+     * @param index 청크 순번
+     * @return 청크
+     * */
+    private ByteBuffer slice(ByteBuffer slab, int index) {
+        ByteBuffer duplicate = slab.duplicate();
+        ((Buffer) duplicate).position(index * chunkSize);
+        ((Buffer) duplicate).limit((index + 1) * chunkSize);
+        return duplicate.slice();
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * 누수 감지가 켜져 있다면 버퍼를 추적합니다.
+     *
+     * @param buffer 추적할 버퍼
+     * @return 누수 추적기
+     * */
+    LeakTracker track(PooledBuffer buffer) {
+        if (!leakDetection) return null;
+        LeakTracker tracker = new LeakTracker(buffer, leakQueue);
+        trackers.add(tracker);
+        return tracker;
+    }
+
+    /**
+     * 반환되지 않은 채로 수거된 버퍼를 찾아 할당 위치와 함께 로그를 남깁니다.
+     * */
+    private void reportLeaks() {
+        if (!leakDetection) return;
+        LeakTracker tracker;
+        while ((tracker = (LeakTracker) leakQueue.poll()) != null) {
+            if (!trackers.remove(tracker)) continue;
+            logger.error("pooled buffer was not released", tracker.allocation);
+        }
+    }
+
+    /**
+     * 버퍼가 반환되지 않고 수거되었는지 확인하기 위한 참조입니다.
+     */
+    static final class LeakTracker extends PhantomReference<PooledBuffer> {
+
+        private final Throwable allocation;
+
+        private LeakTracker(PooledBuffer referent, ReferenceQueue<PooledBuffer> queue) {
+            super(referent, queue);
+            this.allocation = new Throwable("buffer acquired at");
+        }
+    }
+
+    /**
+     * 버퍼를 반환한 경우 추적을 멈춥니다.
+     *
+     * @param tracker 누수 추적기
+     * */
+    void untrack(LeakTracker tracker) {
+        if (tracker == null) return;
+        trackers.remove(tracker);
+        tracker.clear();
+    }
+
+    private static class Holder {
+        private static final ByteBufferPool INSTANCE = new ByteBufferPool(
+                ServerProperties.getInt("buffer-pool.chunk-size", ServerProperties.getInt("file-buffer-size", DEFAULT_CHUNK_SIZE)),
+                ServerProperties.getInt("buffer-pool.max-chunks", 4096),
+                ServerProperties.getInt("buffer-pool.thread-cache-size", 8),
+                ServerProperties.getBoolean("buffer-pool.direct", true),
+                ServerProperties.getBoolean("buffer-pool.debug", false)
+        );
+    }
+
+}
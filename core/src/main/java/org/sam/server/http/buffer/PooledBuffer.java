@@ -0,0 +1,307 @@
+package org.sam.server.http.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 버퍼 풀에서 빌려온 ByteBuffer를 감싸는 클래스입니다. 사용이 끝나면 반드시 release를 호출해야 합니다.
+ * 용량이 부족하면 더 큰 버퍼로 옮겨가며, 기존 청크는 풀에 반환됩니다.
+ *
+ * @author hypernova1
+ * @see ByteBufferPool
+ */
+public final class PooledBuffer implements AutoCloseable {
+
+    private final ByteBufferPool pool;
+
+    private final ByteBufferPool.LeakTracker tracker;
+
+    private ByteBuffer buffer;
+
+    private boolean pooled;
+
+    private boolean released;
+
+    PooledBuffer(ByteBufferPool pool, ByteBuffer buffer, boolean pooled) {
+        this.pool = pool;
+        this.buffer = buffer;
+        this.pooled = pooled;
+        this.tracker = pool.track(this);
+    }
+
+    /**
+     * 내부 ByteBuffer를 반환합니다. 용량이 늘어나면 다른 인스턴스로 바뀌므로 참조를 보관하지 않아야 합니다.
+     *
+     * @return ByteBuffer
+     * */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * 현재까지 쓰여진 바이트 수를 반환합니다.
+     *
+     * @return 쓰여진 바이트 수
+     * */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * 해당 위치의 바이트를 반환합니다.
+     *
+     * @param index 위치
+     * @return 바이트
+     * */
+    public byte get(int index) {
+        return buffer.get(index);
+    }
+
+    /**
+     * 해당 위치부터 length 바이트를 배열로 복사합니다.
+     *
+     * @param index 시작 위치
+     * @param dst 복사될 배열
+     * @param offset 배열의 시작 위치
+     * @param length 길이
+     * */
+    public void get(int index, byte[] dst, int offset, int length) {
+        if (buffer.hasArray()) {
+            System.arraycopy(buffer.array(), buffer.arrayOffset() + index, dst, offset, length);
+            return;
+        }
+        ByteBuffer source = slice(index, index + length);
+        source.get(dst, offset, length);
+    }
+
+    /**
+     * 바이트 하나를 씁니다.
+     *
+     * @param b 바이트
+     * @return 현재 인스턴스
+     * */
+    public PooledBuffer put(byte b) {
+        ensureWritable(1);
+        buffer.put(b);
+        return this;
+    }
+
+    /**
+     * 바이트 배열을 씁니다.
+     *
+     * @param src 바이트 배열
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 현재 인스턴스
+     * */
+    public PooledBuffer put(byte[] src, int offset, int length) {
+        ensureWritable(length);
+        buffer.put(src, offset, length);
+        return this;
+    }
+
+    /**
+     * 바이트 배열을 씁니다.
+     *
+     * @param src 바이트 배열
+     * @return 현재 인스턴스
+     * */
+    public PooledBuffer put(byte[] src) {
+        return put(src, 0, src.length);
+    }
+
+    /**
+     * 버퍼에 쓰는 OutputStream을 반환합니다. 직렬화 결과를 중간 문자열 없이 버퍼에 바로 쓸 때 사용합니다.
+     *
+     * @return 버퍼에 쓰는 OutputStream
+     * */
+    public OutputStream asOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                put((byte) b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                put(b, off, len);
+            }
+        };
+    }
+
+    /**
+     * 문자열을 씁니다. ASCII 문자는 그대로 쓰고 그 외의 문자는 UTF-8로 인코딩합니다.
+     *
+     * @param value 문자열
+     * @return 현재 인스턴스
+     * */
+    public PooledBuffer put(String value) {
+        int length = value.length();
+        ensureWritable(length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return put(value.substring(i).getBytes(StandardCharsets.UTF_8));
+            }
+            buffer.put((byte) c);
+        }
+        return this;
+    }
+
+    /**
+     * 정수를 10진수 문자열로 씁니다. 중간 문자열을 만들지 않습니다.
+     *
+     * @param value 정수
+     * @return 현재 인스턴스
+     * */
+    public PooledBuffer put(long value) {
+        if (value == 0) {
+            return put((byte) '0');
+        }
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) return put(Long.toString(value));
+            put((byte) '-');
+            value = -value;
+        }
+        int digits = 0;
+        for (long v = value; v > 0; v /= 10) digits++;
+        ensureWritable(digits);
+        int end = buffer.position() + digits;
+        for (int i = end - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        ((Buffer) buffer).position(end);
+        return this;
+    }
+
+    /**
+     * 스트림에서 최대 length 바이트를 읽어 씁니다.
+     *
+     * @param in 읽을 스트림
+     * @param length 읽을 최대 길이
+     * @return 읽은 바이트 수, 스트림이 끝났다면 -1
+     * @throws IOException 스트림을 읽다가 오류 발생시
+     * */
+    public int readFrom(InputStream in, int length) throws IOException {
+        ensureWritable(length);
+        if (buffer.hasArray()) {
+            int read = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            if (read > 0) ((Buffer) buffer).position(buffer.position() + read);
+            return read;
+        }
+        byte[] scratch = pool.scratch();
+        int read = in.read(scratch, 0, Math.min(length, scratch.length));
+        if (read > 0) buffer.put(scratch, 0, read);
+        return read;
+    }
+
+    /**
+     * 쓰여진 범위의 바이트를 스트림에 씁니다.
+     *
+     * @param out 출력 스트림
+     * @param from 시작 위치
+     * @param to 끝 위치
+     * @throws IOException 스트림에 쓰다가 오류 발생시
+     * */
+    public void writeTo(OutputStream out, int from, int to) throws IOException {
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + from, to - from);
+            return;
+        }
+        byte[] scratch = pool.scratch();
+        ByteBuffer source = slice(from, to);
+        while (source.hasRemaining()) {
+            int length = Math.min(source.remaining(), scratch.length);
+            source.get(scratch, 0, length);
+            out.write(scratch, 0, length);
+        }
+    }
+
+    /**
+     * 해당 범위의 바이트를 문자열로 변환합니다.
+     *
+     * @param from 시작 위치
+     * @param to 끝 위치
+     * @param charset 문자셋
+     * @return 문자열
+     * */
+    public String toString(int from, int to, Charset charset) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + from, to - from, charset);
+        }
+        return new String(toByteArray(from, to), charset);
+    }
+
+    /**
+     * 해당 범위의 바이트를 새로운 배열로 복사합니다.
+     *
+     * @param from 시작 위치
+     * @param to 끝 위치
+     * @return 바이트 배열
+     * */
+    public byte[] toByteArray(int from, int to) {
+        byte[] bytes = new byte[Math.max(0, to - from)];
+        slice(from, to).get(bytes);
+        return bytes;
+    }
+
+    /**
+     * 해당 범위를 가리키는 ByteBuffer를 반환합니다. 내부 버퍼의 위치는 바뀌지 않습니다.
+     *
+     * @param from 시작 위치
+     * @param to 끝 위치
+     * @return 해당 범위의 ByteBuffer
+     * */
+    public ByteBuffer slice(int from, int to) {
+        ByteBuffer source = buffer.duplicate();
+        ((Buffer) source).limit(to);
+        ((Buffer) source).position(from);
+        return source;
+    }
+
+    /**
+     * 쓰여진 내용을 비우고 처음부터 다시 씁니다.
+     * */
+    public void clear() {
+        ((Buffer) buffer).clear();
+    }
+
+    /**
+     * 남은 용량이 부족하다면 더 큰 버퍼로 옮깁니다.
+     *
+     * @param length 필요한 용량
+     * */
+    public void ensureWritable(int length) {
+        if (buffer.remaining() >= length) return;
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+        ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        ((Buffer) buffer).flip();
+        grown.put(buffer);
+        if (pooled) pool.recycle(buffer);
+        buffer = grown;
+        pooled = false;
+    }
+
+    /**
+     * 버퍼를 풀에 반환합니다. 여러 번 호출해도 한 번만 반환됩니다.
+     * */
+    public void release() {
+        if (released) return;
+        released = true;
+        pool.untrack(tracker);
+        if (pooled) pool.recycle(buffer);
+        buffer = null;
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+}
@@ -0,0 +1,144 @@
+package org.sam.server.http.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+
+/**
+ * 버퍼 풀의 청크를 읽기 버퍼로 사용하는 InputStream입니다. BufferedInputStream 대신 사용하여 요청마다 배열을 할당하지 않습니다.
+ * 사용이 끝나면 release를 호출하여 청크를 반환해야 하며, 감싸고 있는 스트림은 닫지 않습니다.
+ * 읽기 기한을 지정하면 기한이 지난 뒤에는 감싸고 있는 스트림을 더 읽지 않고 SocketTimeoutException을 던집니다.
+ *
+ * @author hypernova1
+ * @see ByteBufferPool
+ */
+public class PooledInputStream extends InputStream {
+
+    private final InputStream in;
+
+    private final PooledBuffer buffer;
+
+    private int readIndex;
+
+    private long deadline;
+
+    public PooledInputStream(InputStream in, ByteBufferPool pool) {
+        this.in = in;
+        this.buffer = pool.acquire();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!hasBuffered() && !fill()) return -1;
+        return buffer.get(readIndex++) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (!hasBuffered()) {
+            if (len >= buffer.buffer().capacity()) {
+                checkDeadline();
+                return in.read(b, off, len);
+            }
+            if (!fill()) return -1;
+        }
+        int length = Math.min(len, buffer.position() - readIndex);
+        buffer.get(readIndex, b, off, length);
+        readIndex += length;
+        return length;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) return 0;
+        if (!hasBuffered() && !fill()) return 0;
+        int length = (int) Math.min(n, buffered());
+        readIndex += length;
+        return length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return buffered() + in.available();
+    }
+
+    /**
+     * 감싸고 있는 스트림을 읽지 않고 읽기 버퍼에 남아 있는 바이트 수를 반환합니다.
+     *
+     * @return 읽기 버퍼에 남은 바이트 수
+     * */
+    public int buffered() {
+        return buffer.position() - readIndex;
+    }
+
+    /**
+     * 읽기 버퍼가 비어 있다면 감싸고 있는 스트림에서 바이트가 들어올 때 까지 기다려 채웁니다.
+     *
+     * @return 읽을 바이트가 있는지 여부, 스트림이 끝났다면 false
+     * @throws IOException 스트림을 읽다가 오류 발생시
+     * */
+    public boolean await() throws IOException {
+        return hasBuffered() || fill();
+    }
+
+    /**
+     * 감싸고 있는 스트림을 읽을 수 있는 기한을 지정합니다.
+     *
+     * @param deadline 기한의 System.nanoTime() 값, 0이라면 기한 없음
+     * */
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    private void checkDeadline() throws SocketTimeoutException {
+        if (deadline != 0 && System.nanoTime() - deadline > 0) {
+            throw new SocketTimeoutException("read deadline exceeded");
+        }
+    }
+
+    /**
+     * 읽기 위치를 옮기지 않고 읽기 버퍼에 남아 있는 바이트를 확인합니다.
+     *
+     * @param offset 현재 읽기 위치로부터의 거리
+     * @return 바이트
+     * */
+    public int peek(int offset) {
+        return buffer.get(readIndex + offset) & 0xff;
+    }
+
+    /**
+     * 읽기 버퍼에 남은 바이트가 있는지 확인합니다.
+     *
+     * @return 남은 바이트 존재 여부
+     * */
+    private boolean hasBuffered() {
+        return buffered() > 0;
+    }
+
+    /**
+     * 감싸고 있는 스트림에서 읽기 버퍼를 채웁니다.
+     *
+     * @return 읽은 바이트가 있는지 여부
+     * @throws IOException 스트림을 읽다가 오류 발생시
+     * */
+    private boolean fill() throws IOException {
+        checkDeadline();
+        buffer.clear();
+        readIndex = 0;
+        return buffer.readFrom(in, buffer.buffer().capacity()) > 0;
+    }
+
+    /**
+     * 읽기 버퍼를 풀에 반환합니다.
+     * */
+    public void release() {
+        buffer.release();
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.sam.server.http.buffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 버퍼 풀의 청크를 쓰기 버퍼로 사용하는 OutputStream입니다. BufferedOutputStream 대신 사용하여 응답마다 배열을 할당하지 않습니다.
+ * 닫을 때 남은 데이터를 내보내고 청크를 풀에 반환합니다.
+ *
+ * @author hypernova1
+ * @see ByteBufferPool
+ */
+public class PooledOutputStream extends OutputStream {
+
+    private final OutputStream out;
+
+    private final PooledBuffer buffer;
+
+    private final int capacity;
+
+    public PooledOutputStream(OutputStream out, ByteBufferPool pool) {
+        this.out = out;
+        this.buffer = pool.acquire();
+        this.capacity = pool.getChunkSize();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (buffer.position() >= capacity) flushBuffer();
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len >= capacity) {
+            flushBuffer();
+            out.write(b, off, len);
+            return;
+        }
+        if (len > capacity - buffer.position()) flushBuffer();
+        buffer.put(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            out.close();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * 쓰기 버퍼의 내용을 감싸고 있는 스트림으로 내보냅니다.
+     *
+     * @throws IOException 스트림에 쓰다가 오류 발생시
+     * */
+    private void flushBuffer() throws IOException {
+        if (buffer.position() == 0) return;
+        buffer.writeTo(out, 0, buffer.position());
+        buffer.clear();
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.sam.server.http.cache;
+
+import org.sam.server.constant.HttpStatus;
+
+/**
+ * 직렬화가 끝난 응답입니다. 응답 상태와 바디의 바이트, 압축된 바디의 바이트를 가지고 있으며 여러 요청에 그대로 씁니다.
+ *
+ * @author hypernova1
+ * @see ResponseCache
+ */
+public final class CachedResponse {
+
+    private final HttpStatus status;
+
+    private final byte[] body;
+
+    private final byte[] gzipBody;
+
+    private final long expiresAt;
+
+    private CachedResponse(HttpStatus status, byte[] body, byte[] gzipBody, long expiresAt) {
+        this.status = status;
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param status 응답 상태
+     * @param body 바디
+     * @param gzipBody gzip으로 압축한 바디, 압축하지 않았다면 null
+     * @param expiresAt 만료 시각의 System.nanoTime() 값
+     * @return CachedResponse 인스턴스
+     * */
+    public static CachedResponse of(HttpStatus status, byte[] body, byte[] gzipBody, long expiresAt) {
+        return new CachedResponse(status, body, gzipBody, expiresAt);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public byte[] getGzipBody() {
+        return gzipBody;
+    }
+
+    public boolean isCompressed() {
+        return gzipBody != null;
+    }
+
+    long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * 만료되었는지 확인합니다.
+     *
+     * @param now 현재의 System.nanoTime() 값
+     * @return 만료 여부
+     * */
+    boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    /**
+     * 저장할 수 있는 2xx 응답인지 확인합니다.
+     *
+     * @return 2xx 응답 여부
+     * */
+    boolean isSuccessful() {
+        return status.getCode().startsWith("2");
+    }
+
+}
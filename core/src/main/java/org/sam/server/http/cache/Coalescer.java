@@ -0,0 +1,78 @@
+package org.sam.server.http.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 작업을 한 번만 실행하는 클래스입니다.
+ * 먼저 들어온 쓰레드가 작업을 실행하고, 실행 중에 같은 키로 들어온 쓰레드는 그 결과를 기다렸다가 함께 반환합니다.
+ * 작업이 예외를 던지면 기다리던 쓰레드도 같은 예외를 던집니다.
+ *
+ * @author hypernova1
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public final class Coalescer<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private Coalescer() {}
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param <K> 키 타입
+     * @param <V> 결과 타입
+     * @return Coalescer 인스턴스
+     * */
+    public static <K, V> Coalescer<K, V> create() {
+        return new Coalescer<>();
+    }
+
+    /**
+     * 키에 해당하는 작업을 실행하고 결과를 반환합니다. 같은 키의 작업이 실행 중이라면 실행하지 않고 그 결과를 기다립니다.
+     *
+     * @param key 키
+     * @param loader 실행할 작업
+     * @return 작업의 결과
+     * */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) return await(running);
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 수를 반환합니다.
+     *
+     * @return 실행 중인 작업의 수
+     * */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.sam.server.http.cache;
+
+import org.sam.server.annotation.handle.SingleFlight;
+import org.sam.server.constant.HttpHeader;
+import org.sam.server.http.web.Request;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight가 선언된 핸들러 메서드의 동시 요청을 묶는 클래스입니다. 핸들러 메서드마다 하나씩 만들어 저장합니다.
+ * 같은 키의 요청이 실행 중이라면 핸들러를 실행하지 않고 먼저 들어온 요청의 직렬화된 응답을 함께 사용합니다.
+ *
+ * @author hypernova1
+ * @see SingleFlight
+ * @see Coalescer
+ */
+public final class RequestCoalescer {
+
+    private static final Map<Method, RequestCoalescer> coalescers = new ConcurrentHashMap<>();
+
+    private static final RequestCoalescer NONE = new RequestCoalescer(new String[0]);
+
+    private final String[] headerNames;
+
+    private final Coalescer<String, CachedResponse> coalescer = Coalescer.create();
+
+    private RequestCoalescer(String[] headerNames) {
+        this.headerNames = headerNames;
+    }
+
+    /**
+     * 핸들러 메서드에 해당하는 인스턴스를 반환합니다. 처음 요청한 메서드라면 생성 후 저장합니다.
+     *
+     * @param handlerMethod 핸들러 메서드
+     * @return RequestCoalescer 인스턴스, SingleFlight가 선언되지 않았다면 null
+     * */
+    public static RequestCoalescer of(Method handlerMethod) {
+        RequestCoalescer requestCoalescer = coalescers.get(handlerMethod);
+        if (requestCoalescer == null) {
+            requestCoalescer = create(handlerMethod);
+            RequestCoalescer saved = coalescers.putIfAbsent(handlerMethod, requestCoalescer);
+            if (saved != null) requestCoalescer = saved;
+        }
+        return requestCoalescer == NONE ? null : requestCoalescer;
+    }
+
+    private static RequestCoalescer create(Method handlerMethod) {
+        SingleFlight singleFlight = handlerMethod.getDeclaredAnnotation(SingleFlight.class);
+        if (singleFlight == null) return NONE;
+        return new RequestCoalescer(singleFlight.headers());
+    }
+
+    /**
+     * HTTP Method, 요청 경로, 이름순으로 정렬한 파라미터, 지정한 헤더와 Cookie 헤더의 값으로 요청을 구분하는 키를 만듭니다.
+     * 세션 아이디도 쿠키로 전달되므로 다른 사용자나 세션의 요청은 응답을 함께 사용하지 않습니다.
+     *
+     * @param request 요청 인스턴스
+     * @return 요청 키
+     * */
+    public String keyOf(Request request) {
+        StringBuilder key = new StringBuilder(request.getMethod().name()).append(' ').append(request.getUrl());
+        char separator = '?';
+        for (Map.Entry<String, String> parameter : new TreeMap<>(request.getParameters()).entrySet()) {
+            key.append(separator).append(parameter.getKey()).append('=').append(parameter.getValue());
+            separator = '&';
+        }
+        for (String headerName : headerNames) {
+            appendHeader(key, headerName, request.getHeader(headerName.toLowerCase()));
+        }
+        appendHeader(key, HttpHeader.COOKIE, request.getHeader(HttpHeader.COOKIE));
+        return key.toString();
+    }
+
+    private static void appendHeader(StringBuilder key, String headerName, String value) {
+        key.append('\n').append(headerName);
+        if (value == null) {
+            key.append('\0');
+        } else {
+            key.append('=').append(value);
+        }
+    }
+
+    /**
+     * 응답을 만들어 반환합니다. 같은 키의 응답을 만드는 중이라면 그 응답을 기다려 반환합니다.
+     *
+     * @param key 요청 키
+     * @param loader 응답 상태와 바디를 만드는 함수
+     * @return 응답
+     * */
+    public CachedResponse execute(String key, Supplier<CachedResponse> loader) {
+        return coalescer.execute(key, loader);
+    }
+
+}
@@ -0,0 +1,198 @@
+package org.sam.server.http.cache;
+
+import org.sam.server.annotation.handle.CacheResponse;
+import org.sam.server.http.web.Request;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CacheResponse가 선언된 핸들러 메서드의 응답을 저장하는 클래스입니다. 핸들러 메서드마다 하나씩 만들어 저장합니다.
+ * 저장된 응답이 없는 키의 동시 요청은 Coalescer로 묶어 한 쓰레드만 응답을 만듭니다.
+ * 저장된 응답이 maxEntries개를 넘으면 만료된 응답을 지우고, 그래도 넘는다면 가장 먼저 만료될 응답을 지웁니다.
+ *
+ * @author hypernova1
+ * @see CacheResponse
+ * @see Coalescer
+ */
+public final class ResponseCache {
+
+    private static final Map<Method, ResponseCache> caches = new ConcurrentHashMap<>();
+
+    private static final ResponseCache NONE = new ResponseCache(0, new String[0], new String[0], false, 0);
+
+    private final long ttlNanos;
+
+    private final String[] parameterNames;
+
+    private final String[] headerNames;
+
+    private final boolean compress;
+
+    private final int maxEntries;
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+
+    private final Coalescer<String, CachedResponse> coalescer = Coalescer.create();
+
+    private ResponseCache(long ttlNanos, String[] parameterNames, String[] headerNames, boolean compress, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        this.parameterNames = parameterNames;
+        this.headerNames = headerNames;
+        this.compress = compress;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 핸들러 메서드에 해당하는 인스턴스를 반환합니다. 처음 요청한 메서드라면 생성 후 저장합니다.
+     *
+     * @param handlerMethod 핸들러 메서드
+     * @return ResponseCache 인스턴스, CacheResponse가 선언되지 않았다면 null
+     * */
+    public static ResponseCache of(Method handlerMethod) {
+        ResponseCache cache = caches.get(handlerMethod);
+        if (cache == null) {
+            cache = create(handlerMethod);
+            ResponseCache saved = caches.putIfAbsent(handlerMethod, cache);
+            if (saved != null) cache = saved;
+        }
+        return cache == NONE ? null : cache;
+    }
+
+    private static ResponseCache create(Method handlerMethod) {
+        CacheResponse cacheResponse = handlerMethod.getDeclaredAnnotation(CacheResponse.class);
+        if (cacheResponse == null) return NONE;
+        return new ResponseCache(
+                cacheResponse.unit().toNanos(cacheResponse.ttl()),
+                cacheResponse.key(),
+                cacheResponse.headers(),
+                cacheResponse.compress(),
+                Math.max(1, cacheResponse.maxEntries()));
+    }
+
+    /**
+     * 요청 경로와 파라미터, 지정한 헤더의 값으로 저장 키를 만듭니다.
+     * 파라미터를 지정하지 않았다면 모든 요청 파라미터를 이름순으로 포함합니다.
+     *
+     * @param request 요청 인스턴스
+     * @return 저장 키
+     * */
+    public String keyOf(Request request) {
+        StringBuilder key = new StringBuilder(request.getUrl());
+        if (parameterNames.length == 0) {
+            for (Map.Entry<String, String> parameter : new TreeMap<>(request.getParameters()).entrySet()) {
+                appendValue(key.append('?').append(parameter.getKey()), parameter.getValue());
+            }
+        }
+        for (String parameterName : parameterNames) {
+            appendValue(key.append('?').append(parameterName), request.getParameter(parameterName));
+        }
+        for (String headerName : headerNames) {
+            appendValue(key.append('\n').append(headerName), request.getHeader(headerName.toLowerCase()));
+        }
+        return key.toString();
+    }
+
+    private static void appendValue(StringBuilder key, String value) {
+        if (value == null) {
+            key.append('\0');
+            return;
+        }
+        key.append('=').append(value);
+    }
+
+    /**
+     * 저장된 응답을 반환합니다.
+     *
+     * @param key 저장 키
+     * @return 저장된 응답, 없거나 만료되었다면 null
+     * */
+    public CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null || cached.isExpired(System.nanoTime())) return null;
+        return cached;
+    }
+
+    /**
+     * 응답을 만들어 저장한 후 반환합니다. 같은 키의 응답을 만드는 중이라면 그 응답을 기다려 반환합니다.
+     *
+     * @param key 저장 키
+     * @param loader 응답 상태와 바디를 만드는 함수
+     * @return 응답
+     * */
+    public CachedResponse load(String key, Supplier<CachedResponse> loader) {
+        return coalescer.execute(key, () -> {
+            CachedResponse cached = get(key);
+            if (cached != null) return cached;
+            CachedResponse loaded = loader.get();
+            if (!loaded.isSuccessful()) return loaded;
+            CachedResponse stored = CachedResponse.of(loaded.getStatus(), loaded.getBody(),
+                    compress ? gzip(loaded.getBody()) : null, System.nanoTime() + ttlNanos);
+            store(key, stored);
+            return stored;
+        });
+    }
+
+    private void store(String key, CachedResponse response) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            evict();
+        }
+        entries.put(key, response);
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(cached -> cached.isExpired(now));
+        if (entries.size() < maxEntries) return;
+        String oldestKey = null;
+        long oldestExpiresAt = 0;
+        for (Map.Entry<String, CachedResponse> entry : entries.entrySet()) {
+            long expiresAt = entry.getValue().getExpiresAt();
+            if (oldestKey == null || expiresAt - oldestExpiresAt < 0) {
+                oldestKey = entry.getKey();
+                oldestExpiresAt = expiresAt;
+            }
+        }
+        if (oldestKey != null) entries.remove(oldestKey);
+    }
+
+    /**
+     * 바디를 gzip으로 압축합니다.
+     *
+     * @param body 바디
+     * @return 압축된 바디
+     * */
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 2));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 저장된 응답의 수를 반환합니다.
+     *
+     * @return 저장된 응답의 수
+     * */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장된 응답을 모두 지웁니다.
+     * */
+    public void clear() {
+        entries.clear();
+    }
+
+}
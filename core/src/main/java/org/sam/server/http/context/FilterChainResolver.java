@@ -0,0 +1,132 @@
+package org.sam.server.http.context;
+
+import org.sam.server.annotation.WebFilter;
+import org.sam.server.http.Filter;
+import org.sam.server.http.FilterChain;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+import org.sam.server.util.PathPattern;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 요청 URL에 해당하는 필터 체인을 찾는 클래스입니다. 필터의 URL 패턴은 생성할 때 한 번만 해석하며,
+ * 핸들러를 찾기 전에 요청 URL과 비교하므로 정적 자원이나 핸들러가 없는 요청에도 패턴이 일치하는 필터가 실행됩니다.
+ * 체인은 URL이 아니라 일치한 필터의 조합마다 한 번 만들어 저장하므로, 저장되는 체인의 수는 요청 URL의 종류와 관계 없이 필터 설정에 따라 정해집니다.
+ * 모든 필터가 모든 경로에 적용되는 필터(/*, /**)라면 URL을 비교하지 않고 미리 만든 하나의 체인을 사용합니다.
+ *
+ * @author hypernova1
+ * @see FilterChain
+ * @see PathPattern
+ */
+final class FilterChainResolver {
+
+    private static final Set<String> CATCH_ALL_PATTERNS = new HashSet<>(Arrays.asList("/*", "/**"));
+
+    private final FilterMapping[] filterMappings;
+
+    private final BiConsumer<Request, Response> endpoint;
+
+    private final FilterChain defaultChain;
+
+    private final boolean catchAllOnly;
+
+    private final Map<Long, FilterChain> chains = new ConcurrentHashMap<>();
+
+    private FilterChainResolver(List<Filter> filters, BiConsumer<Request, Response> endpoint) {
+        this.endpoint = endpoint;
+        this.filterMappings = new FilterMapping[filters.size()];
+        boolean catchAllOnly = true;
+        for (int i = 0; i < filters.size(); i++) {
+            Filter filter = filters.get(i);
+            WebFilter webFilter = filter.getClass().getDeclaredAnnotation(WebFilter.class);
+            String[] patterns = webFilter != null ? webFilter.value() : new String[]{"/*"};
+            filterMappings[i] = FilterMapping.of(filter, patterns);
+            if (!filterMappings[i].catchAll) catchAllOnly = false;
+        }
+        this.catchAllOnly = catchAllOnly;
+        this.defaultChain = FilterChain.of(filters, endpoint);
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param filters 정렬된 필터 목록
+     * @param endpoint 요청이 모든 필터를 통과한 후 실행할 함수
+     * @return FilterChainResolver 인스턴스
+     * */
+    static FilterChainResolver of(List<Filter> filters, BiConsumer<Request, Response> endpoint) {
+        return new FilterChainResolver(filters, endpoint);
+    }
+
+    /**
+     * 요청 URL에 해당하는 필터 체인을 반환합니다.
+     *
+     * @param url 요청 URL
+     * @return 필터 체인
+     * */
+    FilterChain resolve(String url) {
+        if (catchAllOnly) return defaultChain;
+        if (filterMappings.length > Long.SIZE) return createChain(url);
+        long matched = 0;
+        for (int i = 0; i < filterMappings.length; i++) {
+            if (filterMappings[i].matches(url)) matched |= 1L << i;
+        }
+        FilterChain chain = chains.get(matched);
+        if (chain != null) return chain;
+        chains.putIfAbsent(matched, createChain(matched));
+        return chains.get(matched);
+    }
+
+    private FilterChain createChain(long matched) {
+        List<Filter> filters = new ArrayList<>();
+        for (int i = 0; i < filterMappings.length; i++) {
+            if ((matched & 1L << i) != 0) filters.add(filterMappings[i].filter);
+        }
+        return FilterChain.of(filters, endpoint);
+    }
+
+    private FilterChain createChain(String url) {
+        List<Filter> filters = new ArrayList<>();
+        for (FilterMapping filterMapping : filterMappings) {
+            if (filterMapping.matches(url)) filters.add(filterMapping.filter);
+        }
+        return FilterChain.of(filters, endpoint);
+    }
+
+    private static final class FilterMapping {
+
+        private final Filter filter;
+
+        private final PathPattern[] patterns;
+
+        private final boolean catchAll;
+
+        private FilterMapping(Filter filter, PathPattern[] patterns, boolean catchAll) {
+            this.filter = filter;
+            this.patterns = patterns;
+            this.catchAll = catchAll;
+        }
+
+        private static FilterMapping of(Filter filter, String[] patterns) {
+            PathPattern[] pathPatterns = new PathPattern[patterns.length];
+            boolean catchAll = false;
+            for (int i = 0; i < patterns.length; i++) {
+                pathPatterns[i] = PathPattern.of(patterns[i]);
+                if (CATCH_ALL_PATTERNS.contains(patterns[i].trim())) catchAll = true;
+            }
+            return new FilterMapping(filter, pathPatterns, catchAll);
+        }
+
+        private boolean matches(String url) {
+            if (catchAll) return true;
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(url)) return true;
+            }
+            return false;
+        }
+    }
+
+}
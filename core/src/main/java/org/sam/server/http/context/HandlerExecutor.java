@@ -0,0 +1,490 @@
+package org.sam.server.http.context;
+
+import org.sam.server.annotation.CrossOrigin;
+import org.sam.server.common.ServerProperties;
+import org.sam.server.annotation.handle.JsonRequest;
+import org.sam.server.constant.ContentType;
+import org.sam.server.constant.HttpHeader;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.context.BeanContainer;
+import org.sam.server.context.HandlerInfo;
+import org.sam.server.context.HandlerPaths;
+import org.sam.server.exception.HandlerExecutionException;
+import org.sam.server.http.*;
+import org.sam.server.http.cache.CachedResponse;
+import org.sam.server.http.cache.RequestCoalescer;
+import org.sam.server.http.cache.ResponseCache;
+import org.sam.server.http.web.*;
+import org.sam.server.jfr.InterceptorEvent;
+import org.sam.server.jfr.InvokeEvent;
+import org.sam.server.jfr.ServerEvents;
+import org.sam.server.metrics.ServerMetrics;
+import org.sam.server.util.Converter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 핸들러를 실행 시키는 클래스입니다. 핸들러가 CompletionStage를 반환하면 요청 쓰레드를 붙잡지 않고
+ * 완료되었을 때 응답을 쓰며, async.timeout 안에 완료되지 않으면 async.timeout-status(503 또는 504)로 응답합니다.
+ * CacheResponse가 선언된 핸들러의 GET, HEAD 요청은 저장된 응답의 바이트를 그대로 쓰며,
+ * SingleFlight가 선언된 핸들러의 같은 요청이 동시에 들어오면 핸들러를 한 번만 실행하여 직렬화된 응답을 함께 씁니다.
+ *
+ * @author hypernova1
+ * @see HandlerExecutor
+ * @see ResponseCache
+ * @see RequestCoalescer
+ * */
+public class HandlerExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HandlerExecutor.class);
+
+    private static final long ASYNC_TIMEOUT = ServerProperties.getInt("async.timeout", 30000);
+
+    private static final HttpStatus ASYNC_TIMEOUT_STATUS =
+            "504".equals(ServerProperties.get("async.timeout-status")) ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.SERVICE_UNAVAILABLE;
+
+    private static final ScheduledThreadPoolExecutor asyncTimeoutScheduler = createAsyncTimeoutScheduler();
+
+    private final Request request;
+    private final Response response;
+
+    private String route;
+
+    private long startedAt;
+
+    private HandlerExecutor(Request request, Response response) {
+        this.request = request;
+        this.response = response;
+    }
+
+    /**
+     * 제한 시간을 검사하는 스케줄러를 생성합니다. 제때 완료되어 취소된 작업은 요청과 응답을 붙잡고 있지 않도록 바로 큐에서 제거합니다.
+     *
+     * @return 스케줄러
+     * */
+    private static ScheduledThreadPoolExecutor createAsyncTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "async-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     * 
+     * @param request 요청 인스턴스
+     * @param response 응답 인스턴스
+     * @return 인스턴스
+     * */
+    public static HandlerExecutor of(Request request, Response response) {
+        return new HandlerExecutor(request, response);
+    }
+
+    /**
+     * 핸들러를 실행합니다.
+     * */
+    public void execute(HandlerInfo handlerInfo) {
+        this.route = HandlerPaths.routeOf(handlerInfo);
+        this.startedAt = System.nanoTime();
+        response.setRoute(route);
+        setCrossOriginConfig(handlerInfo);
+        SessionManager.removeExpiredSession();
+        try {
+            Interceptor[] interceptors = BeanContainer.getInterceptors(handlerInfo.getMethod());
+            ResponseCache responseCache = isReadRequest() ? ResponseCache.of(handlerInfo.getMethod()) : null;
+            if (responseCache != null) {
+                executeCached(handlerInfo, interceptors, responseCache);
+                return;
+            }
+            RequestCoalescer requestCoalescer = isReadRequest() ? RequestCoalescer.of(handlerInfo.getMethod()) : null;
+            if (requestCoalescer != null) {
+                executeCoalesced(handlerInfo, interceptors, requestCoalescer);
+                return;
+            }
+            Object returnValue = executeHandlerWithInterceptor(handlerInfo, interceptors);
+            if (returnValue instanceof CompletionStage) {
+                executeAsync((CompletionStage<?>) returnValue, interceptors, Converter.getResponseBodyType(handlerInfo.getMethod()));
+                return;
+            }
+            ServerMetrics.recordHandler(route, startedAt);
+            writeResponse(returnValue, Converter.getResponseBodyType(handlerInfo.getMethod()));
+        } catch (IllegalArgumentException e) {
+            ServerMetrics.recordHandler(route, startedAt);
+            logger.debug("bad request: {}", request.getUrl(), e);
+            response.badRequest();
+        } catch (HandlerExecutionException e) {
+            ServerMetrics.recordHandler(route, startedAt);
+            logger.error("handler failed: {}", request.getUrl(), e.getCause());
+            HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+            writeResponse(ResponseEntity.of(status, status.getMessage()), null);
+        }
+    }
+
+    private boolean isReadRequest() {
+        return request.getMethod().equals(HttpMethod.GET) || request.getMethod().equals(HttpMethod.HEAD);
+    }
+
+    /**
+     * 저장된 응답이 있다면 핸들러를 실행하지 않고 응답합니다. 없다면 핸들러를 실행하여 직렬화한 응답을 저장한 후 응답합니다.
+     * interceptor는 저장된 응답을 사용할 때도 실행합니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     * @param interceptors 핸들러에 적용된 interceptor 목록
+     * @param responseCache 핸들러 메서드의 응답 캐시
+     * */
+    private void executeCached(HandlerInfo handlerInfo, Interceptor[] interceptors, ResponseCache responseCache) {
+        preHandle(interceptors);
+        String key = responseCache.keyOf(request);
+        CachedResponse cached = responseCache.get(key);
+        ServerMetrics.recordResponseCache(route, cached != null);
+        if (cached == null) {
+            cached = responseCache.load(key, () -> serialize(handlerInfo));
+        }
+        postHandle(interceptors);
+        ServerMetrics.recordHandler(route, startedAt);
+        writeSerialized(cached);
+    }
+
+    /**
+     * 같은 요청의 핸들러가 실행 중이라면 그 응답을 기다려 쓰고, 그렇지 않다면 핸들러를 실행하여 직렬화한 응답을 씁니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     * @param interceptors 핸들러에 적용된 interceptor 목록
+     * @param requestCoalescer 핸들러 메서드의 RequestCoalescer
+     * */
+    private void executeCoalesced(HandlerInfo handlerInfo, Interceptor[] interceptors, RequestCoalescer requestCoalescer) {
+        preHandle(interceptors);
+        AtomicBoolean leader = new AtomicBoolean();
+        CachedResponse shared = requestCoalescer.execute(requestCoalescer.keyOf(request), () -> {
+            leader.set(true);
+            return serialize(handlerInfo);
+        });
+        ServerMetrics.recordSingleFlight(route, leader.get());
+        postHandle(interceptors);
+        ServerMetrics.recordHandler(route, startedAt);
+        writeSerialized(shared);
+    }
+
+    /**
+     * 핸들러를 실행하고 반환 값을 JSON 바이트로 직렬화합니다. 반환 값이 CompletionStage라면 async.timeout까지 완료를 기다립니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     * @return 직렬화된 응답
+     * */
+    private CachedResponse serialize(HandlerInfo handlerInfo) {
+        Object returnValue = invokeHandler(handlerInfo);
+        Type bodyType = Converter.getResponseBodyType(handlerInfo.getMethod());
+        if (returnValue instanceof CompletionStage) {
+            try {
+                returnValue = ((CompletionStage<?>) returnValue).toCompletableFuture().get(ASYNC_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                logger.warn("async handler timed out after {}ms: {}", ASYNC_TIMEOUT, request.getUrl());
+                returnValue = ResponseEntity.of(ASYNC_TIMEOUT_STATUS, ASYNC_TIMEOUT_STATUS.getMessage());
+                bodyType = null;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IllegalArgumentException) throw (IllegalArgumentException) e.getCause();
+                logger.error("async handler failed: {}", request.getUrl(), e.getCause());
+                returnValue = ResponseEntity.of(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.getMessage());
+                bodyType = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                returnValue = ResponseEntity.of(ASYNC_TIMEOUT_STATUS, ASYNC_TIMEOUT_STATUS.getMessage());
+                bodyType = null;
+            }
+        }
+        HttpStatus httpStatus = HttpStatus.OK;
+        if (returnValue != null && returnValue.getClass().equals(ResponseEntity.class)) {
+            ResponseEntity<?> responseEntity = (ResponseEntity<?>) returnValue;
+            httpStatus = responseEntity.getHttpStatus();
+            returnValue = responseEntity.getValue();
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            Writer writer = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+            Converter.writeJson(returnValue, bodyType, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return CachedResponse.of(httpStatus, body.toByteArray(), null, 0);
+    }
+
+    /**
+     * 직렬화된 응답을 씁니다. 압축된 바디가 있고 요청의 Accept-Encoding에 gzip이 포함되어 있다면 압축된 바디로 응답합니다.
+     *
+     * @param serialized 직렬화된 응답
+     * */
+    private void writeSerialized(CachedResponse serialized) {
+        byte[] body = serialized.getBody();
+        if (serialized.isCompressed()) {
+            response.setHeader(HttpHeader.VARY, "Accept-Encoding");
+            String acceptEncoding = request.getHeader(HttpHeader.ACCEPT_ENCODING);
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                response.setHeader(HttpHeader.CONTENT_ENCODING, "gzip");
+                body = serialized.getGzipBody();
+            }
+        }
+        response.setContentMimeType(ContentType.APPLICATION_JSON);
+        response.executeBytes(body, serialized.getStatus());
+    }
+
+    /**
+     * 핸들러의 반환 값을 JSON으로 변환하여 응답 바디에 바로 씁니다. ResponseEntity라면 응답 상태를 함께 적용합니다.
+     *
+     * @param returnValue 핸들러의 반환 값
+     * @param bodyType 응답 바디의 선언 타입, 모른다면 null
+     * */
+    private void writeResponse(Object returnValue, Type bodyType) {
+        HttpStatus httpStatus;
+        if (returnValue != null && returnValue.getClass().equals(ResponseEntity.class)) {
+            ResponseEntity<?> responseEntity = (ResponseEntity<?>) returnValue;
+            httpStatus = responseEntity.getHttpStatus();
+            returnValue = responseEntity.getValue();
+        } else {
+            httpStatus = HttpStatus.OK;
+        }
+        response.setContentMimeType(ContentType.APPLICATION_JSON);
+        response.executeJson(returnValue, bodyType, httpStatus);
+    }
+
+    /**
+     * 핸들러가 반환한 CompletionStage가 완료되면 interceptor의 postHandler를 실행한 후 응답합니다.
+     * 제한 시간 안에 완료되지 않으면 설정된 상태로 먼저 응답하며, 이후의 완료 결과는 무시합니다.
+     *
+     * @param stage 핸들러가 반환한 CompletionStage
+     * @param interceptors 핸들러에 적용된 interceptor 목록
+     * @param bodyType 응답 바디의 선언 타입, 모른다면 null
+     * */
+    private void executeAsync(CompletionStage<?> stage, Interceptor[] interceptors, Type bodyType) {
+        AtomicBoolean responded = new AtomicBoolean();
+        CompletableFuture<?> future = stage.toCompletableFuture();
+        ScheduledFuture<?> timeout = asyncTimeoutScheduler.schedule(() -> {
+            if (!responded.compareAndSet(false, true)) return;
+            logger.warn("async handler timed out after {}ms: {}", ASYNC_TIMEOUT, request.getUrl());
+            writeResponse(ResponseEntity.of(ASYNC_TIMEOUT_STATUS, ASYNC_TIMEOUT_STATUS.getMessage()), null);
+        }, ASYNC_TIMEOUT, TimeUnit.MILLISECONDS);
+
+        future.whenComplete((returnValue, error) -> {
+            timeout.cancel(false);
+            ServerMetrics.recordHandler(route, startedAt);
+            if (!responded.compareAndSet(false, true)) return;
+            try {
+                if (error != null) {
+                    throw error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                }
+                postHandle(interceptors);
+                writeResponse(returnValue, bodyType);
+            } catch (IllegalArgumentException e) {
+                logger.debug("bad request: {}", request.getUrl(), e);
+                response.badRequest();
+            } catch (Throwable e) {
+                logger.error("async handler failed: {}", request.getUrl(), e);
+                HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+                writeResponse(ResponseEntity.of(status, status.getMessage()), null);
+            }
+        });
+    }
+
+    /**
+     * 핸들러를 실행시킨 후 리턴 값을 받아옵니다. 핸들러에 적용된 interceptor가 있다면 interceptor 실행 후 리턴 값을 받아옵니다.
+     * 리턴 값이 CompletionStage라면 postHandler는 완료된 후에 실행합니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     * @param interceptors 핸들러에 적용된 interceptor 목록
+     * @return 핸들러의 리턴 값
+     * */
+    private Object executeHandlerWithInterceptor(HandlerInfo handlerInfo, Interceptor[] interceptors) {
+        preHandle(interceptors);
+        Object returnValue = invokeHandler(handlerInfo);
+        if (!(returnValue instanceof CompletionStage)) {
+            postHandle(interceptors);
+        }
+        return returnValue;
+    }
+
+    /**
+     * interceptor의 preHandler를 순서대로 실행합니다.
+     *
+     * @param interceptors interceptor 목록
+     * */
+    private void preHandle(Interceptor[] interceptors) {
+        if (interceptors.length == 0) return;
+        InterceptorEvent interceptorEvent = ServerEvents.ENABLED ? new InterceptorEvent() : null;
+        for (Interceptor interceptor : interceptors) {
+            interceptor.preHandler(request, response);
+        }
+        if (interceptorEvent != null) interceptorEvent.finish(request.getMethod(), request.getUrl(), route, response.getStatusCode());
+    }
+
+    /**
+     * 핸들러를 실행하고 반환 값을 반환합니다. 실행 시간을 JFR 이벤트로 기록합니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     * @return 핸들러의 반환 값
+     * */
+    private Object invokeHandler(HandlerInfo handlerInfo) {
+        InvokeEvent invokeEvent = ServerEvents.ENABLED ? new InvokeEvent() : null;
+        try {
+            return executeHandler(handlerInfo);
+        } finally {
+            if (invokeEvent != null) invokeEvent.finish(request.getMethod(), request.getUrl(), route, response.getStatusCode());
+        }
+    }
+
+    /**
+     * interceptor의 postHandler를 역순으로 실행합니다.
+     *
+     * @param interceptors interceptor 목록
+     * */
+    private void postHandle(Interceptor[] interceptors) {
+        if (interceptors.length == 0) return;
+        InterceptorEvent interceptorEvent = ServerEvents.ENABLED ? new InterceptorEvent() : null;
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].postHandler(request, response);
+        }
+        if (interceptorEvent != null) interceptorEvent.finish(request.getMethod(), request.getUrl(), route, response.getStatusCode());
+    }
+
+    /**
+     * 핸들러 클래스의 CrossOrigin 어노테이션을 확인하고 CORS를 설정 합니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     **/
+    private void setCrossOriginConfig(HandlerInfo handlerInfo) {
+        Class<?> handlerClass = handlerInfo.getInstance().getClass();
+        String origin = request.getHeader("origin");
+
+        if (origin == null) return;
+
+        CrossOrigin crossOrigin = handlerClass.getDeclaredAnnotation(CrossOrigin.class);
+
+        if (crossOrigin == null) return;
+
+        String[] value = crossOrigin.value();
+        List<String> allowPaths = Arrays.asList(value);
+        if (allowPaths.contains("*")) {
+            response.setHeader("Access-Control-Allow-Origin", "*");
+        } else if (allowPaths.contains(origin)) {
+            response.setHeader("Access-Control-Allow-Origin", origin);
+        }
+    }
+
+    /**
+     * 핸들러를 실행하고 반환 값을 반환합니다.
+     * 핸들러가 던진 IllegalArgumentException은 그대로 던져 400으로, 그 외의 예외는 HandlerExecutionException으로 감싸 500으로 응답합니다.
+     *
+     * @param handlerInfo 핸들러 정보
+     * @return 핸들러의 반환 값
+     * @throws HandlerExecutionException 핸들러를 실행할 수 없거나 핸들러가 예외를 던졌을 시
+     * */
+    private Object executeHandler(HandlerInfo handlerInfo) {
+        Method handlerMethod = handlerInfo.getMethod();
+        Object[] parameters = getParameters(handlerMethod.getParameters(), Converter.getParameterParsers(handlerMethod));
+        try {
+            return handlerMethod.invoke(handlerInfo.getInstance(), parameters);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IllegalArgumentException) throw (IllegalArgumentException) e.getCause();
+            throw new HandlerExecutionException(handlerMethod.toGenericString(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new HandlerExecutionException(handlerMethod.toGenericString(), e);
+        }
+    }
+
+    /**
+     * 핸들러 실행시 필요한 파라미터 목록을 생성합니다.
+     * 
+     * @param handlerParameters 핸들러 클래스의 파라미터 정보
+     * @param parsers 파라미터별 값 변환 함수
+     * @return 핸들러의 파라미터 목록
+     * */
+    private Object[] getParameters(Parameter[] handlerParameters, Function<String, ?>[] parsers) {
+        Object[] inputParameters = new Object[handlerParameters.length];
+        for (int i = 0; i < handlerParameters.length; i++) {
+            inputParameters[i] = getParameter(handlerParameters[i], parsers[i]);
+        }
+        return inputParameters;
+    }
+
+    /**
+     * 핸들러 파라미터를 생성 후 반환합니다.
+     *
+     * @param handlerParameter 핸들러 파라미터 정보
+     * @param parser 파라미터 값 변환 함수, 변환할 수 없는 타입이라면 null
+     * @return 생성된 파라미터 인스턴스
+     * */
+    private Object getParameter(Parameter handlerParameter, Function<String, ?> parser) {
+        Map<String, String> requestData = request.getParameters();
+        String parameterName = handlerParameter.getName();
+        Class<?> type = handlerParameter.getType();
+        if (HttpRequest.class.isAssignableFrom(type)) {
+            return request;
+        }
+        if (HttpResponse.class.equals(type)) {
+            return response;
+        }
+        if (Session.class.equals(type)) {
+            return request.getSession();
+        }
+        if (handlerParameter.getDeclaredAnnotation(JsonRequest.class) != null) {
+            return Converter.jsonToObject(request.getJsonStream(), handlerParameter.getParameterizedType());
+        }
+
+        String value = requestData.get(parameterName);
+        if (parser != null) {
+            return createParameter(value, parser, type);
+        }
+        if (value != null) {
+            return value;
+        }
+        return Converter.parameterToObject(request.getParameters(), type);
+    }
+
+    /**
+     * 핸들러 실행시 필요한 파라미터를 생성합니다. 값이 없거나 변환할 수 없다면 IllegalArgumentException을 던져 400으로 응답합니다.
+     *
+     * @param value 값
+     * @param parser 값 변환 함수
+     * @param type 타입
+     * @return 핸들러 파라미터
+     * @throws IllegalArgumentException 원시 타입 파라미터의 값이 없거나 형식이 올바르지 않을 시
+     * */
+    private Object createParameter(String value, Function<String, ?> parser, Class<?> type) {
+        Object parameter;
+        try {
+            parameter = value == null ? null : parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid value for " + type.getName() + ": " + value, e);
+        }
+        if (parameter == null && type.isPrimitive()) {
+            throw new IllegalArgumentException("missing value for " + type.getName());
+        }
+        return parameter;
+    }
+
+}
@@ -8,9 +8,12 @@ import org.sam.server.constant.ContentType;
 import org.sam.server.constant.HttpMethod;
 import org.sam.server.context.BeanContainer;
 import org.sam.server.context.HandlerInfo;
+import org.sam.server.context.HandlerPaths;
 import org.sam.server.exception.HandlerNotFoundException;
 import org.sam.server.http.web.Request;
 import org.sam.server.http.web.Response;
+import org.sam.server.jfr.RouteEvent;
+import org.sam.server.jfr.ServerEvents;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
@@ -66,6 +69,26 @@ public class HandlerFinder {
      * @see org.sam.server.context.HandlerInfo
      * */
     public HandlerInfo createHandlerInfo() throws HandlerNotFoundException {
+        RouteEvent routeEvent = ServerEvents.ENABLED ? new RouteEvent() : null;
+        HandlerInfo handlerInfo = null;
+        try {
+            handlerInfo = findHandlerInfo();
+            return handlerInfo;
+        } finally {
+            if (routeEvent != null) {
+                String route = handlerInfo != null ? HandlerPaths.routeOf(handlerInfo) : null;
+                routeEvent.finish(request.getMethod(), request.getUrl(), route, 0);
+            }
+        }
+    }
+
+    /**
+     * 핸들러 빈 목록에서 요청에 해당하는 핸들러 메서드를 찾습니다.
+     *
+     * @return 핸들러 정보 인스턴스
+     * @throws HandlerNotFoundException 홴들러를 찾지 못 했을 시
+     * */
+    private HandlerInfo findHandlerInfo() throws HandlerNotFoundException {
         List<Object> handlerInstances = BeanContainer.getHandlerBeans();
         for (Object handlerInstance : handlerInstances) {
             Class<?> handlerType = handlerInstance.getClass();
@@ -76,10 +99,7 @@ public class HandlerFinder {
             return HandlerInfo.of(handlerInstance, handlerMethod);
         }
 
-        if (existsPath) {
-            response.methodNotAllowed();
-        }
-        throw new HandlerNotFoundException();
+        throw new HandlerNotFoundException(existsPath);
     }
 
     /**
@@ -125,11 +145,13 @@ public class HandlerFinder {
     }
 
     /**
-     * 일반 핸들러 메서드와 url 내에 파라미터가 있는 핸들러를 분류합니다.
+     * 일반 핸들러 메서드와 url 내에 파라미터가 있는 핸들러를 분류합니다. 이전 핸들러 클래스의 분류 결과는 비웁니다.
      *
      * @param handlerClass 핸들러 클래스
      * */
     private void classifyHandler(Class<?> handlerClass) {
+        this.handlerMethods.clear();
+        this.pathValueHandlerMethods.clear();
         Method[] handlerMethods = handlerClass.getDeclaredMethods();
         for (Method handlerMethod : handlerMethods) {
             classifyHandlerMethod(handlerMethod);
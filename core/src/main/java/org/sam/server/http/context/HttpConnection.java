@@ -0,0 +1,422 @@
+package org.sam.server.http.context;
+
+import org.sam.server.accesslog.AccessLog;
+import org.sam.server.common.ServerProperties;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.exception.PayloadTooLargeException;
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledBuffer;
+import org.sam.server.http.buffer.PooledInputStream;
+import org.sam.server.http.web.HttpRequest;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.ResponseWriter;
+import org.sam.server.jfr.ParseEvent;
+import org.sam.server.jfr.ServerEvents;
+import org.sam.server.metrics.ServerMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하나의 소켓 연결에서 여러 요청을 처리하는 클래스입니다. HTTP/1.1 영구 연결과 파이프라이닝을 지원합니다.
+ * 연결마다 하나의 읽기 버퍼를 두고 요청 사이에 남은 바이트를 이어서 읽으며, 소켓을 읽는 일은 연결 쓰레드에서만 합니다.
+ * 읽기 버퍼에 이미 완전히 들어와 있는 요청은 현재 요청을 처리하는 동안 별도의 쓰레드에서 미리 처리하고,
+ * 응답은 요청이 들어온 순서대로만 소켓에 쓰며, 정적 파일은 쓸 차례가 되었을 때 파일에서 바로 보냅니다.
+ * 미리 처리하는 요청은 연결마다 pipeline.max-in-flight개 까지만 넘기며, 나머지는 연결 쓰레드가 차례로 처리합니다.
+ * 다음 요청을 기다리는 동안에는 유휴 연결로 등록되어 쓰레드 풀이 가득 차면 먼저 닫힐 수 있고,
+ * 요청을 읽기 시작하면 request.read-timeout 안에 요청 전체를 읽지 못할 경우 연결을 닫습니다.
+ *
+ * @author hypernova1
+ * @see HttpLauncher
+ * @see HttpRequest#isBuffered(PooledInputStream)
+ * @see IdleConnections
+ */
+public class HttpConnection {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpConnection.class);
+
+    private static final int KEEP_ALIVE_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(ServerProperties.getInt("keep-alive.timeout", 60));
+
+    private static final int REQUEST_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(ServerProperties.getInt("request.read-timeout", 20));
+
+    private static final int PIPELINE_MAX_IN_FLIGHT = ServerProperties.getInt("pipeline.max-in-flight", 4);
+
+    private static final byte[] INTERNAL_SERVER_ERROR =
+            "HTTP/1.1 500 Internal Server Error\r\nContent-Length: 0\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] PAYLOAD_TOO_LARGE =
+            "HTTP/1.1 413 Payload Too Large\r\nContent-Length: 0\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ExecutorService pipelineExecutor = createPipelineExecutor();
+
+    private final Socket socket;
+
+    private final PooledInputStream inputStream;
+
+    private final ResponseWriter socketWriter;
+
+    private final Object lock = new Object();
+
+    private final Map<Long, CompletedResponse> completedResponses = new HashMap<>();
+
+    private final AtomicInteger pipelined = new AtomicInteger();
+
+    private long nextSequence;
+
+    private long writeSequence;
+
+    private boolean writing;
+
+    private volatile boolean closed;
+
+    private HttpConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        this.socketWriter = ResponseWriter.of(socket);
+        this.inputStream = new PooledInputStream(socket.getInputStream(), ByteBufferPool.getInstance());
+    }
+
+    /**
+     * 소켓 연결을 관리하는 인스턴스를 생성합니다.
+     *
+     * @param socket 소켓
+     * @return HttpConnection 인스턴스
+     * @throws IOException 소켓의 스트림을 가져오다 오류 발생시
+     * */
+    public static HttpConnection of(Socket socket) throws IOException {
+        return new HttpConnection(socket);
+    }
+
+    /**
+     * 연결이 끝날 때 까지 요청을 읽어 처리합니다. 클라이언트가 연결 종료를 요청하거나, 스트림이 끝나거나,
+     * keep-alive.timeout 동안 요청이 없으면 남은 응답을 모두 쓴 뒤 반환합니다. 소켓은 닫지 않습니다.
+     * */
+    public void process() {
+        try {
+            socket.setSoTimeout(KEEP_ALIVE_TIMEOUT);
+            boolean keepAlive = true;
+            while (keepAlive && !closed) {
+                if (!awaitRequest()) break;
+                long parseStartedAt = System.nanoTime();
+                ParseEvent parseEvent = ServerEvents.ENABLED ? new ParseEvent() : null;
+                socket.setSoTimeout(REQUEST_TIMEOUT);
+                inputStream.setDeadline(parseStartedAt + TimeUnit.MILLISECONDS.toNanos(REQUEST_TIMEOUT));
+                Request request = parse();
+                inputStream.setDeadline(0);
+                socket.setSoTimeout(KEEP_ALIVE_TIMEOUT);
+                if (request == null) break;
+                ServerMetrics.recordParse(parseStartedAt);
+                if (parseEvent != null) parseEvent.finish(request.getMethod(), request.getUrl(), null, 0);
+                keepAlive = request.isKeepAlive();
+                OrderedResponseWriter writer = nextWriter(keepAlive);
+                if (keepAlive) {
+                    keepAlive = dispatchBufferedRequests();
+                }
+                handle(request, writer);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("connection closed while reading request", e);
+        } finally {
+            awaitResponses();
+            inputStream.release();
+        }
+    }
+
+    /**
+     * 다음 요청의 첫 바이트가 들어올 때 까지 기다립니다. 쓰지 않은 응답이 없다면 기다리는 동안 유휴 연결로 등록합니다.
+     *
+     * @return 읽을 바이트가 있는지 여부, 스트림이 끝났다면 false
+     * @throws IOException 소켓을 읽다가 오류가 발생하거나 유휴 연결이 닫혔을 시
+     * */
+    private boolean awaitRequest() throws IOException {
+        if (inputStream.buffered() > 0) return true;
+        if (hasPendingResponses()) return inputStream.await();
+        IdleConnections.idle(this);
+        try {
+            return inputStream.await();
+        } finally {
+            IdleConnections.active(this);
+        }
+    }
+
+    private boolean hasPendingResponses() {
+        synchronized (lock) {
+            return writeSequence < nextSequence || writing;
+        }
+    }
+
+    /**
+     * 다음 요청을 기다리는 연결을 닫습니다. 기다리던 쓰레드는 소켓 오류로 깨어나 연결을 정리합니다.
+     * */
+    void closeIdle() {
+        logger.debug("closing idle connection: {}", socket.getRemoteSocketAddress());
+        closed = true;
+        closeSocket();
+    }
+
+    /**
+     * 읽기 버퍼에 완전히 들어와 있는 요청을 파싱하여 다른 쓰레드에서 처리하도록 넘깁니다. 소켓은 읽지 않습니다.
+     * 이 연결에서 미리 처리 중인 요청이 pipeline.max-in-flight개가 되면 더 넘기지 않습니다.
+     *
+     * @return 마지막 요청이 연결 유지를 원하는지 여부
+     * */
+    private boolean dispatchBufferedRequests() {
+        boolean keepAlive = true;
+        while (keepAlive && pipelined.get() < PIPELINE_MAX_IN_FLIGHT && HttpRequest.isBuffered(inputStream)) {
+            long parseStartedAt = System.nanoTime();
+            ParseEvent parseEvent = ServerEvents.ENABLED ? new ParseEvent() : null;
+            Request request = parse();
+            if (request == null) return false;
+            ServerMetrics.recordParse(parseStartedAt);
+            if (parseEvent != null) parseEvent.finish(request.getMethod(), request.getUrl(), null, 0);
+            keepAlive = request.isKeepAlive();
+            OrderedResponseWriter writer = nextWriter(keepAlive);
+            pipelined.incrementAndGet();
+            pipelineExecutor.execute(() -> {
+                try {
+                    handle(request, writer);
+                } finally {
+                    pipelined.decrementAndGet();
+                }
+            });
+        }
+        return keepAlive;
+    }
+
+    /**
+     * 읽기 버퍼에서 요청을 파싱합니다. 바디가 server.max-body-size를 넘으면 바디를 읽지 않고 413으로 응답한 뒤 연결을 닫도록 합니다.
+     *
+     * @return 요청 인스턴스, 연결이 끝났거나 거부한 요청이라면 null
+     * */
+    private Request parse() {
+        try {
+            return HttpRequest.from(inputStream);
+        } catch (PayloadTooLargeException e) {
+            logger.debug("rejected request: {}", e.getMessage());
+            PooledBuffer buffer = ByteBufferPool.getInstance().acquire();
+            buffer.put(PAYLOAD_TOO_LARGE);
+            nextWriter(false).write(buffer);
+            return null;
+        }
+    }
+
+    /**
+     * 요청을 처리합니다. 응답을 쓰지 못하고 오류가 발생하면 500 응답을 쓰고 연결을 닫습니다.
+     *
+     * @param request 요청 인스턴스
+     * @param writer 요청의 순서에 맞춰 응답을 쓰는 인스턴스
+     * */
+    private void handle(Request request, OrderedResponseWriter writer) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpLauncher.execute(request, writer);
+        } catch (RuntimeException e) {
+            logger.error("request handling error: {}", request.getUrl(), e);
+            writer.fail(request, startedAt);
+        }
+    }
+
+    /**
+     * 다음 요청의 응답 순번을 부여합니다.
+     *
+     * @param keepAlive 응답 후 연결 유지 여부
+     * @return 순번이 부여된 ResponseWriter
+     * */
+    private OrderedResponseWriter nextWriter(boolean keepAlive) {
+        return new OrderedResponseWriter(nextSequence++, keepAlive);
+    }
+
+    /**
+     * 완성된 응답을 보관하고, 쓸 차례가 된 응답을 순서대로 소켓에 씁니다.
+     * 한 번에 한 쓰레드만 소켓에 쓰며, 앞선 응답을 쓴 쓰레드가 뒤이어 완성된 응답까지 이어서 씁니다.
+     *
+     * @param sequence 응답 순번
+     * @param response 완성된 응답
+     * */
+    private void complete(long sequence, CompletedResponse response) {
+        synchronized (lock) {
+            completedResponses.put(sequence, response);
+            if (writing) return;
+            writing = true;
+        }
+        while (true) {
+            CompletedResponse next;
+            synchronized (lock) {
+                next = completedResponses.remove(writeSequence);
+                if (next == null) {
+                    writing = false;
+                    lock.notifyAll();
+                    return;
+                }
+                writeSequence++;
+            }
+            write(next);
+        }
+    }
+
+    /**
+     * 응답을 소켓에 씁니다. 연결이 이미 닫혔다면 버퍼만 반환합니다.
+     *
+     * @param response 완성된 응답
+     * */
+    private void write(CompletedResponse response) {
+        if (closed) {
+            for (PooledBuffer buffer : response.buffers) {
+                buffer.release();
+            }
+            return;
+        }
+        long writeStartedAt = System.nanoTime();
+        try {
+            if (response.file != null) {
+                socketWriter.writeFile(response.buffers[0], response.file, response.fileLength);
+            } else {
+                socketWriter.write(response.buffers);
+            }
+            ServerMetrics.recordWrite(writeStartedAt);
+        } catch (IOException e) {
+            logger.debug("failed to write response", e);
+            closed = true;
+            closeSocket();
+            return;
+        }
+        if (!response.keepAlive) {
+            closed = true;
+        }
+    }
+
+    /**
+     * 처리 중인 요청의 응답이 모두 쓰여질 때 까지 기다립니다. keep-alive.timeout이 지나면 기다리지 않습니다.
+     * */
+    private void awaitResponses() {
+        long deadline = System.currentTimeMillis() + KEEP_ALIVE_TIMEOUT;
+        synchronized (lock) {
+            while (writeSequence < nextSequence || writing) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    logger.warn("connection closed before {} responses were written", nextSequence - writeSequence);
+                    closed = true;
+                    return;
+                }
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.debug("failed to close socket", e);
+        }
+    }
+
+    private static ExecutorService createPipelineExecutor() {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(
+                ServerProperties.getInt("pipeline.threads", Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pipeline-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 완성되었지만 아직 쓸 차례가 되지 않은 응답입니다.
+     */
+    private static class CompletedResponse {
+
+        private final PooledBuffer[] buffers;
+
+        private final File file;
+
+        private final long fileLength;
+
+        private final boolean keepAlive;
+
+        private CompletedResponse(PooledBuffer[] buffers, boolean keepAlive) {
+            this(buffers, null, 0, keepAlive);
+        }
+
+        private CompletedResponse(PooledBuffer[] buffers, File file, long fileLength, boolean keepAlive) {
+            this.buffers = buffers;
+            this.file = file;
+            this.fileLength = fileLength;
+            this.keepAlive = keepAlive;
+        }
+    }
+
+    /**
+     * 요청마다 순번을 가지고 응답을 연결에 넘기는 ResponseWriter입니다. 응답은 한 번만 쓸 수 있습니다.
+     */
+    private final class OrderedResponseWriter implements ResponseWriter {
+
+        private final long sequence;
+
+        private final boolean keepAlive;
+
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private OrderedResponseWriter(long sequence, boolean keepAlive) {
+            this.sequence = sequence;
+            this.keepAlive = keepAlive;
+        }
+
+        @Override
+        public void write(PooledBuffer... buffers) {
+            if (!completed.compareAndSet(false, true)) {
+                for (PooledBuffer buffer : buffers) {
+                    buffer.release();
+                }
+                return;
+            }
+            complete(sequence, new CompletedResponse(buffers, keepAlive));
+        }
+
+        @Override
+        public void writeFile(PooledBuffer header, File file, long length) {
+            if (!completed.compareAndSet(false, true)) {
+                header.release();
+                return;
+            }
+            complete(sequence, new CompletedResponse(new PooledBuffer[]{header}, file, length, keepAlive));
+        }
+
+        @Override
+        public boolean isKeepAlive() {
+            return keepAlive;
+        }
+
+        /**
+         * 응답이 쓰여지지 않았다면 500 응답을 쓰고 연결을 닫도록 합니다.
+         *
+         * @param request 처리하지 못한 요청
+         * @param startedAt 요청 처리를 시작한 System.nanoTime()
+         * */
+        private void fail(Request request, long startedAt) {
+            if (!completed.compareAndSet(false, true)) return;
+            ServerMetrics.recordRequest(ServerMetrics.UNMATCHED_ROUTE, request.getMethod(), HttpStatus.INTERNAL_SERVER_ERROR);
+            AccessLog.record(request.getMethod(), request.getUrl(), ServerMetrics.UNMATCHED_ROUTE, 500, 0, startedAt);
+            PooledBuffer buffer = ByteBufferPool.getInstance().acquire();
+            buffer.put(INTERNAL_SERVER_ERROR);
+            complete(sequence, new CompletedResponse(new PooledBuffer[]{buffer}, false));
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.sam.server.http.context;
+
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.context.BeanContainer;
+import org.sam.server.context.HandlerInfo;
+import org.sam.server.exception.HandlerNotFoundException;
+import org.sam.server.http.web.HttpResponse;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+import org.sam.server.http.web.ResponseWriter;
+import org.sam.server.jfr.RequestEvent;
+import org.sam.server.jfr.ServerEvents;
+import org.sam.server.metrics.ServerMetrics;
+
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Request, Response 인스턴스를 만들고 HTTP 요청을 분기합니다. 요청 URL에 해당하는 필터 체인을 먼저 실행하며,
+ * 필터를 모두 통과한 요청만 핸들러를 찾아 실행하거나 정적 자원을 응답합니다.
+ *
+ * @author hypernova1
+ * @see Request
+ * @see Response
+ */
+public class HttpLauncher {
+
+    private static final FilterChainResolver filterChainResolver =
+            FilterChainResolver.of(BeanContainer.getFilters(), HttpLauncher::dispatch);
+
+    /**
+     * 소켓을 받아 연결이 끝날 때 까지 요청마다 Request, Response 인스턴스를 만든 후 핸들러 혹은 정적 자원을 찾습니다.
+     *
+     * @param connect 소켓
+     * @see HttpConnection
+     */
+    public static void execute(Socket connect) {
+        try {
+            HttpConnection.of(connect).process();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 파싱된 요청으로 Response 인스턴스를 만들고 필터 체인을 거쳐 핸들러를 실행하거나 정적 자원을 응답합니다.
+     *
+     * @param request 요청 인스턴스
+     * @param writer 응답을 쓰는 인스턴스
+     */
+    public static void execute(Request request, ResponseWriter writer) {
+        RequestEvent requestEvent = ServerEvents.ENABLED ? new RequestEvent() : null;
+        Response response = HttpResponse.of(writer, request.getUrl(), request.getMethod());
+        try {
+            filterChainResolver.resolve(request.getUrl()).doFilter(request, response);
+        } finally {
+            if (requestEvent != null) requestEvent.finish(request.getMethod(), request.getUrl(), response.getRoute(), response.getStatusCode());
+        }
+    }
+
+    /**
+     * 필터를 모두 통과한 요청을 처리합니다. 요청 URL을 읽어 정적 자원을 응답하거나 핸들러를 찾아 실행하며,
+     * 핸들러가 없을 때 경로는 있지만 HTTP Method가 다르다면 405로, 그 외에는 404로 응답합니다.
+     *
+     * @param request  요청 인스턴스
+     * @param response 응답 인스턴스
+     */
+    private static void dispatch(Request request, Response response) {
+        if (ServerMetrics.isMetricsPath(request.getUrl())) {
+            response.setRoute(request.getUrl());
+            response.executeText(ServerMetrics.scrape(), HttpStatus.OK);
+            return;
+        }
+        if (request.isFaviconRequest() || request.isResourceRequest() || request.isIndexRequest()) {
+            response.setRoute(ServerMetrics.STATIC_ROUTE);
+        }
+        if (request.isFaviconRequest()) {
+            response.favicon();
+            return;
+        }
+        if (request.isResourceRequest()) {
+            response.staticResources();
+            return;
+        }
+
+        if (request.isIndexRequest()) {
+            response.indexFile();
+            return;
+        }
+
+        if (request.isOptionsRequest()) {
+            response.allowedMethods();
+            return;
+        }
+
+        try {
+            HandlerInfo handlerInfo = HandlerFinder.of(request, response).createHandlerInfo();
+            HandlerExecutor.of(request, response).execute(handlerInfo);
+        } catch (HandlerNotFoundException e) {
+            if (e.isPathExists()) {
+                response.methodNotAllowed();
+                return;
+            }
+            response.notFound();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.sam.server.http.context;
+
+import org.sam.server.admin.ActiveConnections;
+import org.sam.server.admin.AdminServer;
+import org.sam.server.common.ServerProperties;
+import org.sam.server.common.StartupProfiler;
+import org.sam.server.context.BeanContainer;
+import org.sam.server.jfr.AcceptEvent;
+import org.sam.server.jfr.ServerEvents;
+import org.sam.server.metrics.ServerMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 서버의 시작점으로써, 서버 소켓을 생성하고 쓰헤드 풀을 생성하여 요청을 HttpLauncher로 위임합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.context.BeanContainer
+ * @see HttpLauncher
+ * @see AdminServer
+ */
+public class HttpServer implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpServer.class);
+    private final Socket connect;
+
+    private final AcceptEvent acceptEvent;
+
+    private HttpServer(Socket connect, AcceptEvent acceptEvent) {
+        this.connect = connect;
+        this.acceptEvent = acceptEvent;
+    }
+
+    /**
+     * 애플리케이션을 시작합니다. 서버가 종료될 때 까지 무한 루프를 돌며 쓰레드를 생성하고 요청을 HttpLauncher에 위임합니다.
+     * 요청을 받기 전에 시작 과정의 소요 시간을 보고합니다.
+     *
+     * @throws org.sam.server.exception.StartupBudgetExceededException 시작 시간이 startup.budget-ms 보다 오래 걸렸을 시
+     * @see HttpLauncher
+     * @see StartupProfiler
+     * */
+    public static void start() {
+        try {
+            ServerSocket serverSocket;
+            StartupProfiler.Step step = StartupProfiler.start(StartupProfiler.PHASE, "create server socket");
+            try {
+                serverSocket = ServerSocketFactory.createServerSocket();
+            } finally {
+                step.close();
+            }
+            logger.info("server started..");
+            logger.info("server port: {}", serverSocket.getLocalPort());
+
+            BeanContainer.initialize();
+            try {
+                StartupProfiler.report();
+            } catch (RuntimeException e) {
+                serverSocket.close();
+                throw e;
+            }
+
+            // 유휴 상태의 keep-alive 연결도 쓰레드를 점유하므로 큐에 쌓이기 전에 최대 쓰레드 수까지 늘어나도록 하며,
+            // 모든 쓰레드가 사용 중일 때 새 연결이 들어오면 가장 오래 기다린 유휴 연결을 닫아 쓰레드를 돌려받습니다.
+            int maxThreads = ServerProperties.getInt("server.max-threads", 200);
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    maxThreads,
+                    maxThreads,
+                    150L,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingDeque<>()
+            );
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            ServerMetrics.registerThreadPool(threadPoolExecutor);
+            AdminServer.start(threadPoolExecutor);
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket clientSocket = serverSocket.accept();
+                AcceptEvent acceptEvent = ServerEvents.ENABLED ? new AcceptEvent() : null;
+                HttpServer httpServer = new HttpServer(clientSocket, acceptEvent);
+                if (threadPoolExecutor.getActiveCount() >= maxThreads) {
+                    IdleConnections.closeOldest();
+                }
+                threadPoolExecutor.execute(httpServer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void run() {
+        if (acceptEvent != null) {
+            acceptEvent.finish(String.valueOf(connect.getRemoteSocketAddress()));
+        }
+        ServerMetrics.connectionOpened();
+        ActiveConnections.opened(connect);
+        try {
+            HttpLauncher.execute(connect);
+        } finally {
+            ActiveConnections.closed(connect);
+            ServerMetrics.connectionClosed();
+        }
+        try {
+            connect.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.sam.server.http.context;
+
+import org.sam.server.common.ServerProperties;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 다음 요청을 기다리는 연결을 기다리기 시작한 순서대로 저장하는 클래스입니다.
+ * 유휴 연결도 작업 쓰레드를 하나씩 점유하므로 keep-alive.max-idle(기본 값은 server.max-threads의 절반)개를 넘거나
+ * 쓰레드 풀이 가득 찼을 때 가장 오래 기다린 연결을 닫아 쓰레드를 돌려받습니다.
+ *
+ * @author hypernova1
+ * @see HttpConnection
+ */
+final class IdleConnections {
+
+    private static final int MAX_IDLE =
+            ServerProperties.getInt("keep-alive.max-idle", Math.max(1, ServerProperties.getInt("server.max-threads", 200) / 2));
+
+    private static final Set<HttpConnection> connections = new LinkedHashSet<>();
+
+    private IdleConnections() {}
+
+    /**
+     * 연결이 다음 요청을 기다리기 시작했음을 저장합니다. 유휴 연결이 최대 개수를 넘으면 가장 오래 기다린 연결을 닫습니다.
+     *
+     * @param connection 연결
+     * */
+    static void idle(HttpConnection connection) {
+        HttpConnection evicted = null;
+        synchronized (connections) {
+            connections.add(connection);
+            if (connections.size() > MAX_IDLE) {
+                evicted = pollOldest();
+            }
+        }
+        if (evicted != null) evicted.closeIdle();
+    }
+
+    /**
+     * 연결이 요청을 읽기 시작했음을 저장합니다.
+     *
+     * @param connection 연결
+     * */
+    static void active(HttpConnection connection) {
+        synchronized (connections) {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * 가장 오래 기다린 유휴 연결을 닫습니다.
+     *
+     * @return 닫은 연결이 있는지 여부
+     * */
+    static boolean closeOldest() {
+        HttpConnection evicted;
+        synchronized (connections) {
+            evicted = pollOldest();
+        }
+        if (evicted == null) return false;
+        evicted.closeIdle();
+        return true;
+    }
+
+    /**
+     * 유휴 연결의 수를 반환합니다.
+     *
+     * @return 유휴 연결의 수
+     * */
+    static int size() {
+        synchronized (connections) {
+            return connections.size();
+        }
+    }
+
+    private static HttpConnection pollOldest() {
+        Iterator<HttpConnection> iterator = connections.iterator();
+        if (!iterator.hasNext()) return null;
+        HttpConnection oldest = iterator.next();
+        iterator.remove();
+        return oldest;
+    }
+
+}
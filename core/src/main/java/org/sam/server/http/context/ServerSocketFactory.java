@@ -4,7 +4,9 @@ import org.sam.server.common.ServerProperties;
 
 import javax.net.ssl.SSLServerSocketFactory;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
 
 public class ServerSocketFactory {
 
@@ -22,7 +24,21 @@ public class ServerSocketFactory {
         String propertiesPort = ServerProperties.get("server.port");
         int port = (propertiesPort != null) ? Integer.parseInt(propertiesPort) : 8080;
         if (System.getenv("PORT") != null) port = Integer.parseInt(System.getenv("PORT"));
-        return keyStore != null ? createSSLServerSocket(keyStore, keyStorePassword, port) : new ServerSocket(port);
+        return keyStore != null ? createSSLServerSocket(keyStore, keyStorePassword, port) : createChannelServerSocket(port);
+    }
+
+    /**
+     * 채널 기반의 서버 소켓을 생성합니다. 이 서버 소켓이 받은 소켓은 채널을 가지므로 응답을 모아 쓰기를 할 수 있습니다.
+     *
+     * @param port 포트 번호
+     * @return 서버 소켓
+     * @throws IOException 소켓 생성시에 네트워크 오류가 발생시
+     * @see org.sam.server.http.web.ResponseWriter
+     * */
+    protected static ServerSocket createChannelServerSocket(int port) throws IOException {
+        ServerSocket serverSocket = ServerSocketChannel.open().socket();
+        serverSocket.bind(new InetSocketAddress(port));
+        return serverSocket;
     }
 
     /**
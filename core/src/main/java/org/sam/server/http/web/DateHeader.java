@@ -0,0 +1,56 @@
+package org.sam.server.http.web;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답의 Date 헤더를 관리하는 클래스입니다. RFC 1123 형식의 헤더 라인을 1초마다 한 번씩 갱신하고,
+ * 응답마다 날짜를 포맷하지 않고 미리 인코딩된 바이트를 사용합니다.
+ *
+ * @author hypernova1
+ * @see HttpResponse
+ */
+final class DateHeader {
+
+    private static final DateTimeFormatter RFC_1123_FORMATTER =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private static volatile byte[] line = encode();
+
+    static {
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "date-header-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> line = encode(), 1, 1, TimeUnit.SECONDS);
+    }
+
+    private DateHeader() {}
+
+    /**
+     * 현재 시간의 Date 헤더 라인을 반환합니다. 반환된 배열은 수정하면 안 됩니다.
+     *
+     * @return "Date: ...\r\n" 형식의 바이트 배열
+     * */
+    static byte[] line() {
+        return line;
+    }
+
+    /**
+     * 현재 시간으로 Date 헤더 라인을 인코딩합니다.
+     *
+     * @return 인코딩된 헤더 라인
+     * */
+    private static byte[] encode() {
+        String value = RFC_1123_FORMATTER.format(ZonedDateTime.now(ZoneOffset.UTC));
+        return ("Date: " + value + "\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
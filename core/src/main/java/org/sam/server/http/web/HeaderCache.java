@@ -0,0 +1,96 @@
+package org.sam.server.http.web;
+
+import org.sam.server.common.ServerProperties;
+import org.sam.server.constant.ContentType;
+import org.sam.server.constant.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 응답마다 바뀌지 않는 헤더 라인을 미리 바이트로 인코딩해 두는 클래스입니다.
+ * 상태 라인은 HttpStatus마다, Content-Type 라인은 ContentType마다 한 번씩만 만듭니다.
+ *
+ * @author hypernova1
+ * @see HttpResponse
+ */
+final class HeaderCache {
+
+    static final byte[] CRLF = ascii("\r\n");
+
+    static final byte[] SERVER = ascii("Server: Java HTTP Server from sam : 1.0\r\n");
+
+    static final byte[] ACCEPT_RANGES = ascii("Accept-Ranges: bytes\r\n");
+
+    static final byte[] CONNECTION_KEEP_ALIVE = ascii("Connection: Keep-Alive\r\n");
+
+    static final byte[] KEEP_ALIVE = ascii("Keep-Alive: timeout=" + ServerProperties.getInt("keep-alive.timeout", 60) + "\r\n");
+
+    static final byte[] CONNECTION_CLOSE = ascii("Connection: close\r\n");
+
+    static final byte[] CACHE_CONTROL_RESOURCES = ascii("Cache-Control: max-age=86400\r\n");
+
+    static final byte[] CACHE_CONTROL_NO_CACHE = ascii("Cache-Control: no-cache, no-store, must-revalidate\r\n");
+
+    static final byte[] CONTENT_LENGTH = ascii("Content-Length: ");
+
+    static final byte[] HEADER_SEPARATOR = ascii(": ");
+
+    private static final Map<HttpStatus, byte[]> STATUS_LINES = new EnumMap<>(HttpStatus.class);
+
+    private static final Map<ContentType, byte[]> CONTENT_TYPE_LINES = new EnumMap<>(ContentType.class);
+
+    private static final Set<String> RESERVED_HEADER_NAMES = new HashSet<>(Arrays.asList(
+            "server", "date", "content-type", "content-length", "accept-ranges", "connection", "keep-alive", "cache-control", "allow"
+    ));
+
+    static {
+        for (HttpStatus httpStatus : HttpStatus.values()) {
+            STATUS_LINES.put(httpStatus, ascii("HTTP/1.1 " + httpStatus.getCode() + " " + httpStatus.getMessage() + "\r\n"));
+        }
+        for (ContentType contentType : ContentType.values()) {
+            CONTENT_TYPE_LINES.put(contentType, ascii("Content-Type: " + contentType.getValue() + "\r\n"));
+        }
+    }
+
+    private HeaderCache() {}
+
+    /**
+     * 상태 라인을 반환합니다.
+     *
+     * @param httpStatus 응답 상태
+     * @return "HTTP/1.1 200 OK\r\n" 형식의 바이트 배열
+     * */
+    static byte[] statusLine(HttpStatus httpStatus) {
+        return STATUS_LINES.get(httpStatus);
+    }
+
+    /**
+     * Content-Type 헤더 라인을 반환합니다.
+     *
+     * @param contentType 미디어 타입
+     * @return Content-Type 헤더 라인
+     * */
+    static byte[] contentTypeLine(ContentType contentType) {
+        return CONTENT_TYPE_LINES.get(contentType);
+    }
+
+    /**
+     * 응답 클래스가 직접 쓰는 헤더인지 확인합니다. 사용자가 설정한 같은 이름의 헤더는 무시됩니다.
+     *
+     * @param name 헤더 이름
+     * @return 응답 클래스가 관리하는 헤더인지 여부
+     * */
+    static boolean isReserved(String name) {
+        return RESERVED_HEADER_NAMES.contains(name.toLowerCase());
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
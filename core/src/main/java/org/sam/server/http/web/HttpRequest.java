@@ -1,14 +1,19 @@
 package org.sam.server.http.web;
 
+import org.sam.server.common.ServerProperties;
 import org.sam.server.constant.ContentType;
 import org.sam.server.constant.HttpMethod;
 import org.sam.server.http.Cookie;
 import org.sam.server.http.CookieStore;
 import org.sam.server.http.Session;
 import org.sam.server.http.SessionManager;
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledBuffer;
+import org.sam.server.http.buffer.PooledInputStream;
+import org.sam.server.exception.PayloadTooLargeException;
 import org.sam.server.util.StringUtils;
 
-import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -22,13 +27,19 @@ import java.util.*;
  */
 public class HttpRequest implements Request {
 
+    private static final String CONTENT_LENGTH_PREFIX = "content-length:";
+
+    private static final long MAX_BODY_SIZE = ServerProperties.getInt("server.max-body-size", 10 * 1024 * 1024);
+
     private final String protocol;
     private final String path;
     private final HttpMethod method;
     private final Map<String, String> headers;
     private final Map<String, String> parameterMap;
-    private final String json;
+    private final byte[] jsonBody;
+    private String json;
     private final Set<Cookie> cookies;
+    private final boolean keepAlive;
 
     protected HttpRequest(RequestParser requestParser) {
         this.protocol = requestParser.protocol;
@@ -36,8 +47,9 @@ public class HttpRequest implements Request {
         this.method = requestParser.httpMethod;
         this.headers = requestParser.headers;
         this.parameterMap = requestParser.parameters;
-        this.json = requestParser.json;
+        this.jsonBody = requestParser.jsonBody;
         this.cookies = requestParser.cookies;
+        this.keepAlive = requestParser.isKeepAlive();
     }
 
     /**
@@ -45,6 +57,7 @@ public class HttpRequest implements Request {
      *
      * @param in HTTP 요청을 담은 InputStream
      * @return Request 인스턴스
+     * @throws PayloadTooLargeException 바디의 크기가 server.max-body-size를 넘을 시
      */
     public static Request from(InputStream in) {
         RequestParser requestParser = new RequestParser();
@@ -52,6 +65,93 @@ public class HttpRequest implements Request {
         return requestParser.createRequest();
     }
 
+    /**
+     * 연결이 소유한 읽기 버퍼에서 HTTP 요청을 분석하여 Request 인스턴스를 반환한다.
+     * 읽기 버퍼는 반환하지 않으므로 요청을 읽고 남은 바이트는 다음 요청에서 이어서 읽는다.
+     *
+     * @param in 연결의 읽기 버퍼가 적용된 InputStream
+     * @return Request 인스턴스, 연결이 끝났다면 null
+     * @throws PayloadTooLargeException 바디의 크기가 server.max-body-size를 넘을 시. 바디는 읽지 않는다.
+     */
+    public static Request from(PooledInputStream in) {
+        RequestParser requestParser = new RequestParser();
+        requestParser.parse(in);
+        return requestParser.createRequest();
+    }
+
+    /**
+     * 소켓을 읽지 않고도 읽기 버퍼만으로 완전한 요청 하나를 파싱할 수 있는지 확인한다.
+     * 헤더의 끝과 Content-Length 만큼의 바디가 모두 버퍼에 들어와 있어야 한다.
+     *
+     * @param in 연결의 읽기 버퍼가 적용된 InputStream
+     * @return 완전한 요청이 버퍼에 있는지 여부
+     */
+    public static boolean isBuffered(PooledInputStream in) {
+        int buffered = in.buffered();
+        int lineStart = 0;
+        int contentLength = 0;
+        for (int i = 1; i < buffered; i++) {
+            if (in.peek(i - 1) != '\r' || in.peek(i) != '\n') continue;
+            if (i - 1 == lineStart) {
+                return buffered - (i + 1) >= contentLength;
+            }
+            if (lineStart > 0 && startsWithIgnoreCase(in, lineStart, CONTENT_LENGTH_PREFIX)) {
+                contentLength = parseDigits(in, lineStart + CONTENT_LENGTH_PREFIX.length(), i - 1);
+            }
+            lineStart = i + 1;
+        }
+        return false;
+    }
+
+    /**
+     * 읽기 버퍼의 해당 위치가 주어진 소문자 접두어로 시작하는지 대소문자 구분 없이 확인한다.
+     *
+     * @param in 읽기 버퍼가 적용된 InputStream
+     * @param offset 현재 읽기 위치로부터의 거리
+     * @param prefix 소문자 접두어
+     * @return 접두어로 시작하는지 여부
+     */
+    private static boolean startsWithIgnoreCase(PooledInputStream in, int offset, String prefix) {
+        if (offset + prefix.length() > in.buffered()) return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(in.peek(offset + i)) != prefix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 읽기 버퍼의 해당 범위를 정수로 읽는다. 숫자가 아니라면 버퍼로는 판단할 수 없도록 최대 값을 반환한다.
+     *
+     * @param in 읽기 버퍼가 적용된 InputStream
+     * @param from 시작 거리
+     * @param to 끝 거리
+     * @return 정수 값
+     */
+    private static int parseDigits(PooledInputStream in, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int c = in.peek(i);
+            if (c == ' ') continue;
+            if (c < '0' || c > '9') return Integer.MAX_VALUE;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 프로토콜 버전과 Connection 헤더로 연결 유지 여부를 판단한다.
+     *
+     * @param protocol 프로토콜 버전
+     * @param connection Connection 헤더 값
+     * @return 연결 유지 여부
+     */
+    private static boolean isKeepAlive(String protocol, String connection) {
+        if ("HTTP/1.0".equals(protocol)) {
+            return connection != null && connection.trim().equalsIgnoreCase("keep-alive");
+        }
+        return connection == null || !connection.trim().equalsIgnoreCase("close");
+    }
+
     @Override
     public String getProtocol() {
         return this.protocol;
@@ -94,9 +194,18 @@ public class HttpRequest implements Request {
 
     @Override
     public String getJson() {
+        if (json == null && jsonBody != null) {
+            json = new String(jsonBody, StandardCharsets.UTF_8);
+        }
         return json;
     }
 
+    @Override
+    public InputStream getJsonStream() {
+        if (jsonBody == null) return null;
+        return new ByteArrayInputStream(jsonBody);
+    }
+
     @Override
     public Set<Cookie> getCookies() {
         return this.cookies;
@@ -140,6 +249,11 @@ public class HttpRequest implements Request {
         return this.getMethod().equals(HttpMethod.OPTIONS);
     }
 
+    @Override
+    public boolean isKeepAlive() {
+        return this.keepAlive;
+    }
+
     /**
      * 소켓으로 부터 받은 InputStream을 읽어 Request 인스턴스를 생성하는 클래스입니다.
      *
@@ -156,9 +270,10 @@ public class HttpRequest implements Request {
         protected ContentType contentType;
         protected String boundary;
         protected Map<String, String> parameters = new HashMap<>();
-        protected String json;
+        protected byte[] jsonBody;
         protected Set<Cookie> cookies = new HashSet<>();
         protected Map<String, Object> files = new HashMap<>();
+        private final ByteBufferPool bufferPool = ByteBufferPool.getInstance();
 
         /**
          * InputStream에서 HTTP 본문을 읽은 후 파싱합니다.
@@ -166,7 +281,20 @@ public class HttpRequest implements Request {
          * @param in 소켓의 InputStream
          */
         private void parse(InputStream in) {
-            BufferedInputStream inputStream = new BufferedInputStream(in);
+            PooledInputStream inputStream = new PooledInputStream(in, bufferPool);
+            try {
+                parse(inputStream);
+            } finally {
+                inputStream.release();
+            }
+        }
+
+        /**
+         * 버퍼 풀의 읽기 버퍼를 사용하여 HTTP 본문을 읽은 후 파싱합니다.
+         *
+         * @param inputStream 읽기 버퍼가 적용된 InputStream
+         */
+        private void parse(PooledInputStream inputStream) {
             String headersPart = parseHeaderPart(inputStream);
 
             if (isNonHttpRequest(headersPart)) return;
@@ -188,10 +316,19 @@ public class HttpRequest implements Request {
             }
 
             if (existsHttpBody()) {
-                parseBody(inputStream);
+                parseBody(inputStream, parseContentLength());
             }
         }
 
+        /**
+         * 연결 유지 여부를 반환합니다.
+         *
+         * @return 연결 유지 여부
+         */
+        private boolean isKeepAlive() {
+            return HttpRequest.isKeepAlive(this.protocol, this.headers.get("connection"));
+        }
+
         private ContentType parseContentType() {
             String contentType = this.headers.getOrDefault("content-type", "text/plain");
             ContentType result = ContentType.get(contentType);
@@ -202,12 +339,38 @@ public class HttpRequest implements Request {
             return result;
         }
 
+        /**
+         * HTTP 바디에 있는 데이터를 파싱합니다. 같은 연결로 다음 요청이 이어질 수 있으므로
+         * Content-Length 만큼만 읽으며, 읽지 않은 바디는 건너뜁니다. Content-Length가 없다면 연결을 유지하지 않는 요청만
+         * 남은 바이트를 바디로 읽습니다. 바디는 server.max-body-size 까지만 받습니다.
+         *
+         * @param inputStream 인풋 스트림
+         * @param contentLength 바디의 길이
+         * @throws PayloadTooLargeException Content-Length가 server.max-body-size를 넘을 시
+         */
+        private void parseBody(InputStream inputStream, long contentLength) {
+            if (contentLength > MAX_BODY_SIZE) {
+                throw new PayloadTooLargeException(contentLength, MAX_BODY_SIZE);
+            }
+            if (contentLength < 0) {
+                if (!isKeepAlive()) parseBody(new ContentLengthInputStream(inputStream, MAX_BODY_SIZE + 1));
+                return;
+            }
+            ContentLengthInputStream bodyStream = new ContentLengthInputStream(inputStream, contentLength);
+            try {
+                parseBody(bodyStream);
+                bodyStream.skipRemaining();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
         /**
          * HTTP 바디에 있는 데이터를 파싱합니다.
          *
          * @param inputStream 인풋 스트림
          */
-        private void parseBody(BufferedInputStream inputStream) {
+        private void parseBody(InputStream inputStream) {
             if (this.boundary != null) {
                 parseMultipartBody(inputStream);
                 return;
@@ -221,58 +384,75 @@ public class HttpRequest implements Request {
          * @param inputStream 인풋 스트림
          * @return HTTP 헤더 내용
          */
-        private String parseHeaderPart(BufferedInputStream inputStream) {
-            int i;
-            String headersPart = "";
-            StringBuilder sb = new StringBuilder();
+        private String parseHeaderPart(InputStream inputStream) {
+            PooledBuffer buffer = bufferPool.acquire();
             try {
+                int i;
                 while ((i = inputStream.read()) != -1) {
-                    char c = (char) i;
-                    sb.append(c);
-                    if (isEndOfHeader(sb.toString())) {
-                        headersPart = sb.toString().replace("\r\n\r\n", "");
-                        break;
+                    buffer.put((byte) i);
+                    if (isEndOfHeader(buffer)) {
+                        return buffer.toString(0, buffer.position() - 4, StandardCharsets.ISO_8859_1);
                     }
                 }
             } catch (IOException e) {
+                if (buffer.position() == 0) return "";
                 throw new RuntimeException(e);
+            } finally {
+                buffer.release();
             }
-            return headersPart;
+            return "";
         }
 
         /**
-         * HTTP 바디를 파싱합니다.
+         * HTTP 바디를 파싱합니다. 버퍼는 클라이언트가 보낸 Content-Length가 아니라 풀의 청크 크기로 시작하여
+         * 실제로 읽은 만큼만 늘립니다.
          *
          * @param inputStream 소켓의 InputSteam
+         * @throws PayloadTooLargeException Content-Length 없이 보낸 바디가 server.max-body-size를 넘을 시
          */
         private void parseRequestBody(InputStream inputStream) {
-            StringBuilder sb = new StringBuilder();
+            long contentLength = parseContentLength();
+            int chunkSize = bufferPool.getChunkSize();
+            PooledBuffer buffer = bufferPool.acquire();
             try {
-                int binary;
-                int inputStreamLength = inputStream.available();
-                byte[] data = new byte[inputStreamLength];
-                int i = 0;
-                while ((binary = inputStream.read()) != -1) {
-                    data[i] = (byte) binary;
-                    if (isEndOfLine(data, i) || inputStream.available() == 0) {
-                        data = Arrays.copyOfRange(data, 0, i + 1);
-                        String line = new String(data, StandardCharsets.UTF_8);
-                        sb.append(line);
-                        data = new byte[inputStreamLength];
-                        i = 0;
+                if (contentLength >= 0) {
+                    while (buffer.position() < contentLength) {
+                        int length = (int) Math.min(chunkSize, contentLength - buffer.position());
+                        if (buffer.readFrom(inputStream, length) == -1) break;
+                    }
+                } else {
+                    while (inputStream.available() > 0) {
+                        if (buffer.readFrom(inputStream, Math.min(chunkSize, inputStream.available())) == -1) break;
+                        if (buffer.position() > MAX_BODY_SIZE) {
+                            throw new PayloadTooLargeException(buffer.position(), MAX_BODY_SIZE);
+                        }
                     }
-                    if (inputStream.available() == 0) break;
-                    i++;
                 }
                 if (isJsonRequest()) {
-                    this.json = sb.toString();
+                    this.jsonBody = buffer.toByteArray(0, buffer.position());
                     return;
                 }
-                this.parameters = parseQuery(sb.toString());
+                this.parameters = parseQuery(buffer.toString(0, buffer.position(), StandardCharsets.UTF_8));
             } catch (IOException e) {
                 throw new RuntimeException(e);
+            } finally {
+                buffer.release();
             }
+        }
 
+        /**
+         * Content-Length 헤더 값을 반환합니다. 헤더가 없다면 -1을 반환합니다.
+         *
+         * @return 바디의 길이
+         */
+        private long parseContentLength() {
+            String contentLength = this.headers.get("content-length");
+            if (contentLength == null) return -1;
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
         }
 
         /**
@@ -289,7 +469,6 @@ public class HttpRequest implements Request {
                 String value = headers[i].substring(index + 2);
                 if ("cookie".equals(key)) {
                     this.cookies = CookieStore.parseCookie(value);
-                    continue;
                 }
                 result.put(key, value);
             }
@@ -361,7 +540,6 @@ public class HttpRequest implements Request {
          * @throws IOException InputStream을 읽다가 오류 발생시
          */
         private void parseMultipartLine(InputStream inputStream) throws IOException {
-            int i = 0;
             int loopCnt = 0;
             String name = "";
             String value = "";
@@ -369,16 +547,15 @@ public class HttpRequest implements Request {
             String mimeType = "";
             byte[] fileData = null;
             boolean isFile = false;
-            int inputStreamLength = inputStream.available();
-            byte[] data = new byte[inputStreamLength];
-            int binary;
-            while ((binary = inputStream.read()) != -1) {
-                data[i] = (byte) binary;
-                if (isEndOfLine(data, i)) {
-                    data = Arrays.copyOfRange(data, 0, i);
-                    String line = new String(data, StandardCharsets.UTF_8);
-                    data = new byte[inputStreamLength];
-                    i = 0;
+            PooledBuffer data = bufferPool.acquire();
+            try {
+                int binary;
+                while ((binary = inputStream.read()) != -1) {
+                    data.put((byte) binary);
+                    int i = data.position() - 1;
+                    if (!isEndOfLine(data, i)) continue;
+                    String line = data.toString(0, i, StandardCharsets.UTF_8);
+                    data.clear();
                     if (loopCnt == 0) {
                         loopCnt++;
                         int index = line.indexOf("\"");
@@ -419,7 +596,8 @@ public class HttpRequest implements Request {
                     }
                     if (inputStream.available() == 0) return;
                 }
-                i++;
+            } finally {
+                data.release();
             }
         }
 
@@ -469,26 +647,28 @@ public class HttpRequest implements Request {
          * @return 파일의 바이트 배열
          */
         private byte[] parseFile(InputStream inputStream) {
-            byte[] data = new byte[1024 * 8];
-            int fileLength = 0;
+            PooledBuffer data = bufferPool.acquire();
+            int boundaryLength = boundary.getBytes(StandardCharsets.UTF_8).length;
+            int lineStart = 0;
             try {
                 int i;
                 while ((i = inputStream.read()) != -1) {
-                    if (isFullCapacity(data, fileLength)) {
-                        data = getDoubleArray(data);
-                    }
-                    data[fileLength] = (byte) i;
+                    data.put((byte) i);
+                    int fileLength = data.position() - 1;
                     if (isEndOfLine(data, fileLength)) {
-                        String content = new String(data, StandardCharsets.UTF_8);
-                        if (isEmptyBoundaryContent(content)) return null;
-                        if (isEndOfBoundaryLine(content)) break;
+                        if (fileLength <= boundaryLength + 4 && isEmptyBoundaryContent(data.toString(0, fileLength + 1, StandardCharsets.UTF_8))) return null;
+                        if (isEndOfBoundaryLine(data.toString(lineStart, fileLength + 1, StandardCharsets.UTF_8))) {
+                            return data.toByteArray(2, fileLength - boundaryLength);
+                        }
+                        lineStart = fileLength + 1;
                     }
-                    fileLength++;
                 }
+                return data.toByteArray(2, data.position() - boundaryLength);
             } catch (IOException e) {
                 throw new RuntimeException(e);
+            } finally {
+                data.release();
             }
-            return Arrays.copyOfRange(data, 2, fileLength - boundary.getBytes(StandardCharsets.UTF_8).length);
         }
 
         /**
@@ -513,8 +693,8 @@ public class HttpRequest implements Request {
          * @param index 인덱스
          * @return 한 줄의 마지막인지 여부
          */
-        private boolean isEndOfLine(byte[] data, int index) {
-            return index != 0 && data[index - 1] == '\r' && data[index] == '\n';
+        private boolean isEndOfLine(PooledBuffer data, int index) {
+            return index != 0 && data.get(index - 1) == '\r' && data.get(index) == '\n';
         }
 
         /**
@@ -523,9 +703,10 @@ public class HttpRequest implements Request {
          * @param data 데이터
          * @return 헤더의 끝인지 여부
          */
-        private static boolean isEndOfHeader(String data) {
-            String CR = "\r";
-            return data.endsWith(CR + "\n\r\n");
+        private static boolean isEndOfHeader(PooledBuffer data) {
+            int position = data.position();
+            return position >= 4 && data.get(position - 4) == '\r' && data.get(position - 3) == '\n'
+                    && data.get(position - 2) == '\r' && data.get(position - 1) == '\n';
         }
 
         /**
@@ -597,29 +778,58 @@ public class HttpRequest implements Request {
             return content.trim().equals(this.boundary);
         }
 
-        /**
-         * 입력받은 배열의 길이의 두배인 배열을 생성하고 카피 후 반환합니다.
-         *
-         * @param data 배열
-         * @return 2배 길이의 배열
-         */
-        private byte[] getDoubleArray(byte[] data) {
-            byte[] arr = new byte[data.length * 2];
-            System.arraycopy(data, 0, arr, 0, data.length);
-            return arr;
+    }
+
+    /**
+     * Content-Length 만큼만 읽을 수 있도록 제한한 InputStream입니다. 바디를 읽다가 다음 요청의 바이트를 읽지 않도록 합니다.
+     */
+    private static class ContentLengthInputStream extends InputStream {
+
+        private final InputStream in;
+
+        private long remaining;
+
+        private ContentLengthInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = in.read();
+            if (b != -1) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(remaining, in.available());
         }
 
         /**
-         * 배열의 길이가 최대인지 확인합니다.
+         * 읽지 않고 남은 바디를 건너뜁니다.
          *
-         * @param data       확인할 배열
-         * @param fileLength 파일 길이
-         * @return 배열의 길이가 최대인지 여부
+         * @throws IOException 스트림을 읽다가 오류 발생시
          */
-        private boolean isFullCapacity(byte[] data, int fileLength) {
-            return data.length == fileLength;
+        private void skipRemaining() throws IOException {
+            while (remaining > 0) {
+                long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    if (in.read() == -1) return;
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
         }
-
     }
 
 }
@@ -0,0 +1,557 @@
+package org.sam.server.http.web;
+
+import org.sam.server.accesslog.AccessLog;
+import org.sam.server.common.ServerProperties;
+import org.sam.server.constant.ContentType;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.exception.ResourcesNotFoundException;
+import org.sam.server.http.Cookie;
+import org.sam.server.http.CookieStore;
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledBuffer;
+import org.sam.server.jfr.SerializeEvent;
+import org.sam.server.jfr.ServerEvents;
+import org.sam.server.jfr.WriteEvent;
+import org.sam.server.metrics.ServerMetrics;
+import org.sam.server.util.Converter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 요청을 해석하고 응답하는 클래스입니다. 정적 자원을 반환합니다.
+ *
+ * @author hypernova1
+ * @see #execute(String, HttpStatus) 
+ */
+public class HttpResponse implements Response {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpResponse.class);
+
+    private final ResponseWriter writer;
+
+    private final ByteBufferPool bufferPool = ByteBufferPool.getInstance();
+
+    private PooledBuffer headerBuffer;
+
+    private PooledBuffer bodyBuffer;
+
+    private boolean committed;
+
+    private final Map<String, Object> headers = new HashMap<>();
+
+    private final Set<Cookie> cookies = CookieStore.getCookies();
+
+    private final String requestPath;
+
+    private final HttpMethod requestMethod;
+
+    private final Set<HttpMethod> allowedMethods = new LinkedHashSet<>();
+
+    private String filePath;
+
+    private HttpStatus httpStatus;
+
+    private String contentMimeType;
+
+    private long fileLength;
+
+    private File staticFile;
+
+    private String route = ServerMetrics.UNMATCHED_ROUTE;
+
+    private final long createdAt = System.nanoTime();
+
+    private HttpResponse(ResponseWriter writer, String path, HttpMethod requestMethod) {
+        this.writer = writer;
+        this.requestPath = path;
+        this.requestMethod = requestMethod;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param os 응답을 출력할 스트림
+     * @param requestPath 요청 URL
+     * @param requestMethod 요청 HTTP Method
+     * @return HttpResponse 인스턴스
+     * */
+    public static Response of(OutputStream os, String requestPath, HttpMethod requestMethod) {
+        return new HttpResponse(ResponseWriter.of(os), requestPath, requestMethod);
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param writer 응답을 소켓에 쓰는 인스턴스
+     * @param requestPath 요청 URL
+     * @param requestMethod 요청 HTTP Method
+     * @return HttpResponse 인스턴스
+     * */
+    public static Response of(ResponseWriter writer, String requestPath, HttpMethod requestMethod) {
+        return new HttpResponse(writer, requestPath, requestMethod);
+    }
+
+    @Override
+    public void execute(String pathOrJson, HttpStatus status) {
+        if (committed) return;
+        this.httpStatus = status;
+        if (bodyBuffer == null) {
+            bodyBuffer = bufferPool.acquire();
+        }
+        try {
+            if (getContentMimeType().equals(ContentType.APPLICATION_JSON) && !requestMethod.equals(HttpMethod.OPTIONS)) {
+                this.fileLength = readJson(pathOrJson);
+            } else if (allowedMethods.isEmpty()) {
+                this.fileLength = readStaticResource(pathOrJson);
+            }
+            if (committed) return;
+            commit();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    @Override
+    public void executeJson(Object value, Type type, HttpStatus status) {
+        if (committed) return;
+        this.httpStatus = status;
+        this.contentMimeType = ContentType.APPLICATION_JSON.getValue();
+        if (bodyBuffer == null) {
+            bodyBuffer = bufferPool.acquire();
+        }
+        try {
+            if (!requestMethod.equals(HttpMethod.OPTIONS)) {
+                this.fileLength = writeJson(value, type);
+            }
+            commit();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    @Override
+    public void executeText(String text, HttpStatus status) {
+        if (committed) return;
+        this.httpStatus = status;
+        if (contentMimeType == null) {
+            this.contentMimeType = ContentType.TEXT_PLAIN.getValue();
+        }
+        if (bodyBuffer == null) {
+            bodyBuffer = bufferPool.acquire();
+        }
+        try {
+            bodyBuffer.put(text);
+            this.fileLength = bodyBuffer.position();
+            if (this.requestMethod.equals(HttpMethod.HEAD)) {
+                bodyBuffer.clear();
+            }
+            commit();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    @Override
+    public void executeBytes(byte[] body, HttpStatus status) {
+        if (committed) return;
+        this.httpStatus = status;
+        if (contentMimeType == null) {
+            this.contentMimeType = ContentType.TEXT_PLAIN.getValue();
+        }
+        if (bodyBuffer == null) {
+            bodyBuffer = bufferPool.acquire();
+        }
+        try {
+            this.fileLength = body.length;
+            if (!this.requestMethod.equals(HttpMethod.HEAD)) {
+                bodyBuffer.put(body);
+            }
+            commit();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    /**
+     * 헤더를 쓰고 헤더와 바디 버퍼를 응답으로 내보냅니다. 버퍼의 소유권은 ResponseWriter로 넘어갑니다.
+     *
+     * @throws IOException 응답을 쓰다가 오류 발생시
+     * */
+    private void commit() throws IOException {
+        printHeaders();
+        committed = true;
+        ServerMetrics.recordRequest(route, requestMethod, httpStatus);
+        AccessLog.record(requestMethod, requestPath, route, Integer.parseInt(httpStatus.getCode()), fileLength, createdAt);
+        PooledBuffer header = headerBuffer;
+        PooledBuffer body = bodyBuffer;
+        headerBuffer = null;
+        bodyBuffer = null;
+        WriteEvent writeEvent = ServerEvents.ENABLED ? new WriteEvent() : null;
+        try {
+            if (staticFile != null) {
+                body.release();
+                writer.writeFile(header, staticFile, fileLength);
+            } else {
+                writer.write(header, body);
+            }
+        } finally {
+            if (writeEvent != null) writeEvent.finish(requestMethod, requestPath, route, Integer.parseInt(httpStatus.getCode()));
+        }
+        CookieStore.vacateList();
+    }
+
+    /**
+     * 응답에 사용한 버퍼를 풀에 반환합니다.
+     * */
+    private void releaseBuffers() {
+        if (headerBuffer != null) {
+            headerBuffer.release();
+            headerBuffer = null;
+        }
+        if (bodyBuffer != null) {
+            bodyBuffer.release();
+            bodyBuffer = null;
+        }
+    }
+
+    /**
+     * 정적 자원의 경로를 받아 파일을 읽습니다. 파일이 존재하지 않으면 notFound 메서드를 호출합니다.
+     *
+     * @param filePath 파일 경로
+     * @return 파일의 길이
+     * @see #notFound()
+     * @see #readFileData(File)
+     * @see #readStaticResources(InputStream)
+     * */
+    private long readStaticResource(String filePath) {
+        InputStream fis = Thread.currentThread().getContextClassLoader().getResourceAsStream(filePath);
+        File staticFile = new File("src/main" + filePath);
+        if (fis == null && !staticFile.exists()) {
+            notFound();
+            return 0;
+        }
+        if (!filePath.equals(NOT_FOUND_PAGE) && requestMethod.equals(HttpMethod.OPTIONS)) {
+            allowedMethods.add(HttpMethod.GET);
+            return 0;
+        }
+        long fileLength = 0;
+        try {
+            if (staticFile.exists()) {
+                if (fis != null) fis.close();
+                fileLength = readFileData(staticFile);
+            } else {
+                assert fis != null;
+                fileLength = readStaticResources(fis);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return fileLength;
+    }
+
+    /**
+     * 정적 파일을 읽은 후 응답 바디 버퍼에 쓰고 파일의 길이를 반환합니다.
+     *
+     * @param fis 파일을 읽은 스트림
+     * @return 파일의 길이
+     * @throws IOException 파일을 읽다가 오류 발생시
+     * */
+    private long readStaticResources(InputStream fis) throws IOException {
+        long fileLength = 0;
+        int chunkSize = bufferPool.getChunkSize();
+        try {
+            int len;
+            while ((len = bodyBuffer.readFrom(fis, readableLength(chunkSize))) != -1) {
+                if (this.requestMethod.equals(HttpMethod.HEAD)) {
+                    bodyBuffer.clear();
+                }
+                fileLength += len;
+            }
+        } finally {
+            fis.close();
+        }
+        return fileLength;
+    }
+
+    /**
+     * 바디 버퍼에 한 번에 읽어 들일 길이를 반환합니다. 남은 용량이 없을 때만 버퍼를 늘립니다.
+     *
+     * @param chunkSize 청크 크기
+     * @return 읽어 들일 길이
+     * */
+    private int readableLength(int chunkSize) {
+        int remaining = bodyBuffer.buffer().remaining();
+        return remaining > 0 ? remaining : chunkSize;
+    }
+
+    /**
+     * 정적 파일을 응답할 파일로 지정하고 파일의 길이를 반환합니다. 파일은 버퍼에 올리지 않고 헤더를 쓴 뒤 이어서 보냅니다.
+     *
+     * @param file 정적 파일
+     * @return 파일의 길이
+     * @see ResponseWriter#writeFile(PooledBuffer, File, long)
+     * */
+    private long readFileData(File file) {
+        if (!this.requestMethod.equals(HttpMethod.HEAD)) {
+            this.staticFile = file;
+        }
+        return file.length();
+    }
+
+    /**
+     * JSON 문자열을 응답 바디 버퍼에 쓰고 바이트 길이를 반환합니다.
+     *
+     * @param json JSON 문자열
+     * @return JSON 문자열의 바이트 길이
+     * */
+    private int readJson(String json) {
+        if (httpStatus.equals(HttpStatus.NOT_FOUND) || httpStatus.equals(HttpStatus.BAD_REQUEST)) {
+            return 0;
+        }
+
+        bodyBuffer.put(json);
+        int length = bodyBuffer.position();
+
+        if (this.requestMethod.equals(HttpMethod.HEAD)) {
+            bodyBuffer.clear();
+        }
+
+        return length;
+    }
+
+    /**
+     * 값을 JSON으로 직렬화하여 응답 바디 버퍼에 바로 쓰고 바이트 길이를 반환합니다.
+     *
+     * @param value 응답할 값
+     * @param type 값의 선언된 타입
+     * @return JSON의 바이트 길이
+     * @throws IOException 직렬화 중 오류 발생시
+     * */
+    private int writeJson(Object value, Type type) throws IOException {
+        if (httpStatus.equals(HttpStatus.NOT_FOUND) || httpStatus.equals(HttpStatus.BAD_REQUEST)) {
+            return 0;
+        }
+
+        SerializeEvent serializeEvent = ServerEvents.ENABLED ? new SerializeEvent() : null;
+        Writer jsonWriter = new OutputStreamWriter(bodyBuffer.asOutputStream(), StandardCharsets.UTF_8);
+        Converter.writeJson(value, type, jsonWriter);
+        jsonWriter.flush();
+        if (serializeEvent != null) serializeEvent.finish(requestMethod, requestPath, route, Integer.parseInt(httpStatus.getCode()));
+        int length = bodyBuffer.position();
+
+        if (this.requestMethod.equals(HttpMethod.HEAD)) {
+            bodyBuffer.clear();
+        }
+
+        return length;
+    }
+
+    /**
+     * 상태 라인과 응답 헤더를 헤더 버퍼에 씁니다. 고정된 헤더는 미리 인코딩된 바이트를 사용합니다.
+     *
+     * @see HeaderCache
+     * @see DateHeader
+     * */
+    private void printHeaders() {
+        headerBuffer = bufferPool.acquire();
+        headerBuffer.put(HeaderCache.statusLine(httpStatus));
+        headerBuffer.put(HeaderCache.SERVER);
+        headerBuffer.put(DateHeader.line());
+        headerBuffer.put(HeaderCache.contentTypeLine(getContentMimeType()));
+        headerBuffer.put(HeaderCache.CONTENT_LENGTH).put(this.fileLength).put(HeaderCache.CRLF);
+        headerBuffer.put(HeaderCache.ACCEPT_RANGES);
+        if (writer.isKeepAlive()) {
+            headerBuffer.put(HeaderCache.CONNECTION_KEEP_ALIVE);
+            headerBuffer.put(HeaderCache.KEEP_ALIVE);
+        } else {
+            headerBuffer.put(HeaderCache.CONNECTION_CLOSE);
+        }
+        if (requestPath.startsWith("/resources")) {
+            headerBuffer.put(HeaderCache.CACHE_CONTROL_RESOURCES);
+        } else {
+            headerBuffer.put(HeaderCache.CACHE_CONTROL_NO_CACHE);
+        }
+        if (requestMethod.equals(HttpMethod.OPTIONS) && allowedMethods.size() > 0) {
+            printAllowHeader();
+        }
+        for (Map.Entry<String, Object> header : headers.entrySet()) {
+            if (HeaderCache.isReserved(header.getKey())) continue;
+            headerBuffer.put(header.getKey()).put(HeaderCache.HEADER_SEPARATOR).put(String.valueOf(header.getValue())).put(HeaderCache.CRLF);
+        }
+        printCookies();
+        headerBuffer.put(HeaderCache.CRLF);
+    }
+
+    /**
+     * OPTIONS 요청에 대해 허용된 HTTP Method 목록을 Allow 헤더로 씁니다.
+     * */
+    private void printAllowHeader() {
+        headerBuffer.put("Allow: ");
+        Iterator<HttpMethod> iterator = allowedMethods.iterator();
+        while (iterator.hasNext()) {
+            headerBuffer.put(iterator.next().name());
+            if (iterator.hasNext()) headerBuffer.put(", ");
+        }
+        headerBuffer.put(HeaderCache.CRLF);
+    }
+
+    /**
+     * 조건에 따라 미디어타입을 반환합니다.
+     *
+     * @return 미디어 타입
+     * @see org.sam.server.constant.ContentType
+     * @see org.sam.server.constant.HttpStatus
+     * */
+    private ContentType getContentMimeType() {
+        if (contentMimeType != null) return ContentType.get(contentMimeType);
+        if (isHtmlResponse()) return ContentType.TEXT_HTML;
+        if (requestPath.endsWith(".css")) return ContentType.CSS;
+        if (requestPath.endsWith(".js")) return ContentType.JAVASCRIPT;
+
+        return ContentType.TEXT_PLAIN;
+    }
+
+    /**
+     * 쿠키에 대한 정보를 헤더 버퍼에 씁니다.
+     *
+     * @see org.sam.server.http.Cookie
+     * */
+    private void printCookies() {
+        for (Cookie cookie : cookies) {
+            StringBuilder line = new StringBuilder();
+            line.append("Set-Cookie: ");
+            line.append(cookie.getName()).append("=").append(cookie.getValue());
+            if (cookie.getMaxAge() != 0) {
+                line.append("; Expires=").append(cookie.getExpires());
+                line.append("; Max-Age=").append(cookie.getMaxAge());
+            }
+            if (ServerProperties.isSSL()) {
+                line.append("; Secure");
+            }
+            if (cookie.isHttpOnly()) {
+                line.append("; HttpOnly");
+            }
+            line.append("; Path=").append(cookie.getPath());
+            headerBuffer.put(line.toString()).put(HeaderCache.CRLF);
+        }
+    }
+
+    @Override
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    @Override
+    public String getRoute() {
+        return route;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return httpStatus != null ? Integer.parseInt(httpStatus.getCode()) : 0;
+    }
+
+    @Override
+    public void setContentMimeType(ContentType contentMimeType) {
+        this.contentMimeType = contentMimeType.getValue();
+    }
+
+    @Override
+    public void addCookies(Cookie cookie) {
+        this.cookies.add(cookie);
+    }
+
+    @Override
+    public void setHeader(String key, String value) {
+        this.headers.put(key, value);
+    }
+
+    @Override
+    public Object getHeader(String key) {
+        return headers.get(key);
+    }
+
+    @Override
+    public Set<String> getHeaderNames() {
+        return headers.keySet();
+    }
+
+    @Override
+    public void staticResources() {
+        String filePath = requestPath.replace("/resources", "/resources/static");
+        execute(filePath, HttpStatus.OK);
+    }
+
+    @Override
+    public void notFound() {
+        logger.debug("File {} not found", requestPath);
+        execute(NOT_FOUND_PAGE, HttpStatus.NOT_FOUND);
+    }
+
+    @Override
+    public void badRequest() {
+        logger.debug("Bad Request: {}", requestPath);
+        execute(BAD_REQUEST_PAGE, HttpStatus.BAD_REQUEST);
+    }
+
+    @Override
+    public void methodNotAllowed() {
+        logger.debug("Method Not Allowed: {}", requestPath);
+        execute(METHOD_NOT_ALLOWED_PAGE, HttpStatus.METHOD_NOT_ALLOWED);
+    }
+
+    @Override
+    public void indexFile() {
+        if (this.requestPath.endsWith("/")) {
+            filePath = DEFAULT_FILE_PAGE;
+        }
+        this.contentMimeType = ContentType.TEXT_HTML.getValue();
+        execute(filePath, HttpStatus.OK);
+    }
+
+    @Override
+    public void favicon() throws ResourcesNotFoundException {
+        filePath = FAVICON;
+        this.contentMimeType = ContentType.X_ICON.getValue();
+        execute(filePath, HttpStatus.OK);
+    }
+
+    @Override
+    public void addAllowedMethod(HttpMethod httpMethod) {
+        this.allowedMethods.add(httpMethod);
+    }
+
+    @Override
+    public void allowedMethods() {
+        if (allowedMethods.isEmpty()) {
+            this.notFound();
+            return;
+        }
+        this.execute(null, HttpStatus.OK);
+    }
+
+    /**
+     * 응답할 MIME 형식이 HTML인지 확인합니다
+     *
+     * @return HTML 여부
+     * */
+    private boolean isHtmlResponse() {
+        return httpStatus.equals(HttpStatus.NOT_FOUND) || httpStatus.equals(HttpStatus.BAD_REQUEST) ||
+                httpStatus.equals(HttpStatus.NOT_IMPLEMENTED) || this.requestPath.endsWith(".html");
+    }
+
+}
@@ -87,6 +87,13 @@ public interface Request {
      * */
     String getJson();
 
+    /**
+     * JSON 본문을 문자열로 변환하지 않고 읽을 수 있는 스트림을 반환합니다.
+     *
+     * @return JSON 본문 스트림, 본문이 없다면 null
+     * */
+    InputStream getJsonStream();
+
     /**
      * 쿠키 목록을 반환합니다.
      * 
@@ -129,4 +136,12 @@ public interface Request {
      * */
     boolean isIndexRequest();
 
+    /**
+     * 응답 후에도 연결을 유지하기를 원하는 요청인지에 대한 여부를 반환한다.
+     * HTTP/1.1은 Connection: close 헤더가 없다면, HTTP/1.0은 Connection: keep-alive 헤더가 있다면 연결을 유지한다.
+     *
+     * @return 연결 유지 여부
+     * */
+    boolean isKeepAlive();
+
 }
@@ -8,6 +8,8 @@ import org.sam.server.http.Cookie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Writer;
+import java.lang.reflect.Type;
 import java.util.Set;
 
 /**
@@ -33,6 +35,54 @@ public interface Response {
      * */
     void execute(String pathOrJson, HttpStatus status);
 
+    /**
+     * 값을 JSON으로 직렬화하여 응답 바디에 바로 쓰고 응답합니다.
+     *
+     * @param value 응답할 값
+     * @param type 값의 선언된 타입. null이라면 값의 클래스를 사용합니다.
+     * @param status 응답 HttpStatus
+     * @see org.sam.server.util.Converter#writeJson(Object, Type, Writer)
+     * */
+    void executeJson(Object value, Type type, HttpStatus status);
+
+    /**
+     * 문자열을 응답 바디에 그대로 쓰고 응답합니다. 미디어 타입을 지정하지 않았다면 text/plain으로 응답합니다.
+     *
+     * @param text 응답할 문자열
+     * @param status 응답 HttpStatus
+     * */
+    void executeText(String text, HttpStatus status);
+
+    /**
+     * 이미 직렬화된 바이트를 응답 바디에 그대로 쓰고 응답합니다. 미디어 타입을 지정하지 않았다면 text/plain으로 응답합니다.
+     *
+     * @param body 응답할 바이트
+     * @param status 응답 HttpStatus
+     * */
+    void executeBytes(byte[] body, HttpStatus status);
+
+    /**
+     * 요청을 처리한 핸들러의 경로 템플릿을 지정합니다. 메트릭에서 요청 URL 대신 사용합니다.
+     *
+     * @param route 경로 템플릿
+     * @see org.sam.server.metrics.ServerMetrics
+     * */
+    void setRoute(String route);
+
+    /**
+     * 요청을 처리한 핸들러의 경로 템플릿을 반환합니다.
+     *
+     * @return 경로 템플릿, 지정하지 않았다면 unmatched
+     * */
+    String getRoute();
+
+    /**
+     * 응답 상태 코드를 반환합니다.
+     *
+     * @return 응답 상태 코드, 아직 응답하지 않았다면 0
+     * */
+    int getStatusCode();
+
     /**
      * 파비콘에 대한 요청을 처리 합니다.
      *
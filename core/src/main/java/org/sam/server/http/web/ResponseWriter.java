@@ -0,0 +1,68 @@
+package org.sam.server.http.web;
+
+import org.sam.server.http.buffer.PooledBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+
+/**
+ * 완성된 응답을 내보내는 인터페이스입니다. 응답 버퍼의 소유권은 write 호출과 함께 넘어가며,
+ * 구현체는 버퍼를 다 쓴 뒤 풀에 반환해야 합니다.
+ *
+ * @author hypernova1
+ * @see HttpResponse
+ * @see SocketResponseWriter
+ */
+public interface ResponseWriter {
+
+    /**
+     * 소켓에 응답을 쓰는 인스턴스를 생성합니다.
+     *
+     * @param socket 소켓
+     * @return ResponseWriter 인스턴스
+     * @throws IOException 소켓의 스트림을 가져오다 오류 발생시
+     * */
+    static ResponseWriter of(Socket socket) throws IOException {
+        return SocketResponseWriter.of(socket);
+    }
+
+    /**
+     * 스트림에 응답을 쓰는 인스턴스를 생성합니다.
+     *
+     * @param outputStream 응답을 출력할 스트림
+     * @return ResponseWriter 인스턴스
+     * */
+    static ResponseWriter of(OutputStream outputStream) {
+        return SocketResponseWriter.of(outputStream);
+    }
+
+    /**
+     * 버퍼에 쓰여진 내용을 순서대로 내보내고 버퍼를 반환합니다.
+     *
+     * @param buffers 내보낼 버퍼 목록
+     * @throws IOException 소켓에 쓰다가 오류 발생시
+     * */
+    void write(PooledBuffer... buffers) throws IOException;
+
+    /**
+     * 헤더 버퍼를 내보낸 뒤 파일의 내용을 메모리에 모두 올리지 않고 이어서 보냅니다. 헤더 버퍼는 반환합니다.
+     *
+     * @param header 헤더 버퍼
+     * @param file 보낼 파일
+     * @param length 보낼 길이
+     * @throws IOException 파일을 읽거나 소켓에 쓰다가 오류 발생시
+     * */
+    void writeFile(PooledBuffer header, File file, long length) throws IOException;
+
+    /**
+     * 응답 후에도 연결을 유지하는지 여부를 반환합니다.
+     *
+     * @return 연결 유지 여부
+     * */
+    default boolean isKeepAlive() {
+        return true;
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.sam.server.http.web;
+
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledBuffer;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 응답 헤더와 바디를 소켓에 쓰는 클래스입니다.
+ * 소켓이 채널을 지원하면 GatheringByteChannel을 통해 헤더와 바디를 한 번의 쓰기로 내보내고,
+ * SSL 소켓처럼 채널이 없는 경우에는 OutputStream에 순서대로 쓴 뒤 한 번만 flush 합니다.
+ * 정적 파일은 채널이 있다면 FileChannel.transferTo로, 없다면 풀의 청크 크기 단위로 읽어 보냅니다.
+ *
+ * @author hypernova1
+ * @see ResponseWriter
+ */
+public class SocketResponseWriter implements ResponseWriter {
+
+    private final GatheringByteChannel channel;
+
+    private final OutputStream outputStream;
+
+    private SocketResponseWriter(GatheringByteChannel channel, OutputStream outputStream) {
+        this.channel = channel;
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * 소켓에 응답을 쓰는 인스턴스를 생성합니다.
+     *
+     * @param socket 소켓
+     * @return SocketResponseWriter 인스턴스
+     * @throws IOException 소켓의 스트림을 가져오다 오류 발생시
+     * */
+    public static SocketResponseWriter of(Socket socket) throws IOException {
+        if (socket.getChannel() != null) {
+            return new SocketResponseWriter(socket.getChannel(), null);
+        }
+        return new SocketResponseWriter(null, socket.getOutputStream());
+    }
+
+    /**
+     * 스트림에 응답을 쓰는 인스턴스를 생성합니다.
+     *
+     * @param outputStream 응답을 출력할 스트림
+     * @return SocketResponseWriter 인스턴스
+     * */
+    public static SocketResponseWriter of(OutputStream outputStream) {
+        return new SocketResponseWriter(null, outputStream);
+    }
+
+    @Override
+    public void write(PooledBuffer... buffers) throws IOException {
+        try {
+            if (channel != null) {
+                writeToChannel(buffers);
+                return;
+            }
+            for (PooledBuffer buffer : buffers) {
+                buffer.writeTo(outputStream, 0, buffer.position());
+            }
+            outputStream.flush();
+        } finally {
+            for (PooledBuffer buffer : buffers) {
+                buffer.release();
+            }
+        }
+    }
+
+    /**
+     * 버퍼 목록을 모아 채널에 씁니다. 모든 바이트가 쓰여질 때까지 반복합니다.
+     *
+     * @param buffers 내보낼 버퍼 목록
+     * @throws IOException 채널에 쓰다가 오류 발생시
+     * */
+    private void writeToChannel(PooledBuffer[] buffers) throws IOException {
+        ByteBuffer[] sources = new ByteBuffer[buffers.length];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            sources[i] = buffers[i].slice(0, buffers[i].position());
+            remaining += sources[i].remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(sources);
+        }
+    }
+
+    @Override
+    public void writeFile(PooledBuffer header, File file, long length) throws IOException {
+        if (channel != null) {
+            try {
+                writeToChannel(new PooledBuffer[]{header});
+            } finally {
+                header.release();
+            }
+            transferToChannel(file, length);
+            return;
+        }
+        PooledBuffer chunk = ByteBufferPool.getInstance().acquire();
+        try (InputStream in = new FileInputStream(file)) {
+            header.writeTo(outputStream, 0, header.position());
+            long remaining = length;
+            while (remaining > 0) {
+                chunk.clear();
+                int read = chunk.readFrom(in, (int) Math.min(remaining, ByteBufferPool.getInstance().getChunkSize()));
+                if (read == -1) throw new EOFException("file truncated: " + file);
+                chunk.writeTo(outputStream, 0, read);
+                remaining -= read;
+            }
+            outputStream.flush();
+        } finally {
+            header.release();
+            chunk.release();
+        }
+    }
+
+    /**
+     * 파일을 FileChannel.transferTo로 채널에 보냅니다. 모든 바이트가 보내질 때까지 반복합니다.
+     *
+     * @param file 보낼 파일
+     * @param length 보낼 길이
+     * @throws IOException 파일을 읽거나 채널에 쓰다가 오류 발생시
+     * */
+    private void transferToChannel(File file, long length) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long position = 0;
+            while (position < length) {
+                long transferred = fileChannel.transferTo(position, length - position, channel);
+                if (transferred == 0 && position >= fileChannel.size()) {
+                    throw new EOFException("file truncated: " + file);
+                }
+                position += transferred;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 연결을 받은 후 요청을 처리할 쓰레드가 연결을 맡기 까지의 단계입니다. 쓰레드 풀의 대기 시간을 나타냅니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Accept")
+@Label("HTTP Connection Accept")
+@Description("Waiting for a worker thread after a connection was accepted")
+@Category({"Sambastian", "HTTP"})
+@StackTrace(false)
+public final class AcceptEvent extends Event {
+
+    @Label("Remote Address")
+    String remoteAddress;
+
+    public AcceptEvent() {
+        begin();
+    }
+
+    /**
+     * 측정을 끝내고 기록합니다.
+     *
+     * @param remoteAddress 클라이언트 주소
+     * */
+    public void finish(String remoteAddress) {
+        end();
+        if (!shouldCommit()) return;
+        this.remoteAddress = remoteAddress;
+        commit();
+    }
+
+}
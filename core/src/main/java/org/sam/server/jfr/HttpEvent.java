@@ -0,0 +1,54 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.sam.server.constant.HttpMethod;
+
+/**
+ * 요청 처리 단계마다 발생하는 JFR 이벤트의 상위 클래스입니다. 생성할 때 측정을 시작하며 finish로 끝냅니다.
+ * 녹화 중이 아니거나 임계 시간보다 짧아 기록되지 않는 이벤트는 필드를 채우지 않습니다.
+ *
+ * @author hypernova1
+ * @see ServerEvents
+ */
+@Category({"Sambastian", "HTTP"})
+@StackTrace(false)
+public abstract class HttpEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("URL")
+    String url;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+
+    HttpEvent() {
+        begin();
+    }
+
+    /**
+     * 측정을 끝내고 기록합니다.
+     *
+     * @param method HTTP Method
+     * @param url 요청 URL
+     * @param route 핸들러의 경로 템플릿, 모른다면 null
+     * @param status 응답 상태 코드, 모른다면 0
+     * */
+    public void finish(HttpMethod method, String url, String route, int status) {
+        end();
+        if (!shouldCommit()) return;
+        this.method = method != null ? method.name() : null;
+        this.url = url;
+        this.route = route;
+        this.status = status;
+        commit();
+    }
+
+}
@@ -0,0 +1,16 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 핸들러에 적용된 인터셉터의 preHandler 혹은 postHandler를 실행하는 단계입니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Interceptors")
+@Label("HTTP Interceptors")
+@Description("Running interceptors before or after a handler")
+public final class InterceptorEvent extends HttpEvent {
+}
@@ -0,0 +1,16 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 핸들러 파라미터를 만들고 핸들러 메서드를 실행하는 단계입니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Invoke")
+@Label("HTTP Handler Invoke")
+@Description("Binding parameters and invoking a handler method")
+public final class InvokeEvent extends HttpEvent {
+}
@@ -0,0 +1,16 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 요청을 읽어 Request 인스턴스를 만드는 단계입니다. 첫 바이트가 들어온 후부터 측정합니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Parse")
+@Label("HTTP Request Parse")
+@Description("Reading and parsing the request after its first byte arrived")
+public final class ParseEvent extends HttpEvent {
+}
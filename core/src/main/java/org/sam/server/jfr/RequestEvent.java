@@ -0,0 +1,16 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 필터 체인과 핸들러 혹은 정적 자원 처리를 포함한 요청 처리 전체 단계입니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Request")
+@Label("HTTP Request")
+@Description("Filters and dispatch of a parsed request")
+public final class RequestEvent extends HttpEvent {
+}
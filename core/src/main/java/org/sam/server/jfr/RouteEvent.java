@@ -0,0 +1,16 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 요청에 해당하는 핸들러 메서드를 찾는 단계입니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Route")
+@Label("HTTP Route")
+@Description("Finding the handler method for a request")
+public final class RouteEvent extends HttpEvent {
+}
@@ -0,0 +1,16 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 응답 바디를 JSON으로 직렬화하는 단계입니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Serialize")
+@Label("HTTP Response Serialize")
+@Description("Serializing a response body to JSON")
+public final class SerializeEvent extends HttpEvent {
+}
@@ -0,0 +1,32 @@
+package org.sam.server.jfr;
+
+import org.sam.server.common.ServerProperties;
+
+/**
+ * JFR 이벤트의 사용 여부를 가진 클래스입니다. jfr.enabled가 true이고 JVM에 JFR이 있을 때만 이벤트 인스턴스를 만듭니다.
+ * JFR이 없는 Java 8에서도 동작하도록 기본값은 false이며, 이 클래스는 jdk.jfr을 직접 참조하지 않습니다.
+ * JFR 녹화가 꺼져 있을 때의 이벤트는 begin, commit이 아무 일도 하지 않으므로 비용이 거의 없습니다.
+ * 이벤트는 jcmd {pid} JFR.start 혹은 -XX:StartFlightRecording으로 녹화할 수 있습니다.
+ *
+ * @author hypernova1
+ * @see HttpEvent
+ */
+public final class ServerEvents {
+
+    /**
+     * 이벤트 사용 여부
+     * */
+    public static final boolean ENABLED = ServerProperties.getBoolean("jfr.enabled", false) && isAvailable();
+
+    private ServerEvents() {}
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ServerEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 완성된 응답을 연결에 넘기는 단계입니다. 순서가 된 응답은 이 단계에서 소켓에 쓰여집니다.
+ *
+ * @author hypernova1
+ */
+@Name("org.sam.server.Write")
+@Label("HTTP Response Write")
+@Description("Handing a completed response to the connection, including the socket write when it is next in order")
+public final class WriteEvent extends HttpEvent {
+}
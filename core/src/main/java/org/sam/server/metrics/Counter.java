@@ -0,0 +1,42 @@
+package org.sam.server.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 증가만 하는 카운터입니다. LongAdder를 사용하므로 여러 쓰레드가 동시에 증가시켜도 경합이 적습니다.
+ *
+ * @author hypernova1
+ * @see MetricsRegistry
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {}
+
+    /**
+     * 1 증가시킵니다.
+     * */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * 값만큼 증가시킵니다.
+     *
+     * @param amount 증가시킬 값
+     * */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * 현재 값을 반환합니다.
+     *
+     * @return 현재 값
+     * */
+    public long get() {
+        return value.sum();
+    }
+
+}
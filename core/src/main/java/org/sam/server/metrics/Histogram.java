@@ -0,0 +1,130 @@
+package org.sam.server.metrics;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 소요 시간 분포를 기록하는 HdrHistogram 방식의 히스토그램입니다. 32µs부터 약 33초까지의 2의 거듭제곱 구간마다 같은 너비의 하위 구간 8개를 두므로
+ * 구간의 상한은 값보다 최대 12.5% 크며, 그보다 긴 값은 마지막 구간에 기록합니다.
+ * 구간은 비트 연산으로 바로 계산하고 구간마다 LongAdder를 두므로 기록할 때 잠금이나 탐색이 없습니다.
+ *
+ * @author hypernova1
+ * @see MetricsRegistry
+ */
+public final class Histogram {
+
+    private static final int MIN_SHIFT = 5;
+
+    private static final int MAX_SHIFT = 25;
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (MAX_SHIFT - MIN_SHIFT) * SUB_BUCKETS + 1;
+
+    private static final String[] UPPER_BOUNDS = createUpperBounds();
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS + 1];
+
+    private final LongAdder sumNanos = new LongAdder();
+
+    Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 시작 시각부터 지금까지의 소요 시간을 기록합니다.
+     *
+     * @param startNanos System.nanoTime()으로 구한 시작 시각
+     * */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 소요 시간을 기록합니다.
+     *
+     * @param nanos 나노초 단위의 소요 시간
+     * */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[bucketIndex(nanos / 1000)].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * 값이 속한 구간의 인덱스를 반환합니다. 구간 0의 상한은 2^MIN_SHIFT 마이크로초이며,
+     * 그 뒤로는 2의 거듭제곱 구간마다 하위 구간 SUB_BUCKETS개가 이어집니다. 상한과 같은 값은 그 구간에 속합니다.
+     *
+     * @param micros 마이크로초 단위의 값
+     * @return 구간 인덱스
+     * */
+    static int bucketIndex(long micros) {
+        if (micros <= 1L << MIN_SHIFT) return 0;
+        long value = micros - 1;
+        int shift = 63 - Long.numberOfLeadingZeros(value);
+        if (shift >= MAX_SHIFT) return BUCKETS;
+        int subBucket = (int) (value >>> (shift - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (shift - MIN_SHIFT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 구간의 상한을 반환합니다.
+     *
+     * @param index 구간 인덱스
+     * @return 마이크로초 단위의 상한
+     * */
+    static long upperBound(int index) {
+        if (index == 0) return 1L << MIN_SHIFT;
+        int shift = MIN_SHIFT + (index - 1) / SUB_BUCKETS;
+        int subBucket = (index - 1) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket + 1) << (shift - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * 기록된 값의 개수를 반환합니다.
+     *
+     * @return 기록된 값의 개수
+     * */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Prometheus 텍스트 형식으로 구간별 누적 개수, 합계, 개수를 씁니다.
+     *
+     * @param builder 출력할 StringBuilder
+     * @param name 메트릭 이름
+     * @param labels 중괄호를 제외한 레이블 문자열, 없다면 빈 문자열
+     * */
+    void writeTo(StringBuilder builder, String name, String labels) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i <= BUCKETS; i++) {
+            cumulative += buckets[i].sum();
+            String upperBound = i < BUCKETS ? UPPER_BOUNDS[i] : "+Inf";
+            builder.append(name).append("_bucket{").append(prefix).append("le=\"").append(upperBound).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        String suffix = labels.isEmpty() ? " " : "{" + labels + "} ";
+        builder.append(name).append("_sum").append(suffix)
+                .append(BigDecimal.valueOf(sumNanos.sum()).movePointLeft(9).stripTrailingZeros().toPlainString()).append('\n');
+        builder.append(name).append("_count").append(suffix).append(cumulative).append('\n');
+    }
+
+    private static String[] createUpperBounds() {
+        String[] upperBounds = new String[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            upperBounds[i] = BigDecimal.valueOf(upperBound(i)).movePointLeft(6).stripTrailingZeros().toPlainString();
+        }
+        return upperBounds;
+    }
+
+}
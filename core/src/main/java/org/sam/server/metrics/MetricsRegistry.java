@@ -0,0 +1,192 @@
+package org.sam.server.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 메트릭을 이름과 레이블 값으로 저장하고 Prometheus 텍스트 형식으로 출력하는 클래스입니다.
+ * 같은 이름의 메트릭은 하나의 Family로 묶이며, 레이블 값마다 하나의 Counter 혹은 Histogram을 가집니다.
+ *
+ * @author hypernova1
+ * @see Counter
+ * @see Histogram
+ */
+public final class MetricsRegistry {
+
+    private final Map<String, Family<?>> families = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private MetricsRegistry() {}
+
+    /**
+     * 서버 전체에서 공유하는 인스턴스를 반환합니다.
+     *
+     * @return MetricsRegistry 인스턴스
+     * */
+    public static MetricsRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * 카운터 Family를 등록합니다. 이미 같은 이름으로 등록되어 있다면 기존 Family를 반환합니다.
+     *
+     * @param name 메트릭 이름
+     * @param help 설명
+     * @param labelNames 레이블 이름 목록
+     * @return 카운터 Family
+     * */
+    public Family<Counter> counter(String name, String help, String... labelNames) {
+        return register(name, "counter", help, labelNames, Counter::new);
+    }
+
+    /**
+     * 히스토그램 Family를 등록합니다. 이미 같은 이름으로 등록되어 있다면 기존 Family를 반환합니다.
+     *
+     * @param name 메트릭 이름
+     * @param help 설명
+     * @param labelNames 레이블 이름 목록
+     * @return 히스토그램 Family
+     * */
+    public Family<Histogram> histogram(String name, String help, String... labelNames) {
+        return register(name, "histogram", help, labelNames, Histogram::new);
+    }
+
+    /**
+     * 출력할 때마다 값을 읽어오는 게이지를 등록합니다. 같은 이름으로 다시 등록하면 값을 읽어오는 함수를 교체합니다.
+     *
+     * @param name 메트릭 이름
+     * @param help 설명
+     * @param value 값을 읽어오는 함수
+     * */
+    public void gauge(String name, String help, DoubleSupplier value) {
+        families.put(name, new Family<>(name, "gauge", help, new String[0], () -> value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Family<T> register(String name, String type, String help, String[] labelNames, Supplier<T> factory) {
+        synchronized (families) {
+            Family<?> family = families.get(name);
+            if (family == null) {
+                family = new Family<>(name, type, help, labelNames, factory);
+                families.put(name, family);
+            } else if (!family.type.equals(type)) {
+                throw new IllegalArgumentException("metric already registered as " + family.type + ": " + name);
+            }
+            return (Family<T>) family;
+        }
+    }
+
+    /**
+     * 등록된 모든 메트릭을 Prometheus 텍스트 형식으로 반환합니다.
+     *
+     * @return Prometheus 텍스트
+     * */
+    public String scrape() {
+        List<Family<?>> snapshot;
+        synchronized (families) {
+            snapshot = new ArrayList<>(families.values());
+        }
+        StringBuilder builder = new StringBuilder(4096);
+        for (Family<?> family : snapshot) {
+            family.writeTo(builder);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 같은 이름과 레이블 이름을 가진 메트릭 묶음입니다. 레이블 값마다 메트릭을 처음 요청할 때 생성합니다.
+     *
+     * @param <T> 메트릭 타입
+     */
+    public static final class Family<T> {
+
+        private final String name;
+
+        private final String type;
+
+        private final String help;
+
+        private final String[] labelNames;
+
+        private final Supplier<T> factory;
+
+        private final Map<List<String>, T> children = new ConcurrentHashMap<>();
+
+        private Family(String name, String type, String help, String[] labelNames, Supplier<T> factory) {
+            this.name = name;
+            this.type = type;
+            this.help = help;
+            this.labelNames = labelNames;
+            this.factory = factory;
+        }
+
+        /**
+         * 레이블 값에 해당하는 메트릭을 반환합니다.
+         *
+         * @param labelValues 레이블 이름 순서대로의 레이블 값
+         * @return 메트릭
+         * @throws IllegalArgumentException 레이블 값의 개수가 레이블 이름의 개수와 다를 시
+         * */
+        public T labels(String... labelValues) {
+            if (labelValues.length != labelNames.length) {
+                throw new IllegalArgumentException(name + " requires labels " + Arrays.toString(labelNames));
+            }
+            List<String> key = Arrays.asList(labelValues);
+            T child = children.get(key);
+            if (child != null) return child;
+            return children.computeIfAbsent(key, ignored -> factory.get());
+        }
+
+        private void writeTo(StringBuilder builder) {
+            builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            if (type.equals("gauge")) {
+                DoubleSupplier value = (DoubleSupplier) factory.get();
+                builder.append(name).append(' ').append(formatDouble(value.getAsDouble())).append('\n');
+                return;
+            }
+            for (Map.Entry<List<String>, T> entry : children.entrySet()) {
+                String labels = formatLabels(entry.getKey());
+                T metric = entry.getValue();
+                if (metric instanceof Histogram) {
+                    ((Histogram) metric).writeTo(builder, name, labels);
+                } else {
+                    builder.append(name);
+                    if (!labels.isEmpty()) builder.append('{').append(labels).append('}');
+                    builder.append(' ').append(((Counter) metric).get()).append('\n');
+                }
+            }
+        }
+
+        private String formatLabels(List<String> labelValues) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) builder.append(',');
+                builder.append(labelNames[i]).append("=\"");
+                escape(builder, labelValues.get(i));
+                builder.append('"');
+            }
+            return builder.toString();
+        }
+
+        private static void escape(StringBuilder builder, String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' || c == '"') builder.append('\\').append(c);
+                else if (c == '\n') builder.append("\\n");
+                else builder.append(c);
+            }
+        }
+
+        private static String formatDouble(double value) {
+            if (value == Math.rint(value) && !Double.isInfinite(value)) return String.valueOf((long) value);
+            return String.valueOf(value);
+        }
+    }
+
+    private static class Holder {
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+
+}
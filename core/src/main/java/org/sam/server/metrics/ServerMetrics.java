@@ -0,0 +1,198 @@
+package org.sam.server.metrics;
+
+import org.sam.server.common.ServerProperties;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.http.SessionManager;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서버가 기록하는 메트릭을 모아둔 클래스입니다. metrics.enabled가 true일 때만 기록하며, 관리 리스너의 /metrics로 조회할 수 있습니다.
+ * metrics.expose-on-main이 true라면 일반 요청 포트의 metrics.path(기본 값은 /metrics)로도 조회할 수 있으며, 이 때는 같은 경로의 핸들러보다 먼저 응답합니다.
+ * 요청 수와 핸들러 소요 시간은 요청 URL이 아닌 핸들러의 경로 템플릿(/items/{id})으로 구분합니다.
+ *
+ * @author hypernova1
+ * @see MetricsRegistry
+ */
+public final class ServerMetrics {
+
+    private static final boolean ENABLED = ServerProperties.getBoolean("metrics.enabled", false);
+
+    private static final boolean EXPOSE_ON_MAIN = ServerProperties.getBoolean("metrics.expose-on-main", false);
+
+    private static final String PATH = getPath();
+
+    /**
+     * 핸들러가 아닌 정적 자원 요청의 경로 레이블
+     * */
+    public static final String STATIC_ROUTE = "static";
+
+    /**
+     * 일치하는 핸들러가 없는 요청의 경로 레이블
+     * */
+    public static final String UNMATCHED_ROUTE = "unmatched";
+
+    private static final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    private static final MetricsRegistry.Family<Counter> requests =
+            registry.counter("http_requests_total", "Total number of HTTP requests", "route", "method", "status");
+
+    private static final MetricsRegistry.Family<Histogram> handlerDuration =
+            registry.histogram("http_handler_duration_seconds", "Time spent in handlers including interceptors", "route");
+
+    private static final MetricsRegistry.Family<Counter> responseCache =
+            registry.counter("http_response_cache_total", "Number of response cache lookups", "route", "result");
+
+    private static final MetricsRegistry.Family<Counter> singleFlight =
+            registry.counter("http_single_flight_total", "Number of single-flight requests by whether they ran the handler", "route", "result");
+
+    private static final Histogram parseDuration =
+            registry.histogram("http_request_parse_duration_seconds", "Time spent parsing requests").labels();
+
+    private static final Histogram writeDuration =
+            registry.histogram("http_response_write_duration_seconds", "Time spent writing responses to sockets").labels();
+
+    private static final LongAdder activeConnections = new LongAdder();
+
+    static {
+        registry.gauge("http_active_connections", "Number of open client connections", activeConnections::sum);
+        registry.gauge("http_sessions", "Number of sessions", SessionManager::getSessionCount);
+    }
+
+    private ServerMetrics() {}
+
+    /**
+     * 메트릭 기록 여부를 반환합니다.
+     *
+     * @return 메트릭 기록 여부
+     * */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 일반 요청 포트에서 메트릭을 조회하는 경로인지 확인합니다. metrics.expose-on-main이 false라면 항상 false입니다.
+     *
+     * @param url 요청 URL
+     * @return 메트릭 조회 경로 여부
+     * */
+    public static boolean isMetricsPath(String url) {
+        return ENABLED && EXPOSE_ON_MAIN && url.equals(PATH);
+    }
+
+    /**
+     * 처리가 끝난 요청을 경로, HTTP Method, 상태별로 셉니다.
+     *
+     * @param route 핸들러의 경로 템플릿 혹은 STATIC_ROUTE, UNMATCHED_ROUTE
+     * @param method HTTP Method
+     * @param status 응답 상태
+     * */
+    public static void recordRequest(String route, HttpMethod method, HttpStatus status) {
+        if (!ENABLED) return;
+        requests.labels(route, method.name(), status.getCode()).increment();
+    }
+
+    /**
+     * 핸들러의 소요 시간을 기록합니다.
+     *
+     * @param route 핸들러의 경로 템플릿
+     * @param startNanos 핸들러 실행 전의 System.nanoTime()
+     * */
+    public static void recordHandler(String route, long startNanos) {
+        if (!ENABLED) return;
+        handlerDuration.labels(route).recordSince(startNanos);
+    }
+
+    /**
+     * 응답 캐시의 조회 결과를 hit, miss로 셉니다.
+     *
+     * @param route 핸들러의 경로 템플릿
+     * @param hit 저장된 응답을 찾았는지 여부
+     * */
+    public static void recordResponseCache(String route, boolean hit) {
+        if (!ENABLED) return;
+        responseCache.labels(route, hit ? "hit" : "miss").increment();
+    }
+
+    /**
+     * SingleFlight 요청을 핸들러를 실행한 요청(leader)과 다른 요청의 응답을 함께 사용한 요청(shared)으로 셉니다.
+     *
+     * @param route 핸들러의 경로 템플릿
+     * @param leader 핸들러를 실행했는지 여부
+     * */
+    public static void recordSingleFlight(String route, boolean leader) {
+        if (!ENABLED) return;
+        singleFlight.labels(route, leader ? "leader" : "shared").increment();
+    }
+
+    /**
+     * 요청 파싱 소요 시간을 기록합니다.
+     *
+     * @param startNanos 첫 바이트가 들어온 후의 System.nanoTime()
+     * */
+    public static void recordParse(long startNanos) {
+        if (!ENABLED) return;
+        parseDuration.recordSince(startNanos);
+    }
+
+    /**
+     * 응답을 소켓에 쓴 소요 시간을 기록합니다.
+     *
+     * @param startNanos 쓰기 전의 System.nanoTime()
+     * */
+    public static void recordWrite(long startNanos) {
+        if (!ENABLED) return;
+        writeDuration.recordSince(startNanos);
+    }
+
+    /**
+     * 클라이언트 연결이 열렸음을 기록합니다.
+     * */
+    public static void connectionOpened() {
+        activeConnections.increment();
+    }
+
+    /**
+     * 클라이언트 연결이 닫혔음을 기록합니다.
+     * */
+    public static void connectionClosed() {
+        activeConnections.decrement();
+    }
+
+    /**
+     * 열려 있는 클라이언트 연결 수를 반환합니다.
+     *
+     * @return 열려 있는 연결 수
+     * */
+    public static long getActiveConnections() {
+        return activeConnections.sum();
+    }
+
+    /**
+     * 요청을 처리하는 쓰레드 풀의 대기열 길이와 실행 중인 쓰레드 수를 게이지로 등록합니다.
+     *
+     * @param executor 요청을 처리하는 쓰레드 풀
+     * */
+    public static void registerThreadPool(ThreadPoolExecutor executor) {
+        registry.gauge("http_pool_queue_depth", "Number of connections waiting for a worker thread", () -> executor.getQueue().size());
+        registry.gauge("http_pool_active_threads", "Number of worker threads handling connections", executor::getActiveCount);
+        registry.gauge("http_pool_size", "Number of worker threads", executor::getPoolSize);
+    }
+
+    /**
+     * 등록된 모든 메트릭을 Prometheus 텍스트 형식으로 반환합니다.
+     *
+     * @return Prometheus 텍스트
+     * */
+    public static String scrape() {
+        return registry.scrape();
+    }
+
+    private static String getPath() {
+        String path = ServerProperties.get("metrics.path");
+        return path == null || path.isEmpty() ? "/metrics" : path;
+    }
+
+}
@@ -0,0 +1,257 @@
+package org.sam.server.processor;
+
+import org.sam.server.annotation.ComponentScan;
+import org.sam.server.annotation.WebFilter;
+import org.sam.server.annotation.component.Component;
+import org.sam.server.annotation.component.Handler;
+import org.sam.server.http.Interceptor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 컴파일 시점에 컴포넌트 인덱스를 생성하는 어노테이션 프로세서입니다.
+ * ComponentScan이 선언된 루트 패키지와 핸들러, 컴포넌트, 인터셉터, 필터 클래스를 META-INF/sambastian/components.idx에 기록하며,
+ * BeanClassLoader는 인덱스가 있다면 클래스 경로를 탐색하지 않고 인덱스의 클래스만 읽어 들입니다.
+ * 프레임워크 jar의 META-INF/services에 등록되어 있어 애플리케이션을 컴파일할 때 자동으로 실행됩니다.
+ * 증분 컴파일에서는 일부 클래스만 다시 컴파일되므로 기존 인덱스를 읽어 이번에 컴파일하지 않은 클래스의 항목을 유지합니다.
+ *
+ * @author hypernova1
+ * @see org.sam.server.context.BeanClassLoader
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_LOCATION = "META-INF/sambastian/components.idx";
+
+    public static final String SCAN_ROOT = "scan-root";
+
+    public static final String HANDLER = "handler";
+
+    public static final String COMPONENT = "component";
+
+    public static final String INTERCEPTOR = "interceptor";
+
+    public static final String FILTER = "filter";
+
+    private final Set<String> scanRoots = new LinkedHashSet<>();
+
+    private final Set<String> handlers = new LinkedHashSet<>();
+
+    private final Set<String> components = new LinkedHashSet<>();
+
+    private final Set<String> interceptors = new LinkedHashSet<>();
+
+    private final Set<String> filters = new LinkedHashSet<>();
+
+    private final Set<String> compiledClasses = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        return false;
+    }
+
+    /**
+     * 클래스와 중첩 클래스를 확인하여 인덱스에 기록할 항목을 모읍니다.
+     *
+     * @param element 클래스 요소
+     * */
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement)) return;
+        TypeElement type = (TypeElement) element;
+        if (type.getKind() == ElementKind.CLASS) {
+            String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+            compiledClasses.add(className);
+            if (hasAnnotation(type, ComponentScan.class.getName())) {
+                scanRoots.add(getPackageName(type));
+            }
+            if (hasAnnotation(type, Handler.class.getName())) {
+                handlers.add(className);
+            }
+            if (isComponent(type)) {
+                components.add(className);
+            }
+            if (isInterceptor(type)) {
+                interceptors.add(className);
+            }
+            if (hasAnnotation(type, WebFilter.class.getName())) {
+                filters.add(className);
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    /**
+     * 모은 항목을 기존 인덱스와 합쳐 인덱스 파일로 씁니다.
+     * */
+    private void writeIndex() {
+        mergeExistingIndex();
+        if (scanRoots.isEmpty() && handlers.isEmpty() && components.isEmpty() && interceptors.isEmpty() && filters.isEmpty()) return;
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# generated by " + ComponentIndexProcessor.class.getName() + "\n");
+                writeEntries(writer, SCAN_ROOT, scanRoots);
+                writeEntries(writer, HANDLER, handlers);
+                writeEntries(writer, COMPONENT, components);
+                writeEntries(writer, INTERCEPTOR, interceptors);
+                writeEntries(writer, FILTER, filters);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "failed to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 이전 컴파일에서 생성된 인덱스를 읽어 이번에 컴파일하지 않았고 아직 존재하는 클래스의 항목을 추가합니다.
+     * 루트 패키지는 이번 컴파일에서 ComponentScan을 찾지 못한 경우에만 기존 값을 유지합니다.
+     * */
+    private void mergeExistingIndex() {
+        Set<String> existingScanRoots = new LinkedHashSet<>();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int index = line.indexOf('=');
+                    if (line.startsWith("#") || index == -1) continue;
+                    String key = line.substring(0, index).trim();
+                    String value = line.substring(index + 1).trim();
+                    if (key.equals(SCAN_ROOT)) {
+                        existingScanRoots.add(value);
+                        continue;
+                    }
+                    Set<String> values = getEntries(key);
+                    if (values == null || compiledClasses.contains(value) || !exists(value)) continue;
+                    values.add(value);
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return;
+        } catch (IOException | IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "no previous " + INDEX_LOCATION + ": " + e.getMessage());
+            return;
+        }
+        if (scanRoots.isEmpty()) scanRoots.addAll(existingScanRoots);
+    }
+
+    private Set<String> getEntries(String key) {
+        switch (key) {
+            case HANDLER: return handlers;
+            case COMPONENT: return components;
+            case INTERCEPTOR: return interceptors;
+            case FILTER: return filters;
+            default: return null;
+        }
+    }
+
+    /**
+     * 클래스가 컴파일 클래스 경로에 아직 존재하는지 확인합니다.
+     *
+     * @param className 클래스의 바이너리 이름
+     * @return 존재 여부
+     * */
+    private boolean exists(String className) {
+        return processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null;
+    }
+
+    private void writeEntries(Writer writer, String key, Set<String> values) throws IOException {
+        for (String value : values) {
+            writer.write(key + "=" + value + "\n");
+        }
+    }
+
+    /**
+     * 해당 어노테이션이 직접 선언되어 있는지 확인합니다.
+     *
+     * @param type 클래스 요소
+     * @param annotationName 어노테이션 이름
+     * @return 어노테이션 선언 여부
+     * */
+    private boolean hasAnnotation(Element type, String annotationName) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (getName(annotation).equals(annotationName)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Component 어노테이션 혹은 Component가 선언된 어노테이션이 붙어 있는지 확인합니다.
+     *
+     * @param type 클래스 요소
+     * @return 컴포넌트 여부
+     * */
+    private boolean isComponent(TypeElement type) {
+        String componentName = Component.class.getName();
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (getName(annotation).equals(componentName)) return true;
+            if (hasAnnotation(annotation.getAnnotationType().asElement(), componentName)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Interceptor를 직접 구현한 클래스인지 확인합니다.
+     *
+     * @param type 클래스 요소
+     * @return Interceptor 구현 여부
+     * */
+    private boolean isInterceptor(TypeElement type) {
+        for (TypeMirror anInterface : type.getInterfaces()) {
+            Element element = ((DeclaredType) anInterface).asElement();
+            if (((TypeElement) element).getQualifiedName().contentEquals(Interceptor.class.getName())) return true;
+        }
+        return false;
+    }
+
+    private String getName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private String getPackageName(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        PackageElement packageElement = elements.getPackageOf(type);
+        return packageElement.getQualifiedName().toString();
+    }
+
+}
@@ -0,0 +1,212 @@
+package org.sam.server.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.sam.server.annotation.handle.JsonRequest;
+import org.sam.server.annotation.handle.RequestMapping;
+import org.sam.server.http.web.ResponseEntity;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 요청 파라미터나 JSON을 인스턴슫로 변환하는 클래스입니다.
+ * JSON 변환에 사용하는 TypeAdapter는 제네릭 정보를 포함한 선언 타입별로 저장하며,
+ * 핸들러의 반환 타입과 JsonRequest 파라미터 타입, 파라미터 값 변환 함수는 핸들러를 등록할 때 미리 만들어 둡니다.
+ *
+ * @author hypernova1
+ */
+public class Converter {
+
+    private static final Gson gson = new Gson();
+
+    private static final Map<Type, TypeAdapter<?>> typeAdapters = new ConcurrentHashMap<>();
+
+    private static final Map<Method, Type> responseBodyTypes = new ConcurrentHashMap<>();
+
+    private static final Map<Method, Function<String, ?>[]> parameterParsers = new ConcurrentHashMap<>();
+
+    /**
+     * 핸들러 클래스의 핸들러 메서드마다 응답 바디 타입과 JsonRequest 파라미터 타입의 TypeAdapter,
+     * 파라미터 값 변환 함수를 미리 만들어 둡니다.
+     *
+     * @param handlerClass 핸들러 클래스
+     * */
+    public static void registerHandler(Class<?> handlerClass) {
+        for (Method method : handlerClass.getDeclaredMethods()) {
+            if (!isHandlerMethod(method)) continue;
+            getParameterParsers(method);
+            Type responseBodyType = getResponseBodyType(method);
+            if (responseBodyType != null) getTypeAdapter(responseBodyType);
+            for (Parameter parameter : method.getParameters()) {
+                if (parameter.getDeclaredAnnotation(JsonRequest.class) == null) continue;
+                getTypeAdapter(parameter.getParameterizedType());
+            }
+        }
+    }
+
+    private static boolean isHandlerMethod(Method method) {
+        for (Annotation annotation : method.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getDeclaredAnnotation(RequestMapping.class) != null) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 핸들러 메서드가 응답 바디로 쓰는 값의 선언 타입을 반환합니다.
+     * CompletionStage와 ResponseEntity는 타입 인자로 풀어내며, 타입 인자를 알 수 없다면 null을 반환합니다.
+     *
+     * @param handlerMethod 핸들러 메서드
+     * @return 응답 바디 타입
+     * */
+    public static Type getResponseBodyType(Method handlerMethod) {
+        Type type = responseBodyTypes.get(handlerMethod);
+        if (type != null) return type == Void.class ? null : type;
+        type = unwrap(unwrap(handlerMethod.getGenericReturnType(), CompletionStage.class), ResponseEntity.class);
+        responseBodyTypes.put(handlerMethod, type == null ? Void.class : type);
+        return type;
+    }
+
+    /**
+     * 핸들러 메서드의 파라미터마다 요청 파라미터 문자열을 파라미터 타입으로 바꾸는 함수를 반환합니다.
+     * 변환 함수가 없는 타입의 자리는 null입니다.
+     *
+     * @param handlerMethod 핸들러 메서드
+     * @return 파라미터별 변환 함수
+     * @see ValueParsers
+     * */
+    @SuppressWarnings("unchecked")
+    public static Function<String, ?>[] getParameterParsers(Method handlerMethod) {
+        Function<String, ?>[] parsers = parameterParsers.get(handlerMethod);
+        if (parsers != null) return parsers;
+        Class<?>[] parameterTypes = handlerMethod.getParameterTypes();
+        parsers = (Function<String, ?>[]) new Function<?, ?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parsers[i] = ValueParsers.get(parameterTypes[i]);
+        }
+        parameterParsers.put(handlerMethod, parsers);
+        return parsers;
+    }
+
+    private static Type unwrap(Type type, Class<?> wrapperType) {
+        if (type == null) return null;
+        Class<?> rawType = TypeToken.get(type).getRawType();
+        if (!wrapperType.isAssignableFrom(rawType)) return type;
+        if (!(type instanceof ParameterizedType)) return null;
+        Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+        return argument instanceof Class || argument instanceof ParameterizedType ? argument : null;
+    }
+
+    /**
+     * 타입에 해당하는 TypeAdapter를 반환합니다. 처음 요청한 타입이라면 생성 후 저장합니다.
+     *
+     * @param type 제네릭 정보를 포함한 타입
+     * @return TypeAdapter
+     * */
+    private static TypeAdapter<?> getTypeAdapter(Type type) {
+        TypeAdapter<?> typeAdapter = typeAdapters.get(type);
+        if (typeAdapter != null) return typeAdapter;
+        return typeAdapters.computeIfAbsent(type, key -> gson.getAdapter(TypeToken.get(key)));
+    }
+
+    /**
+     * 파라미터를 받아 인스턴스에 값을 넣어주고 인스턴스를 반환합니다.
+     * Setter의 파라미터 타입에 맞게 값을 변환하며, "프로퍼티.하위 프로퍼티" 형식의 파라미터는 중첩된 인스턴스에 넣습니다.
+     *
+     * @param parameters 요청 파라미터
+     * @param type 핸들러의 파라미터 타입
+     * @return 파라미턴 인스턴스
+     * @see ParameterBinder
+     * */
+    public static Object parameterToObject(Map<String, String> parameters, Class<?> type) {
+        return ParameterBinder.of(type).bind(parameters);
+    }
+
+    /**
+     * JSON을 인스턴스로 바꾸고 반환합니다.
+     *
+     * @param <T> 핸들러 파라미터의 클래스 타입
+     * @param json 요청 JSON
+     * @param type 핸들러 파라미터 클래스
+     * @return 파라미터 인스턴스
+     * */
+    public static <T> T jsonToObject(String json, Class<T> type) {
+        return gson.fromJson(json, type);
+    }
+
+    /**
+     * JSON 스트림을 문자열로 변환하지 않고 바로 읽어 인스턴스로 바꾸고 반환합니다.
+     *
+     * @param <T> 핸들러 파라미터의 클래스 타입
+     * @param in JSON 스트림
+     * @param type 제네릭 정보를 포함한 핸들러 파라미터 타입
+     * @return 파라미터 인스턴스, 본문이 비어 있다면 null
+     * @throws JsonSyntaxException JSON 형식이 올바르지 않을 시
+     * */
+    @SuppressWarnings("unchecked")
+    public static <T> T jsonToObject(InputStream in, Type type) {
+        if (in == null) return null;
+        JsonReader reader = gson.newJsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        try {
+            reader.peek();
+            return (T) getTypeAdapter(type).read(reader);
+        } catch (EOFException e) {
+            return null;
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * 값을 JSON으로 직렬화하여 Writer에 바로 씁니다.
+     * 선언 타입이 제네릭 타입이라면 선언 타입의 TypeAdapter를, 그렇지 않다면 실제 클래스의 TypeAdapter를 사용합니다.
+     *
+     * @param value 값
+     * @param type 값의 선언 타입, 모른다면 null
+     * @param writer 출력할 Writer
+     * @throws IOException 출력 중 오류 발생시
+     * */
+    @SuppressWarnings("unchecked")
+    public static void writeJson(Object value, Type type, Writer writer) throws IOException {
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        jsonWriter.setLenient(true);
+        TypeAdapter<Object> typeAdapter = (TypeAdapter<Object>) getTypeAdapter(resolveType(value, type));
+        typeAdapter.write(jsonWriter, value);
+        jsonWriter.flush();
+    }
+
+    private static Type resolveType(Object value, Type type) {
+        if (value == null) return type != null ? type : Object.class;
+        if (type instanceof ParameterizedType && TypeToken.get(type).getRawType().isInstance(value)) return type;
+        return value.getClass();
+    }
+
+    /**
+     * 인스턴를 JSON으로 변환합니다.
+     *
+     * @param object 인스턴스
+     * @return JSON
+     * */
+    public static String objectToJson(Object object) {
+        return gson.toJson(object);
+    }
+
+}
@@ -0,0 +1,318 @@
+package org.sam.server.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 한 클래스의 인스턴스를 다른 클래스의 인스턴스로 옮기는 방법을 클래스 쌍마다 한 번만 계산하여 저장하는 클래스입니다.
+ * 같은 이름의 Getter와 Setter를 MethodHandle로 연결하고, 타입이 다르다면 값 변환 함수를 끼워 넣습니다.
+ * 원시 타입과 박스 타입, 숫자 타입 사이의 변환, 문자열 변환, 컬렉션과 중첩된 인스턴스의 변환을 지원합니다.
+ *
+ * @author hypernova1
+ * @see ModelMapper
+ */
+final class MappingPlan {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappingPlan.class);
+
+    private static final Map<Class<?>, Map<Class<?>, MappingPlan>> plans = new ConcurrentHashMap<>();
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CUSTOM_MAPPER_TYPE = MethodType.methodType(void.class, Object.class, Object.class, Object.class);
+
+    private final Class<?> sourceType;
+
+    private final Class<?> targetType;
+
+    private final MethodHandle constructor;
+
+    private final List<PropertyMapping> properties;
+
+    private volatile CustomMapping customMapping;
+
+    private MappingPlan(Class<?> sourceType, Class<?> targetType, MethodHandle constructor, List<PropertyMapping> properties) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.constructor = constructor;
+        this.properties = properties;
+    }
+
+    /**
+     * 클래스 쌍에 해당하는 계획을 반환합니다. 처음 요청한 쌍이라면 생성 후 저장합니다.
+     *
+     * @param sourceType 기존 클래스
+     * @param targetType 변경할 클래스
+     * @return 변환 계획
+     * */
+    static MappingPlan of(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, MappingPlan> targetPlans = plans.computeIfAbsent(sourceType, key -> new ConcurrentHashMap<>());
+        MappingPlan plan = targetPlans.get(targetType);
+        if (plan != null) return plan;
+        plan = create(sourceType, targetType);
+        MappingPlan saved = targetPlans.putIfAbsent(targetType, plan);
+        return saved != null ? saved : plan;
+    }
+
+    private static MappingPlan create(Class<?> sourceType, Class<?> targetType) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructor = null;
+        try {
+            Constructor<?> declaredConstructor = targetType.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            constructor = lookup.unreflectConstructor(declaredConstructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            logger.warn("no accessible default constructor: {}", targetType.getName());
+        }
+
+        Map<String, Method> setters = new HashMap<>();
+        for (Method method : targetType.getMethods()) {
+            if (!isSetter(method)) continue;
+            setters.putIfAbsent(method.getName().substring(3), method);
+        }
+        List<PropertyMapping> properties = new ArrayList<>();
+        for (Method getter : sourceType.getMethods()) {
+            String propertyName = getPropertyName(getter);
+            if (propertyName == null) continue;
+            Method setter = setters.get(propertyName);
+            if (setter == null) continue;
+            Function<Object, Object> converter = createConverter(getter.getGenericReturnType(), setter.getGenericParameterTypes()[0]);
+            if (converter == null) continue;
+            try {
+                getter.setAccessible(true);
+                setter.setAccessible(true);
+                properties.add(new PropertyMapping(
+                        propertyName,
+                        lookup.unreflect(getter).asType(GETTER_TYPE),
+                        lookup.unreflect(setter).asType(SETTER_TYPE),
+                        converter,
+                        setter.getParameterTypes()[0].isPrimitive()));
+            } catch (IllegalAccessException | RuntimeException e) {
+                logger.warn("inaccessible property: {} > {}.{}", sourceType.getName(), targetType.getName(), propertyName);
+            }
+        }
+        return new MappingPlan(sourceType, targetType, constructor, Collections.unmodifiableList(properties));
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set")
+                && method.getName().length() > 3
+                && method.getParameterCount() == 1
+                && !Modifier.isStatic(method.getModifiers());
+    }
+
+    /**
+     * Getter라면 프로퍼티 이름을 대문자로 시작하는 형태로 반환합니다.
+     *
+     * @param method 메서드
+     * @return 프로퍼티 이름, Getter가 아니라면 null
+     * */
+    private static String getPropertyName(Method method) {
+        if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())) return null;
+        if (method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) return null;
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) return name.substring(3);
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) return name.substring(2);
+        return null;
+    }
+
+    /**
+     * Getter의 반환 타입을 Setter의 파라미터 타입으로 바꾸는 함수를 만듭니다.
+     *
+     * @param sourceType Getter의 반환 타입
+     * @param targetType Setter의 파라미터 타입
+     * @return 변환 함수, 변환할 수 없다면 null
+     * */
+    private static Function<Object, Object> createConverter(Type sourceType, Type targetType) {
+        Class<?> sourceClass = box(rawType(sourceType));
+        Class<?> targetClass = box(rawType(targetType));
+        if (Collection.class.isAssignableFrom(sourceClass) && Collection.class.isAssignableFrom(targetClass)) {
+            return createCollectionConverter(targetClass, elementType(targetType));
+        }
+        if (targetClass.isAssignableFrom(sourceClass)) return Function.identity();
+        if (targetClass == String.class) return String::valueOf;
+        if (sourceClass == String.class) {
+            Function<String, ?> parser = ValueParsers.get(targetClass);
+            return parser == null ? null : value -> parser.apply((String) value);
+        }
+        if (Number.class.isAssignableFrom(sourceClass) && Number.class.isAssignableFrom(targetClass)) {
+            return createNumberConverter(targetClass);
+        }
+        if (isBean(sourceClass) && isBean(targetClass)) {
+            return value -> of(value.getClass(), targetClass).map(value, null);
+        }
+        return null;
+    }
+
+    private static Function<Object, Object> createNumberConverter(Class<?> targetClass) {
+        if (targetClass == Integer.class) return value -> ((Number) value).intValue();
+        if (targetClass == Long.class) return value -> ((Number) value).longValue();
+        if (targetClass == Double.class) return value -> ((Number) value).doubleValue();
+        if (targetClass == Float.class) return value -> ((Number) value).floatValue();
+        if (targetClass == Short.class) return value -> ((Number) value).shortValue();
+        if (targetClass == Byte.class) return value -> ((Number) value).byteValue();
+        Function<String, ?> parser = ValueParsers.get(targetClass);
+        return parser == null ? null : value -> parser.apply(value.toString());
+    }
+
+    /**
+     * 컬렉션을 새 컬렉션으로 복사하는 함수를 만듭니다. 원소 타입이 인스턴스 타입이라면 원소도 변환합니다.
+     *
+     * @param targetClass 변경할 컬렉션 타입
+     * @param elementType 변경할 컬렉션의 원소 타입
+     * @return 변환 함수
+     * */
+    private static Function<Object, Object> createCollectionConverter(Class<?> targetClass, Class<?> elementType) {
+        boolean set = Set.class.isAssignableFrom(targetClass);
+        boolean mapElement = elementType != null && isBean(elementType);
+        return value -> {
+            Collection<Object> result = set ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                if (mapElement && element != null && !elementType.isInstance(element)) {
+                    element = of(element.getClass(), elementType).map(element, null);
+                }
+                result.add(element);
+            }
+            return result;
+        };
+    }
+
+    private static boolean isBean(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isInterface() && !type.isEnum()
+                && !type.getName().startsWith("java.") && !ValueParsers.isSupported(type);
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class) return (Class<?>) type;
+        if (type instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) type).getRawType();
+        return Object.class;
+    }
+
+    private static Class<?> elementType(Type collectionType) {
+        if (!(collectionType instanceof ParameterizedType)) return null;
+        Type argument = ((ParameterizedType) collectionType).getActualTypeArguments()[0];
+        return argument instanceof Class ? (Class<?>) argument : null;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+        return type;
+    }
+
+    /**
+     * 계획대로 새 인스턴스를 만들어 값을 옮긴 후, CustomModelMapper가 있다면 실행합니다.
+     *
+     * @param source 기존 인스턴스
+     * @param customMapper CustomModelMapper 빈, 없다면 null
+     * @return 변경된 인스턴스, 생성할 수 없다면 null
+     * */
+    Object map(Object source, Object customMapper) {
+        if (constructor == null) return null;
+        Object target;
+        try {
+            target = (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            logger.error("failed to create instance: {}", targetType.getName(), e);
+            return null;
+        }
+        for (PropertyMapping property : properties) {
+            try {
+                Object value = (Object) property.getter.invokeExact(source);
+                if (value != null) value = property.converter.apply(value);
+                if (value == null && property.primitive) continue;
+                property.setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                logger.debug("failed to map property: {} > {}.{}", sourceType.getName(), targetType.getName(), property.name, e);
+            }
+        }
+        if (customMapper != null) {
+            applyCustomMapping(customMapper, source, target);
+        }
+        return target;
+    }
+
+    /**
+     * CustomModelMapper에 두 클래스를 받는 map 메서드가 있다면 실행합니다. 메서드는 CustomModelMapper 클래스별로 한 번만 찾습니다.
+     *
+     * @param customMapper CustomModelMapper 빈
+     * @param source 기존 인스턴스
+     * @param target 변경된 인스턴스
+     * */
+    private void applyCustomMapping(Object customMapper, Object source, Object target) {
+        CustomMapping mapping = customMapping;
+        if (mapping == null || mapping.mapperType != customMapper.getClass()) {
+            mapping = CustomMapping.of(customMapper.getClass(), sourceType, targetType);
+            customMapping = mapping;
+        }
+        if (mapping.map == null) return;
+        try {
+            mapping.map.invokeExact(customMapper, source, target);
+        } catch (Throwable e) {
+            logger.warn("custom model mapper failed: {} > {}", sourceType.getName(), targetType.getName(), e);
+        }
+    }
+
+    private static final class PropertyMapping {
+
+        private final String name;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final Function<Object, Object> converter;
+
+        private final boolean primitive;
+
+        private PropertyMapping(String name, MethodHandle getter, MethodHandle setter, Function<Object, Object> converter, boolean primitive) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+            this.converter = converter;
+            this.primitive = primitive;
+        }
+    }
+
+    private static final class CustomMapping {
+
+        private final Class<?> mapperType;
+
+        private final MethodHandle map;
+
+        private CustomMapping(Class<?> mapperType, MethodHandle map) {
+            this.mapperType = mapperType;
+            this.map = map;
+        }
+
+        private static CustomMapping of(Class<?> mapperType, Class<?> sourceType, Class<?> targetType) {
+            try {
+                Method method = mapperType.getMethod("map", sourceType, targetType);
+                method.setAccessible(true);
+                return new CustomMapping(mapperType, MethodHandles.lookup().unreflect(method).asType(CUSTOM_MAPPER_TYPE));
+            } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+                return new CustomMapping(mapperType, null);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.sam.server.util;
+
+import org.sam.server.context.BeanFactory;
+
+import java.util.List;
+
+/**
+ * 인스턴스를 다른 인스턴스로 변환할 수 있게 하는 클래스입니다.
+ * 변환 방법은 클래스 쌍마다 한 번만 계산하여 저장하며, 같은 이름의 Getter와 Setter를 MethodHandle로 연결합니다.
+ *
+ * @author hypernova1
+ * @see MappingPlan
+ */
+public class ModelMapper {
+
+    /**
+     * 인스턴스를 다른 클래스 타입으로 변환합니다. CustomModelMapper 빈에 두 타입을 받는 map 메서드가 있다면 마지막에 실행합니다.
+     *
+     * @param <T> 기존 인스턴스 타입
+     * @param <U> 변경할 클래스 타입
+     * @param instance 기존 인스턴스
+     * @param clazz 변경할 클래스 타입
+     * @return 변경된 인스턴스
+     * */
+    @SuppressWarnings("unchecked")
+    public <T, U> U convert(T instance, Class<U> clazz) {
+        if (instance == null) return null;
+        List<?> customMappers = BeanFactory.getInstance().getBeanList(CustomModelMapper.class);
+        Object customMapper = customMappers.isEmpty() ? null : customMappers.get(0);
+        return (U) MappingPlan.of(instance.getClass(), clazz).map(instance, customMapper);
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.sam.server.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 요청 파라미터를 클래스의 인스턴스에 넣어주는 클래스입니다.
+ * 클래스마다 기본 생성자와 Setter의 MethodHandle, 프로퍼티 이름, 값 변환 함수를 한 번만 계산하여 저장합니다.
+ * 변환 함수가 없는 타입의 프로퍼티는 "프로퍼티.하위 프로퍼티" 형식의 파라미터로 중첩된 인스턴스를 만들어 넣습니다.
+ *
+ * @author hypernova1
+ * @see ValueParsers
+ */
+final class ParameterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParameterBinder.class);
+
+    private static final Map<Class<?>, ParameterBinder> binders = new ConcurrentHashMap<>();
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+
+    private final MethodHandle constructor;
+
+    private final List<Property> properties;
+
+    private ParameterBinder(Class<?> type, MethodHandle constructor, List<Property> properties) {
+        this.type = type;
+        this.constructor = constructor;
+        this.properties = properties;
+    }
+
+    /**
+     * 클래스에 해당하는 인스턴스를 반환합니다. 처음 요청한 클래스라면 생성 후 저장합니다.
+     *
+     * @param type 클래스
+     * @return ParameterBinder 인스턴스
+     * */
+    static ParameterBinder of(Class<?> type) {
+        ParameterBinder binder = binders.get(type);
+        if (binder != null) return binder;
+        binder = create(type);
+        ParameterBinder saved = binders.putIfAbsent(type, binder);
+        return saved != null ? saved : binder;
+    }
+
+    private static ParameterBinder create(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle constructor = null;
+        try {
+            Constructor<?> declaredConstructor = type.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            constructor = lookup.unreflectConstructor(declaredConstructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            logger.warn("no accessible default constructor: {}", type.getName());
+        }
+        List<Property> properties = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (!isSetter(method)) continue;
+            Class<?> propertyType = method.getParameterTypes()[0];
+            try {
+                method.setAccessible(true);
+                MethodHandle setter = lookup.unreflect(method).asType(SETTER_TYPE);
+                properties.add(new Property(getPropertyName(method), propertyType, setter, ValueParsers.get(propertyType)));
+            } catch (IllegalAccessException | RuntimeException e) {
+                logger.warn("inaccessible setter: {}", method);
+            }
+        }
+        return new ParameterBinder(type, constructor, Collections.unmodifiableList(properties));
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set")
+                && method.getName().length() > 3
+                && method.getParameterCount() == 1
+                && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static String getPropertyName(Method setter) {
+        String propertyName = setter.getName().substring(3);
+        return propertyName.substring(0, 1).toLowerCase() + propertyName.substring(1);
+    }
+
+    /**
+     * 인스턴스를 생성하여 파라미터를 넣은 후 반환합니다.
+     *
+     * @param parameters 요청 파라미터
+     * @return 인스턴스, 생성할 수 없다면 null
+     * */
+    Object bind(Map<String, String> parameters) {
+        return bind(parameters, "");
+    }
+
+    private Object bind(Map<String, String> parameters, String prefix) {
+        if (constructor == null) return null;
+        Object instance;
+        try {
+            instance = (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            logger.error("failed to create instance: {}", type.getName(), e);
+            return null;
+        }
+        for (Property property : properties) {
+            String name = prefix + property.name;
+            Object value = property.parser != null
+                    ? parse(property, parameters.get(name))
+                    : bindNested(property, parameters, name + ".");
+            if (value == null) continue;
+            try {
+                property.setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                logger.warn("failed to set property: {}.{}", type.getName(), property.name, e);
+            }
+        }
+        return instance;
+    }
+
+    private Object parse(Property property, String value) {
+        if (value == null) return null;
+        try {
+            return property.parser.apply(value);
+        } catch (RuntimeException e) {
+            logger.warn("invalid value for {}.{}: {}", type.getName(), property.name, value);
+            return null;
+        }
+    }
+
+    private Object bindNested(Property property, Map<String, String> parameters, String prefix) {
+        if (property.type.isPrimitive() || property.type.isArray() || property.type.isInterface()) return null;
+        for (String key : parameters.keySet()) {
+            if (key.startsWith(prefix)) return of(property.type).bind(parameters, prefix);
+        }
+        return null;
+    }
+
+    private static final class Property {
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final MethodHandle setter;
+
+        private final Function<String, ?> parser;
+
+        private Property(String name, Class<?> type, MethodHandle setter, Function<String, ?> parser) {
+            this.name = name;
+            this.type = type;
+            this.setter = setter;
+            this.parser = parser;
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package org.sam.server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * URL 경로 패턴입니다. 패턴은 생성할 때 한 번만 해석합니다.
+ * 경로는 /로 나눈 구간 단위로 비교하며, *는 한 구간, **는 0개 이상의 구간과 일치합니다.
+ * 구간 안의 *는 임의의 문자열과 일치하므로 *.json처럼 확장자로 비교할 수 있습니다. /로 시작하지 않는 *.json은 모든 경로의 확장자와 비교합니다.
+ * /api/*처럼 *로 끝나는 패턴은 /api 자체와도 일치합니다.
+ *
+ * @author hypernova1
+ */
+public final class PathPattern {
+
+    private static final String ANY_SEGMENT = "*";
+
+    private static final String ANY_SEGMENTS = "**";
+
+    private final String pattern;
+
+    private final String[] segments;
+
+    private final Pattern[] segmentPatterns;
+
+    private PathPattern(String pattern) {
+        this.pattern = pattern;
+        String normalized = pattern.startsWith("/") ? pattern : "/**/" + pattern;
+        this.segments = split(normalized);
+        this.segmentPatterns = new Pattern[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals(ANY_SEGMENT) || segment.equals(ANY_SEGMENTS) || !segment.contains("*")) continue;
+            StringBuilder regex = new StringBuilder();
+            for (String part : segment.split("\\*", -1)) {
+                if (regex.length() > 0) regex.append(".*");
+                regex.append(Pattern.quote(part));
+            }
+            segmentPatterns[i] = Pattern.compile(regex.toString());
+        }
+    }
+
+    /**
+     * 패턴을 해석하여 인스턴스를 생성합니다.
+     *
+     * @param pattern 경로 패턴
+     * @return PathPattern 인스턴스
+     * */
+    public static PathPattern of(String pattern) {
+        return new PathPattern(pattern.trim());
+    }
+
+    /**
+     * 경로가 패턴과 일치하는지 확인합니다.
+     *
+     * @param path 요청 경로
+     * @return 일치 여부
+     * */
+    public boolean matches(String path) {
+        return matches(split(path), 0, 0);
+    }
+
+    private boolean matches(String[] pathSegments, int patternIndex, int pathIndex) {
+        if (patternIndex == segments.length) return pathIndex == pathSegments.length;
+        String segment = segments[patternIndex];
+        if (segment.equals(ANY_SEGMENTS)) {
+            for (int i = pathIndex; i <= pathSegments.length; i++) {
+                if (matches(pathSegments, patternIndex + 1, i)) return true;
+            }
+            return false;
+        }
+        if (pathIndex == pathSegments.length) {
+            return patternIndex == segments.length - 1 && segment.equals(ANY_SEGMENT);
+        }
+        if (!matchesSegment(patternIndex, pathSegments[pathIndex])) return false;
+        return matches(pathSegments, patternIndex + 1, pathIndex + 1);
+    }
+
+    private boolean matchesSegment(int patternIndex, String pathSegment) {
+        String segment = segments[patternIndex];
+        if (segment.equals(ANY_SEGMENT)) return true;
+        Pattern segmentPattern = segmentPatterns[patternIndex];
+        if (segmentPattern != null) return segmentPattern.matcher(pathSegment).matches();
+        return segment.equals(pathSegment);
+    }
+
+    private static String[] split(String path) {
+        int queryIndex = path.indexOf('?');
+        if (queryIndex != -1) path = path.substring(0, queryIndex);
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i < path.length() && path.charAt(i) != '/') continue;
+            if (i > start) segments.add(path.substring(start, i));
+            start = i + 1;
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+}
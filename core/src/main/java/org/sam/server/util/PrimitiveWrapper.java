@@ -1,13 +1,14 @@
 package org.sam.server.util;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Parameter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 원시 타입을 박스 타입으로 변환해주는 클래스입니다.
+ * 값 변환은 리플렉션 없이 ValueParsers에 미리 만들어 둔 변환 함수를 사용합니다.
+ *
+ * @see ValueParsers
  */
 public class PrimitiveWrapper {
 
@@ -30,35 +31,12 @@ public class PrimitiveWrapper {
      *
      * @param type 원시 타입
      * @param value 원시 타입 값
-     * @return 박스 타입 인스턴스
+     * @return 박스 타입 인스턴스, 변환할 수 없는 타입이라면 null
      * */
     public static Object wrapPrimitiveValue(Class<?> type, String value) {
-        String parameterType = type.getSimpleName();
-        Class<?> boxType = PrimitiveWrapper.getType(parameterType);
-        return PrimitiveWrapper.autoBoxing(boxType, value);
-    }
-
-    /**
-     * 원시 타입을 박스 타입으로 변환합니다.
-     *
-     * @param type 박스 타입
-     * @param value 원시 타입 값
-     * @return 박스 타입 인스턴스
-     * */
-    private static Object autoBoxing(Class<?> type, String value) {
-        Constructor<?>[] constructors = type.getConstructors();
-        for (Constructor<?> constructor : constructors) {
-            Parameter[] parameters = constructor.getParameters();
-            for (Parameter parameter : parameters) {
-                if (!parameter.getType().equals(String.class)) continue;
-                try {
-                    return constructor.newInstance(value);
-                } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-        return null;
+        Function<String, ?> parser = ValueParsers.get(type);
+        if (parser == null) return null;
+        return parser.apply(value);
     }
 
     /**
@@ -71,4 +49,4 @@ public class PrimitiveWrapper {
         return boxTypes.get(type);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package org.sam.server.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 문자열을 타입에 맞는 값으로 변환하는 함수를 타입별로 미리 만들어 둔 클래스입니다.
+ * 원시 타입과 박스 타입, 문자열, 숫자, UUID, 날짜, 열거형을 지원하며 빈 문자열은 null로 변환합니다.
+ *
+ * @author hypernova1
+ */
+public final class ValueParsers {
+
+    private static final Map<Class<?>, Function<String, ?>> parsers = new ConcurrentHashMap<>();
+
+    static {
+        parsers.put(String.class, value -> value);
+        register(Boolean.TYPE, Boolean.class, Boolean::valueOf);
+        register(Character.TYPE, Character.class, value -> value.charAt(0));
+        register(Byte.TYPE, Byte.class, Byte::valueOf);
+        register(Short.TYPE, Short.class, Short::valueOf);
+        register(Integer.TYPE, Integer.class, Integer::valueOf);
+        register(Long.TYPE, Long.class, Long::valueOf);
+        register(Float.TYPE, Float.class, Float::valueOf);
+        register(Double.TYPE, Double.class, Double::valueOf);
+        register(BigDecimal.class, BigDecimal::new);
+        register(BigInteger.class, BigInteger::new);
+        register(UUID.class, UUID::fromString);
+        register(LocalDate.class, LocalDate::parse);
+        register(LocalDateTime.class, LocalDateTime::parse);
+        register(LocalTime.class, LocalTime::parse);
+        register(Instant.class, Instant::parse);
+        register(Date.class, ValueParsers::parseDate);
+    }
+
+    private ValueParsers() {}
+
+    private static void register(Class<?> primitiveType, Class<?> boxType, Function<String, ?> parser) {
+        register(primitiveType, parser);
+        register(boxType, parser);
+    }
+
+    private static void register(Class<?> type, Function<String, ?> parser) {
+        parsers.put(type, value -> value.isEmpty() ? null : parser.apply(value));
+    }
+
+    /**
+     * 타입에 해당하는 변환 함수를 반환합니다. 열거형은 처음 요청할 때 만들어 저장합니다.
+     *
+     * @param type 변환할 타입
+     * @return 변환 함수, 지원하지 않는 타입이라면 null
+     * */
+    public static Function<String, ?> get(Class<?> type) {
+        Function<String, ?> parser = parsers.get(type);
+        if (parser != null || !type.isEnum()) return parser;
+        return parsers.computeIfAbsent(type, ValueParsers::createEnumParser);
+    }
+
+    /**
+     * 지원하는 타입인지 확인합니다.
+     *
+     * @param type 타입
+     * @return 지원 여부
+     * */
+    public static boolean isSupported(Class<?> type) {
+        return get(type) != null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, ?> createEnumParser(Class<?> type) {
+        Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+        return value -> value.isEmpty() ? null : Enum.valueOf(enumType, value);
+    }
+
+    /**
+     * ISO-8601 형식 혹은 밀리초 단위의 epoch 값을 Date로 변환합니다.
+     *
+     * @param value 날짜 문자열
+     * @return Date 인스턴스
+     * */
+    private static Date parseDate(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) return Date.from(Instant.parse(value));
+        }
+        return new Date(Long.parseLong(value));
+    }
+
+}
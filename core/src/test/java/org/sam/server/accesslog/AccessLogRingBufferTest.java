@@ -0,0 +1,49 @@
+package org.sam.server.accesslog;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.constant.HttpMethod;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void dropWhenFull() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.publish(0, HttpMethod.GET, "/items/" + i, "/items/{id}", 200, 2, 0));
+        }
+        assertFalse(ringBuffer.publish(0, HttpMethod.GET, "/items/4", "/items/{id}", 200, 2, 0));
+        assertEquals(1, ringBuffer.getDropped());
+
+        AccessLogEntry entry = ringBuffer.poll();
+        assertEquals("/items/0", entry.url);
+        ringBuffer.release(entry);
+        assertTrue(ringBuffer.publish(0, HttpMethod.GET, "/items/5", "/items/{id}", 200, 2, 0));
+
+        for (int i = 1; i < 4; i++) {
+            entry = ringBuffer.poll();
+            assertEquals("/items/" + i, entry.url);
+            ringBuffer.release(entry);
+        }
+        assertEquals("/items/5", ringBuffer.poll().url);
+    }
+
+    @Test
+    void formatPattern() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(2);
+        ringBuffer.publish(0, HttpMethod.POST, "/items?id=1", "/items", 201, 12, TimeUnit.MICROSECONDS.toNanos(1500));
+        AccessLogEntry entry = ringBuffer.poll();
+
+        StringBuilder line = new StringBuilder();
+        AccessLogFormat.of("%m %U %R %s %b %D %T 100%%").format(entry, line);
+        assertEquals("POST /items?id=1 /items 201 12 1500 1 100%", line.toString());
+
+        line.setLength(0);
+        AccessLogFormat.of("json").format(entry, line);
+        assertTrue(line.toString().endsWith("\"method\":\"POST\",\"url\":\"/items?id=1\",\"route\":\"/items\",\"status\":201,\"bytes\":12,\"latencyMicros\":1500}"));
+    }
+
+}
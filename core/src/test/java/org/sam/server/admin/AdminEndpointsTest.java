@@ -0,0 +1,44 @@
+package org.sam.server.admin;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.constant.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminEndpointsTest {
+
+    @Test
+    void threadPoolStats() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 4, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        try {
+            AdminResponse response = AdminEndpoints.of(executor).handle("GET", "/threadpool");
+            String body = new String(response.getBody(), StandardCharsets.UTF_8);
+            assertEquals(HttpStatus.OK, response.getStatus());
+            assertTrue(body.contains("\"corePoolSize\": 2"));
+            assertTrue(body.contains("\"maximumPoolSize\": 4"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void threadDumpContainsCurrentThread() {
+        AdminResponse response = AdminEndpoints.of(null).handle("GET", "/threads");
+        String body = new String(response.getBody(), StandardCharsets.UTF_8);
+        assertTrue(body.contains("\"" + Thread.currentThread().getName() + "\""));
+        assertTrue(body.contains("threadDumpContainsCurrentThread"));
+    }
+
+    @Test
+    void rejectUnknownPathAndMethod() {
+        AdminEndpoints endpoints = AdminEndpoints.of(null);
+        assertEquals(HttpStatus.NOT_FOUND, endpoints.handle("GET", "/unknown").getStatus());
+        assertEquals(HttpStatus.METHOD_NOT_ALLOWED, endpoints.handle("POST", "/threads").getStatus());
+    }
+
+}
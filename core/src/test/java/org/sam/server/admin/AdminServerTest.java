@@ -0,0 +1,127 @@
+package org.sam.server.admin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminServerTest {
+
+    private ServerSocket serverSocket;
+
+    private Socket client;
+
+    private Socket server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        client = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        server = serverSocket.accept();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.close();
+        serverSocket.close();
+    }
+
+    @Test
+    void serveMetrics() throws Exception {
+        send("GET /metrics HTTP/1.1\r\nHost: localhost\r\n\r\n");
+        handle(5000);
+
+        String response = receive();
+        assertTrue(response.startsWith("HTTP/1.1 200 OK\r\n"));
+        assertTrue(response.contains("Content-Type: text/plain; charset=utf-8\r\n"));
+    }
+
+    @Test
+    void rejectLongRequestLine() throws Exception {
+        send("GET /" + repeat('a', 9000) + " HTTP/1.1\r\n\r\n");
+        handle(5000);
+
+        assertTrue(receive().startsWith("HTTP/1.1 414 URI Too Long\r\n"));
+    }
+
+    @Test
+    void rejectLargeHeaders() throws Exception {
+        StringBuilder message = new StringBuilder("GET /threads HTTP/1.1\r\n");
+        for (int i = 0; i < 20; i++) {
+            message.append("X-Header-").append(i).append(": ").append(repeat('a', 1000)).append("\r\n");
+        }
+        send(message.append("\r\n").toString());
+        handle(5000);
+
+        assertTrue(receive().startsWith("HTTP/1.1 431 Request Header Fields Too Large\r\n"));
+    }
+
+    @Test
+    void stopReadingSlowRequestAtDeadline() throws Exception {
+        Thread writer = new Thread(() -> {
+            try {
+                OutputStream out = client.getOutputStream();
+                out.write("GET /threads HTTP/1.1\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                for (int i = 0; i < 50 && !Thread.currentThread().isInterrupted(); i++) {
+                    out.write("X: 1\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                    out.flush();
+                    Thread.sleep(50);
+                }
+            } catch (IOException | InterruptedException ignored) {
+            }
+        });
+        writer.start();
+        long startedAt = System.nanoTime();
+        try {
+            assertThrows(SocketTimeoutException.class, () -> handle(300));
+            assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(2));
+        } finally {
+            writer.interrupt();
+            writer.join();
+        }
+    }
+
+    private void handle(long timeoutMillis) throws IOException {
+        AdminServer.handle(server, AdminEndpoints.of(null), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        server.shutdownOutput();
+    }
+
+    private void send(String message) throws IOException {
+        client.getOutputStream().write(message.getBytes(StandardCharsets.ISO_8859_1));
+        client.getOutputStream().flush();
+    }
+
+    private String receive() throws IOException {
+        client.setSoTimeout(5000);
+        InputStream in = client.getInputStream();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+        return new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.sam.server.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupProfilerTest {
+
+    @Test
+    void run_task() {
+        AtomicBoolean ran = new AtomicBoolean();
+
+        StartupProfiler.time(StartupProfiler.PHASE, "run", () -> ran.set(true));
+
+        assertTrue(ran.get());
+    }
+
+    @Test
+    void return_result_of_task() {
+        String result = StartupProfiler.time(StartupProfiler.BEAN, "supply", () -> "bean");
+
+        assertEquals("bean", result);
+    }
+
+    @Test
+    void rethrow_exception_of_task() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> StartupProfiler.time(StartupProfiler.PHASE, "fail", () -> {
+                    throw new IllegalStateException("failed");
+                }));
+
+        assertEquals("failed", thrown.getMessage());
+        assertEquals("nested", StartupProfiler.time(StartupProfiler.PHASE, "outer",
+                () -> StartupProfiler.time(StartupProfiler.BEAN, "inner", () -> "nested")));
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.sam.server.context;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.exception.AmbiguousComponentScanException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanClassLoaderTest {
+
+    @Test
+    void select_parent_package_regardless_of_order() {
+        assertEquals("app", BeanClassLoader.selectRootPackageName(new LinkedHashSet<>(Arrays.asList("app.admin", "app", "app.api"))));
+        assertEquals("app", BeanClassLoader.selectRootPackageName(new LinkedHashSet<>(Arrays.asList("app", "app.admin"))));
+        assertEquals("app", BeanClassLoader.selectRootPackageName(Collections.singleton("app")));
+    }
+
+    @Test
+    void fail_on_unrelated_packages() {
+        assertThrows(AmbiguousComponentScanException.class,
+                () -> BeanClassLoader.selectRootPackageName(new LinkedHashSet<>(Arrays.asList("app", "application"))));
+        assertThrows(AmbiguousComponentScanException.class,
+                () -> BeanClassLoader.selectRootPackageName(new LinkedHashSet<>(Arrays.asList("app.api", "app.admin"))));
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.sam.server.context;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.fixture.bean.FactoryAwareService;
+import org.sam.server.fixture.interceptor.*;
+import org.sam.server.http.Interceptor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanContainerTest {
+
+    static interface AA {
+
+    }
+
+    static class A {
+
+    }
+
+    static class B implements AA {
+
+    }
+
+    @Test
+    void test() {
+        System.out.println(AA.class);
+        assertTrue(AA.class.isAssignableFrom(B.class));
+    }
+
+    @Test
+    void create_beans_that_access_container_in_constructor() {
+        List<BeanInfo> beanInfos = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> BeanContainer.getBeanInfoList(FactoryAwareService.class));
+
+        assertEquals(1, beanInfos.size());
+        FactoryAwareService service = (FactoryAwareService) beanInfos.get(0).getInstance();
+        assertSame(BeanFactory.getInstance(), service.getBeanFactory());
+        assertNotNull(BeanContainer.getBeanInfoList(StringBuilder.class));
+        assertSame(service, BeanFactory.getInstance().getBean("factoryAwareService", FactoryAwareService.class));
+    }
+
+    @Test
+    void apply_interceptors_matching_include_and_exclude_in_order() throws Exception {
+        assertEquals(Arrays.asList(GlobalInterceptor.class, AuditInterceptor.class),
+                interceptorTypes("items"));
+        assertEquals(Arrays.asList(GlobalInterceptor.class, AuditInterceptor.class, ComponentInterceptor.class),
+                interceptorTypes("item"));
+        assertEquals(Arrays.asList(GlobalInterceptor.class, AdminInterceptor.class, AuditInterceptor.class),
+                interceptorTypes("users"));
+        assertEquals(Arrays.asList(GlobalInterceptor.class),
+                interceptorTypes("open"));
+    }
+
+    @Test
+    void no_interceptors_for_unknown_method() throws Exception {
+        assertEquals(0, BeanContainer.getInterceptors(Object.class.getMethod("toString")).length);
+    }
+
+    @Test
+    void reuse_component_bean_as_interceptor() throws Exception {
+        List<BeanInfo> beanInfos = BeanContainer.getBeanInfoList(ComponentInterceptor.class);
+        assertEquals(1, beanInfos.size());
+
+        Interceptor[] interceptors = BeanContainer.getInterceptors(InterceptedHandler.class.getDeclaredMethod("item"));
+
+        assertSame(beanInfos.get(0).getInstance(), interceptors[interceptors.length - 1]);
+        long count = BeanContainer.getInterceptors().stream().filter(ComponentInterceptor.class::isInstance).count();
+        assertEquals(1, count);
+    }
+
+    private static List<Class<?>> interceptorTypes(String handlerMethodName) throws NoSuchMethodException {
+        Interceptor[] interceptors = BeanContainer.getInterceptors(InterceptedHandler.class.getDeclaredMethod(handlerMethodName));
+        Class<?>[] types = new Class<?>[interceptors.length];
+        for (int i = 0; i < interceptors.length; i++) {
+            types[i] = interceptors[i].getClass();
+        }
+        return Arrays.asList(types);
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.sam.server.context;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.annotation.Lazy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanCreatorTest {
+
+    public interface Greeting {
+        String greet(String name);
+    }
+
+    @Lazy
+    static class LazyGreeting implements Greeting {
+
+        static final AtomicInteger created = new AtomicInteger();
+
+        public LazyGreeting() {
+            created.incrementAndGet();
+        }
+
+        @Override
+        public String greet(String name) {
+            if (name == null) throw new IllegalArgumentException("name");
+            return "hello " + name;
+        }
+    }
+
+    @Lazy
+    static class LazyCounter {
+
+        static final AtomicInteger created = new AtomicInteger();
+
+        public LazyCounter() {
+            created.incrementAndGet();
+        }
+    }
+
+    static class GreetingHandler {
+
+        final Greeting greeting;
+
+        final Supplier<LazyCounter> counter;
+
+        public GreetingHandler(Greeting greeting, Supplier<LazyCounter> counter) {
+            this.greeting = greeting;
+            this.counter = counter;
+        }
+    }
+
+    static class EagerHandler {
+
+        final LazyCounter counter;
+
+        public EagerHandler(LazyCounter counter) {
+            this.counter = counter;
+        }
+    }
+
+    @Test
+    void inject_lazy_beans_without_creating_them() {
+        Map<Class<?>, List<BeanInfo>> beanMap = new ConcurrentHashMap<>();
+        BeanCreator beanCreator = new BeanCreator(beanMap, false);
+        beanCreator.createComponentBeans(Arrays.asList(LazyGreeting.class, LazyCounter.class), 1);
+        int greetingCount = LazyGreeting.created.get();
+        int counterCount = LazyCounter.created.get();
+
+        GreetingHandler handler = (GreetingHandler) beanCreator.createInstance(GreetingHandler.class);
+
+        assertEquals(greetingCount, LazyGreeting.created.get());
+        assertEquals(counterCount, LazyCounter.created.get());
+        assertEquals("hello sam", handler.greeting.greet("sam"));
+        assertEquals(greetingCount + 1, LazyGreeting.created.get());
+        assertThrows(IllegalArgumentException.class, () -> handler.greeting.greet(null));
+        assertSame(beanMap.get(LazyCounter.class).get(0).getInstance(), handler.counter.get());
+        assertEquals(counterCount + 1, LazyCounter.created.get());
+    }
+
+    @Test
+    void create_lazy_bean_when_injected_as_class() {
+        Map<Class<?>, List<BeanInfo>> beanMap = new ConcurrentHashMap<>();
+        BeanCreator beanCreator = new BeanCreator(beanMap, false);
+        beanCreator.createComponentBeans(Collections.singletonList(LazyCounter.class), 1);
+        int counterCount = LazyCounter.created.get();
+
+        EagerHandler handler = (EagerHandler) beanCreator.createInstance(EagerHandler.class);
+
+        assertNotNull(handler.counter);
+        assertEquals(counterCount + 1, LazyCounter.created.get());
+    }
+
+}
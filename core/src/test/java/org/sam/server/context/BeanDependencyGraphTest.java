@@ -0,0 +1,54 @@
+package org.sam.server.context;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.exception.CircularDependencyException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanDependencyGraphTest {
+
+    interface Repository {}
+
+    public static class MemoryRepository implements Repository {}
+
+    public static class Clock {}
+
+    public static class Service {
+        public Service(Repository repository, Clock clock) {}
+    }
+
+    public static class Controller {
+        public Controller(Service service) {}
+    }
+
+    public static class Left {
+        public Left(Right right) {}
+    }
+
+    public static class Right {
+        public Right(Left left) {}
+    }
+
+    @Test
+    void sort_in_waves() {
+        List<List<Class<?>>> waves = BeanDependencyGraph
+                .of(Arrays.asList(Controller.class, Service.class, MemoryRepository.class, Clock.class))
+                .sortInWaves();
+        assertEquals(3, waves.size());
+        assertTrue(waves.get(0).containsAll(Arrays.asList(MemoryRepository.class, Clock.class)));
+        assertEquals(Arrays.asList(Service.class), waves.get(1));
+        assertEquals(Arrays.asList(Controller.class), waves.get(2));
+    }
+
+    @Test
+    void detect_circular_dependency() {
+        BeanDependencyGraph graph = BeanDependencyGraph.of(Arrays.asList(Clock.class, Left.class, Right.class));
+        CircularDependencyException exception = assertThrows(CircularDependencyException.class, graph::sortInWaves);
+        assertTrue(exception.getMessage().contains(Left.class.getName()));
+        assertTrue(exception.getMessage().contains(Right.class.getName()));
+    }
+
+}
@@ -0,0 +1,43 @@
+package org.sam.server.context;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanIndexTest {
+
+    interface Repository {}
+
+    static abstract class AbstractRepository implements Repository {}
+
+    static class UserRepository extends AbstractRepository {}
+
+    @Test
+    void find_by_super_types_and_name() {
+        BeanInfo userRepository = BeanInfo.of("userRepository", new UserRepository());
+        Map<Class<?>, List<BeanInfo>> beanMap = new HashMap<>();
+        beanMap.put(UserRepository.class, Collections.singletonList(userRepository));
+
+        BeanIndex index = BeanIndex.of(beanMap);
+
+        assertEquals(Collections.singletonList(userRepository), index.getBeanInfos(Repository.class));
+        assertEquals(Collections.singletonList(userRepository), index.getBeanInfos(AbstractRepository.class));
+        assertTrue(index.getBeanInfos(Object.class).isEmpty());
+        assertSame(userRepository, index.getBeanInfo("userRepository", Repository.class));
+        assertNull(index.getBeanInfo("userRepository", String.class));
+    }
+
+    @Test
+    void with_returns_new_index() {
+        BeanIndex index = BeanIndex.of(new HashMap<>());
+        BeanInfo userRepository = BeanInfo.of("userRepository", new UserRepository());
+
+        BeanIndex added = index.with(UserRepository.class, userRepository);
+
+        assertTrue(index.getBeanInfos(Repository.class).isEmpty());
+        assertEquals(1, added.getBeanInfos(Repository.class).size());
+    }
+
+}
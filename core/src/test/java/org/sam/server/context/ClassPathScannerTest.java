@@ -0,0 +1,75 @@
+package org.sam.server.context;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sam.server.annotation.component.Service;
+import org.sam.server.http.Interceptor;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassPathScannerTest {
+
+    @Service
+    static class SampleService implements Interceptor {
+
+        @Override
+        public void preHandler(Request request, Response response) {}
+
+        @Override
+        public void postHandler(Request request, Response response) {}
+    }
+
+    @Test
+    void read_class_file_without_loading() throws IOException {
+        String resource = SampleService.class.getName().replace('.', '/') + ".class";
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+            ClassMetadata metadata = ClassMetadata.read(in);
+            assertEquals(SampleService.class.getName(), metadata.getClassName());
+            assertTrue(metadata.hasAnnotation(Service.class));
+            assertTrue(metadata.implementsInterface(Interceptor.class));
+            assertTrue(metadata.isClass());
+            assertTrue(ClassPathScanner.of(getClass().getClassLoader()).isComponent(metadata));
+        }
+    }
+
+    @Test
+    void scan_jar_entries(@TempDir Path directory) throws IOException {
+        Path jar = directory.resolve("sample.jar");
+        String entryName = "sample/jar/" + SampleService.class.getSimpleName() + ".class";
+        try (OutputStream out = Files.newOutputStream(jar);
+             JarOutputStream jarOut = new JarOutputStream(out, new Manifest());
+             InputStream in = getClass().getClassLoader().getResourceAsStream(SampleService.class.getName().replace('.', '/') + ".class")) {
+            jarOut.putNextEntry(new JarEntry(entryName));
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                jarOut.write(buffer, 0, read);
+            }
+            jarOut.closeEntry();
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, getClass().getClassLoader())) {
+            List<String> classNames = ClassPathScanner.of(classLoader).scan("sample.jar").stream()
+                    .map(ClassMetadata::getClassName)
+                    .collect(Collectors.toList());
+            assertEquals(1, classNames.size());
+            assertEquals(SampleService.class.getName(), classNames.get(0));
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package org.sam.server.fixture;
+
+import org.sam.server.annotation.ComponentScan;
+
+/**
+ * 테스트에서 BeanContainer가 읽어 들이는 컴포넌트의 루트 패키지입니다.
+ *
+ * @author hypernova1
+ */
+@ComponentScan
+public class FixtureApplication {
+}
@@ -0,0 +1,20 @@
+package org.sam.server.fixture.bean;
+
+import org.sam.server.annotation.component.Bean;
+import org.sam.server.annotation.component.Configuration;
+import org.sam.server.context.BeanContainer;
+
+/**
+ * 빈 메서드에서 BeanContainer에 접근하는 컴포넌트입니다.
+ *
+ * @author hypernova1
+ */
+@Configuration
+public class FactoryAwareConfiguration {
+
+    @Bean
+    public StringBuilder beanCount() {
+        return new StringBuilder().append(BeanContainer.getBeanInfoMap().size());
+    }
+
+}
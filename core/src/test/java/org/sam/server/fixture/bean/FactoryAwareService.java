@@ -0,0 +1,24 @@
+package org.sam.server.fixture.bean;
+
+import org.sam.server.annotation.component.Service;
+import org.sam.server.context.BeanFactory;
+
+/**
+ * 생성자에서 BeanFactory에 접근하는 컴포넌트입니다.
+ *
+ * @author hypernova1
+ */
+@Service
+public class FactoryAwareService {
+
+    private final BeanFactory beanFactory;
+
+    public FactoryAwareService() {
+        this.beanFactory = BeanFactory.getInstance();
+    }
+
+    public BeanFactory getBeanFactory() {
+        return beanFactory;
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.sam.server.fixture.interceptor;
+
+import org.sam.server.annotation.InterceptorMapping;
+import org.sam.server.http.Interceptor;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+/**
+ * 관리자 경로에 적용되는 인터셉터입니다.
+ *
+ * @author hypernova1
+ */
+@InterceptorMapping(include = "/fixture/admin/**", order = 1)
+public class AdminInterceptor implements Interceptor {
+
+    @Override
+    public void preHandler(Request request, Response response) {}
+
+    @Override
+    public void postHandler(Request request, Response response) {}
+
+}
@@ -0,0 +1,24 @@
+package org.sam.server.fixture.interceptor;
+
+import org.sam.server.annotation.InterceptorMapping;
+import org.sam.server.annotation.component.Component;
+import org.sam.server.http.Interceptor;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+/**
+ * 컴포넌트로도 선언된 인터셉터입니다.
+ *
+ * @author hypernova1
+ */
+@Component
+@InterceptorMapping(include = "/fixture/items/*", exclude = "/fixture/items", order = 3)
+public class ComponentInterceptor implements Interceptor {
+
+    @Override
+    public void preHandler(Request request, Response response) {}
+
+    @Override
+    public void postHandler(Request request, Response response) {}
+
+}
@@ -0,0 +1,20 @@
+package org.sam.server.fixture.interceptor;
+
+import org.sam.server.http.Interceptor;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+/**
+ * 모든 핸들러에 적용되는 인터셉터입니다.
+ *
+ * @author hypernova1
+ */
+public class GlobalInterceptor implements Interceptor {
+
+    @Override
+    public void preHandler(Request request, Response response) {}
+
+    @Override
+    public void postHandler(Request request, Response response) {}
+
+}
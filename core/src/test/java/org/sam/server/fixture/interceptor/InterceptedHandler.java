@@ -0,0 +1,34 @@
+package org.sam.server.fixture.interceptor;
+
+import org.sam.server.annotation.component.Handler;
+import org.sam.server.annotation.handle.GetMapping;
+
+/**
+ * 인터셉터 경로 비교에 사용하는 핸들러입니다.
+ *
+ * @author hypernova1
+ */
+@Handler("/fixture")
+public class InterceptedHandler {
+
+    @GetMapping("/items")
+    public String items() {
+        return "items";
+    }
+
+    @GetMapping("/items/{id}")
+    public String item() {
+        return "item";
+    }
+
+    @GetMapping("/admin/users")
+    public String users() {
+        return "users";
+    }
+
+    @GetMapping("/public")
+    public String open() {
+        return "open";
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.sam.server.fixture.route;
+
+import org.sam.server.annotation.component.Handler;
+import org.sam.server.annotation.handle.GetMapping;
+import org.sam.server.annotation.handle.PathValue;
+
+/**
+ * 다른 핸들러와 같은 하위 경로를 가진 핸들러입니다.
+ *
+ * @author hypernova1
+ */
+@Handler("/fixture/second")
+public class SecondRouteHandler {
+
+    @GetMapping("/route")
+    public String route() {
+        return "second";
+    }
+
+    @GetMapping("/route/{id}")
+    public String routeById(@PathValue String id) {
+        return "second";
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.sam.server.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterChainTest {
+
+    @Test
+    void run_filters_in_order_then_endpoint() {
+        List<String> calls = new ArrayList<>();
+        FilterChain chain = FilterChain.of(Arrays.asList(recording("first", calls), recording("second", calls)),
+                (request, response) -> calls.add("endpoint"));
+
+        chain.doFilter(null, null);
+
+        assertEquals(Arrays.asList("first", "second", "endpoint"), calls);
+        assertEquals(2, chain.size());
+    }
+
+    @Test
+    void stop_when_filter_does_not_continue() {
+        List<String> calls = new ArrayList<>();
+        Filter reject = (request, response, chain) -> calls.add("reject");
+        FilterChain chain = FilterChain.of(Arrays.asList(recording("first", calls), reject, recording("last", calls)),
+                (request, response) -> calls.add("endpoint"));
+
+        chain.doFilter(null, null);
+
+        assertEquals(Arrays.asList("first", "reject"), calls);
+    }
+
+    @Test
+    void run_endpoint_without_filters() {
+        List<String> calls = new ArrayList<>();
+        FilterChain chain = FilterChain.of(Collections.emptyList(), (request, response) -> calls.add("endpoint"));
+
+        chain.doFilter(null, null);
+        chain.doFilter(null, null);
+
+        assertEquals(Arrays.asList("endpoint", "endpoint"), calls);
+        assertEquals(0, chain.size());
+    }
+
+    private static Filter recording(String name, List<String> calls) {
+        return (request, response, chain) -> {
+            calls.add(name);
+            chain.doFilter(request, response);
+        };
+    }
+
+}
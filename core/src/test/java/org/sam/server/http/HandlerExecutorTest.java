@@ -0,0 +1,243 @@
+package org.sam.server.http;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.annotation.handle.CacheResponse;
+import org.sam.server.annotation.handle.JsonRequest;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.context.HandlerInfo;
+import org.sam.server.http.context.HandlerExecutor;
+import org.sam.server.http.web.HttpRequest;
+import org.sam.server.http.web.HttpResponse;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+import org.sam.server.http.web.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandlerExecutorTest {
+
+    @Test
+    void test() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, InstantiationException {
+        boolean assignableFrom = Long.class.isAssignableFrom(Number.class);
+        System.out.println(assignableFrom);
+        System.out.println(Long.class.getSuperclass());
+        String a = "1";
+        System.out.println(Arrays.toString(Long.class.getMethods()));
+        Object valueOf = Long.class.getMethod("valueOf", String.class).invoke(null, a);
+        System.out.println(valueOf);
+
+        System.out.println(Arrays.toString(Long.class.getDeclaredMethods()));
+    }
+
+    @Test
+    void respondWhenAsyncHandlerCompletes() throws Exception {
+        AsyncHandler handler = new AsyncHandler();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(handler, "created", out);
+        assertEquals("", out.toString("UTF-8"));
+
+        handler.future.complete(ResponseEntity.of(HttpStatus.CREATED, "done"));
+        String message = await(out);
+        assertTrue(message.startsWith("HTTP/1.1 201 Created\r\n"));
+        assertTrue(message.endsWith("\r\n\r\n\"done\""));
+    }
+
+    @Test
+    void respondWithTimeoutStatusWhenAsyncHandlerIsLate() throws Exception {
+        AsyncHandler handler = new AsyncHandler();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(handler, "created", out);
+
+        String message = await(out);
+        assertTrue(message.startsWith("HTTP/1.1 504 Gateway Timeout\r\n"));
+
+        handler.future.complete(ResponseEntity.of(HttpStatus.CREATED, "late"));
+        assertFalse(out.toString("UTF-8").contains("late"));
+    }
+
+    @Test
+    void respondWithServerErrorWhenAsyncHandlerFails() throws Exception {
+        AsyncHandler handler = new AsyncHandler();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(handler, "created", out);
+
+        handler.future.completeExceptionally(new IllegalStateException("boom"));
+        assertTrue(await(out).startsWith("HTTP/1.1 500 Internal Server Error\r\n"));
+    }
+
+    @Test
+    void respondWithBadRequestWhenAsyncHandlerRejectsArgument() throws Exception {
+        AsyncHandler handler = new AsyncHandler();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(handler, "created", out);
+
+        handler.future.completeExceptionally(new IllegalArgumentException("invalid"));
+        assertTrue(await(out).startsWith("HTTP/1.1 400 Bad Request\r\n"));
+    }
+
+    @Test
+    void respondWithBadRequestWhenPrimitiveParameterIsMalformed() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(new ParameterHandler(), "count", "/count?count=abc", out);
+
+        assertTrue(out.toString("UTF-8").startsWith("HTTP/1.1 400 Bad Request\r\n"));
+    }
+
+    @Test
+    void respondWithBadRequestWhenPrimitiveParameterIsMissing() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(new ParameterHandler(), "count", "/count", out);
+
+        assertTrue(out.toString("UTF-8").startsWith("HTTP/1.1 400 Bad Request\r\n"));
+    }
+
+    @Test
+    void passParsedPrimitiveParameter() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(new ParameterHandler(), "count", "/count?count=41", out);
+
+        String message = out.toString("UTF-8");
+        assertTrue(message.startsWith("HTTP/1.1 200 OK\r\n"));
+        assertTrue(message.endsWith("\r\n\r\n42"));
+    }
+
+    @Test
+    void respondWithServerErrorWhenHandlerThrows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        execute(new FailingHandler(), "fail", "/fail", out);
+
+        assertTrue(out.toString("UTF-8").startsWith("HTTP/1.1 500 Internal Server Error\r\n"));
+    }
+
+    @Test
+    void doNotCacheFailedHandler() throws Exception {
+        FailingHandler handler = new FailingHandler();
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        execute(handler, "failCached", "/fail-cached", first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        execute(handler, "failCached", "/fail-cached", second);
+
+        assertTrue(first.toString("UTF-8").startsWith("HTTP/1.1 500 Internal Server Error\r\n"));
+        assertTrue(second.toString("UTF-8").startsWith("HTTP/1.1 500 Internal Server Error\r\n"));
+        assertEquals(2, handler.calls.get());
+    }
+
+    @Test
+    void readGenericJsonBodyAndWriteUnwrappedAsyncResponse() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String body = "[{\"name\":\"apple\"},{\"name\":\"pear\"}]";
+        send(new JsonHandler(), "echo", post("/echo", body), out);
+
+        String message = await(out);
+        assertTrue(message.startsWith("HTTP/1.1 201 Created\r\n"));
+        assertTrue(message.endsWith("\r\n\r\n[{\"name\":\"APPLE\"},{\"name\":\"PEAR\"}]"));
+    }
+
+    @Test
+    void passNullForEmptyJsonBody() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        send(new JsonHandler(), "isEmpty", post("/empty", ""), out);
+
+        String message = out.toString("UTF-8");
+        assertTrue(message.startsWith("HTTP/1.1 200 OK\r\n"));
+        assertTrue(message.endsWith("\r\n\r\ntrue"));
+    }
+
+    private static void execute(Object handler, String methodName, ByteArrayOutputStream out) throws Exception {
+        execute(handler, methodName, "/async", out);
+    }
+
+    private static void execute(Object handler, String methodName, String url, ByteArrayOutputStream out) throws Exception {
+        send(handler, methodName, "GET " + url + " HTTP/1.1\r\nHost: localhost\r\n\r\n", out);
+    }
+
+    private static String post(String url, String json) {
+        return "POST " + url + " HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                + "Content-Length: " + json.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" + json;
+    }
+
+    private static void send(Object handler, String methodName, String message, ByteArrayOutputStream out) throws Exception {
+        Request request = HttpRequest.from(new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8)));
+        Response response = HttpResponse.of(out, request.getUrl(), request.getMethod());
+        Method handlerMethod = Arrays.stream(handler.getClass().getDeclaredMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(NoSuchMethodException::new);
+        HandlerExecutor.of(request, response).execute(HandlerInfo.of(handler, handlerMethod));
+    }
+
+    private static String await(ByteArrayOutputStream out) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (out.size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        return out.toString("UTF-8");
+    }
+
+    public static class FailingHandler {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        public String fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        @CacheResponse
+        public String failCached() {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    public static class ParameterHandler {
+
+        public int count(int count) {
+            return count + 1;
+        }
+    }
+
+    public static class AsyncHandler {
+
+        private final CompletableFuture<ResponseEntity<String>> future = new CompletableFuture<>();
+
+        public CompletableFuture<ResponseEntity<String>> created() {
+            return future;
+        }
+    }
+
+    public static class Item {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class JsonHandler {
+
+        public CompletionStage<ResponseEntity<List<Item>>> echo(@JsonRequest List<Item> items) {
+            for (Item item : items) {
+                item.name = item.getName().toUpperCase();
+            }
+            return CompletableFuture.supplyAsync(() -> ResponseEntity.of(HttpStatus.CREATED, items));
+        }
+
+        public boolean isEmpty(@JsonRequest List<Item> items) {
+            return items == null;
+        }
+    }
+
+}
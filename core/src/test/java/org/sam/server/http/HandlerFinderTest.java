@@ -0,0 +1,71 @@
+package org.sam.server.http;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.context.HandlerInfo;
+import org.sam.server.fixture.route.FirstRouteHandler;
+import org.sam.server.fixture.route.SecondRouteHandler;
+import org.sam.server.http.context.HandlerFinder;
+import org.sam.server.http.web.HttpRequest;
+import org.sam.server.http.web.HttpResponse;
+import org.sam.server.http.web.Request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandlerFinderTest {
+
+    @Test
+    void get_string() {
+        Pattern pattern = Pattern.compile("[{](.*?)[}]");
+        Matcher matcher = pattern.matcher("/board");
+
+        while (matcher.find()) {
+            System.out.println(matcher.group(1));
+            System.out.println(313);
+        }
+    }
+
+    @Test
+    void split_test() {
+        String path = "/board/test";
+        String[] split = path.split("/");
+        System.out.println(Arrays.toString(split));
+        String hello = getString();
+        hello = "/" + hello;
+        System.out.println(hello);
+        System.out.println(getString());
+    }
+
+    @Test
+    void find_method_of_matched_handler_class() throws Exception {
+        assertEquals(FirstRouteHandler.class.getDeclaredMethod("route"), find("/fixture/first/route").getMethod());
+        assertEquals(SecondRouteHandler.class.getDeclaredMethod("route"), find("/fixture/second/route").getMethod());
+    }
+
+    @Test
+    void find_path_value_method_of_matched_handler_class() throws Exception {
+        assertEquals(FirstRouteHandler.class.getDeclaredMethod("routeById", String.class), find("/fixture/first/route/1").getMethod());
+        assertEquals(SecondRouteHandler.class.getDeclaredMethod("routeById", String.class), find("/fixture/second/route/1").getMethod());
+    }
+
+    private static HandlerInfo find(String url) throws Exception {
+        String message = "GET " + url + " HTTP/1.1\r\nHost: localhost\r\n\r\n";
+        Request request = HttpRequest.from(new ByteArrayInputStream(message.getBytes(StandardCharsets.US_ASCII)));
+        HandlerInfo handlerInfo = HandlerFinder.of(request, HttpResponse.of(new ByteArrayOutputStream(), url, HttpMethod.GET))
+                .createHandlerInfo();
+        assertEquals(handlerInfo.getMethod().getDeclaringClass(), handlerInfo.getInstance().getClass());
+        return handlerInfo;
+    }
+
+    String getString() {
+        return "hello";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package org.sam.server.http;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.exception.PayloadTooLargeException;
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledInputStream;
+import org.sam.server.http.web.HttpRequest;
+import org.sam.server.http.web.Request;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpRequestTest {
+
+    @Test
+    void parse_pipelined_requests() {
+        String pipelined = "GET /a HTTP/1.1\r\nHost: localhost\r\n\r\n" +
+                "POST /b HTTP/1.1\r\nContent-Length: 3\r\n\r\na=1" +
+                "GET /c HTTP/1.1\r\nConnection: close\r\n\r\n";
+        PooledInputStream in = new PooledInputStream(
+                new ByteArrayInputStream(pipelined.getBytes(StandardCharsets.US_ASCII)), ByteBufferPool.getInstance());
+        try {
+            Request first = HttpRequest.from(in);
+            assertEquals("/a", first.getUrl());
+            assertTrue(first.isKeepAlive());
+            assertTrue(HttpRequest.isBuffered(in));
+
+            Request second = HttpRequest.from(in);
+            assertEquals("/b", second.getUrl());
+            assertEquals("1", second.getParameter("a"));
+            assertTrue(HttpRequest.isBuffered(in));
+
+            Request third = HttpRequest.from(in);
+            assertEquals("/c", third.getUrl());
+            assertFalse(third.isKeepAlive());
+            assertFalse(HttpRequest.isBuffered(in));
+            assertNull(HttpRequest.from(in));
+        } finally {
+            in.release();
+        }
+    }
+
+    @Test
+    void incomplete_body_is_not_buffered() throws IOException {
+        String partial = "POST /b HTTP/1.1\r\nContent-Length: 10\r\n\r\na=1";
+        PooledInputStream in = new PooledInputStream(
+                new ByteArrayInputStream(partial.getBytes(StandardCharsets.US_ASCII)), ByteBufferPool.getInstance());
+        try {
+            in.read();
+            assertFalse(HttpRequest.isBuffered(in));
+        } finally {
+            in.release();
+        }
+    }
+
+    @Test
+    void reject_body_over_max_size() {
+        String request = "POST /b HTTP/1.1\r\nContent-Length: 2000000000\r\n\r\na=1";
+        PooledInputStream in = new PooledInputStream(
+                new ByteArrayInputStream(request.getBytes(StandardCharsets.US_ASCII)), ByteBufferPool.getInstance());
+        try {
+            assertThrows(PayloadTooLargeException.class, () -> HttpRequest.from(in));
+        } finally {
+            in.release();
+        }
+    }
+
+    @Test
+    void read_body_larger_than_chunk() {
+        StringBuilder value = new StringBuilder();
+        while (value.length() < ByteBufferPool.getInstance().getChunkSize() * 3) {
+            value.append("0123456789");
+        }
+        String body = "a=" + value;
+        String request = "POST /b HTTP/1.1\r\nContent-Length: " + body.length() + "\r\n\r\n" + body;
+        PooledInputStream in = new PooledInputStream(
+                new ByteArrayInputStream(request.getBytes(StandardCharsets.US_ASCII)), ByteBufferPool.getInstance());
+        try {
+            assertEquals(value.toString(), HttpRequest.from(in).getParameter("a"));
+        } finally {
+            in.release();
+        }
+    }
+
+}
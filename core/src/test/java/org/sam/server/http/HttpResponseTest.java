@@ -0,0 +1,120 @@
+package org.sam.server.http;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.constant.ContentType;
+import org.sam.server.constant.HttpMethod;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledBuffer;
+import org.sam.server.http.web.HttpResponse;
+import org.sam.server.http.web.Response;
+import org.sam.server.http.web.SocketResponseWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpResponseTest {
+
+    @Test
+    void test() {
+        String property = System.getProperty("user.dir");
+        property += "/src/main/resources/static/404.html";
+
+        System.out.println(property);
+
+        File file = new File(property);
+
+        System.out.println(file.exists());
+    }
+
+    @Test
+    void write_headers_and_body() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Response response = HttpResponse.of(out, "/api/test", HttpMethod.GET);
+        response.setContentMimeType(ContentType.APPLICATION_JSON);
+        response.setHeader("X-Test", "sam");
+        response.execute("{\"name\":\"sam\"}", HttpStatus.CREATED);
+
+        String message = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(message.startsWith("HTTP/1.1 201 Created\r\n"));
+        assertTrue(message.contains("Content-Type: application/json\r\n"));
+        assertTrue(message.contains("Content-Length: 14\r\n"));
+        assertTrue(message.contains("X-Test: sam\r\n"));
+        assertTrue(message.matches("(?s).*Date: [A-Z][a-z]{2}, \\d{2} [A-Z][a-z]{2} \\d{4} \\d{2}:\\d{2}:\\d{2} GMT\r\n.*"));
+        assertTrue(message.endsWith("\r\n\r\n{\"name\":\"sam\"}"));
+    }
+
+    @Test
+    void return_status_code_after_responding() {
+        Response response = HttpResponse.of(new ByteArrayOutputStream(), "/api/test", HttpMethod.GET);
+        assertEquals(0, response.getStatusCode());
+
+        response.executeText("created", HttpStatus.CREATED);
+
+        assertEquals(201, response.getStatusCode());
+    }
+
+    @Test
+    void stream_static_file() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Response response = HttpResponse.of(out, "/resources/404.html", HttpMethod.GET);
+        response.staticResources();
+
+        byte[] file = Files.readAllBytes(new File("src/main/resources/static/404.html").toPath());
+        String message = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(message.startsWith("HTTP/1.1 200 OK\r\n"));
+        assertTrue(message.contains("Content-Length: " + file.length + "\r\n"));
+        assertTrue(message.endsWith("\r\n\r\n" + new String(file, StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void transfer_file_to_channel() throws Exception {
+        byte[] content = new byte[ByteBufferPool.getInstance().getChunkSize() * 5 + 7];
+        new Random(1).nextBytes(content);
+        Path file = Files.createTempFile("sambastian", ".bin");
+        Files.write(file, content);
+        try (ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+             SocketChannel client = SocketChannel.open(server.getLocalAddress());
+             SocketChannel accepted = server.accept()) {
+            PooledBuffer header = ByteBufferPool.getInstance().acquire();
+            header.put("HEAD\r\n");
+            Thread writer = new Thread(() -> {
+                try {
+                    SocketResponseWriter.of(accepted.socket()).writeFile(header, file.toFile(), content.length);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+
+            byte[] received = new byte[6 + content.length];
+            InputStream in = client.socket().getInputStream();
+            int read = 0;
+            while (read < received.length) {
+                int n = in.read(received, read, received.length - read);
+                if (n == -1) break;
+                read += n;
+            }
+            writer.join(5000);
+
+            assertEquals(received.length, read);
+            assertEquals("HEAD\r\n", new String(received, 0, 6, StandardCharsets.US_ASCII));
+            for (int i = 0; i < content.length; i++) {
+                assertEquals(content[i], received[6 + i]);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.sam.server.http.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferPoolTest {
+
+    @Test
+    void reuse_released_chunk() {
+        ByteBufferPool pool = new ByteBufferPool(64, 128, 4, true, false);
+        PooledBuffer first = pool.acquire();
+        ByteBuffer chunk = first.buffer();
+        first.release();
+
+        PooledBuffer second = pool.acquire();
+        assertSame(chunk, second.buffer());
+        assertEquals(0, second.position());
+        second.release();
+    }
+
+    @Test
+    void grow_over_chunk_size() {
+        ByteBufferPool pool = new ByteBufferPool(8, 64, 4, false, false);
+        PooledBuffer buffer = pool.acquire();
+        byte[] bytes = "hello pooled buffer".getBytes(StandardCharsets.UTF_8);
+        buffer.put(bytes);
+
+        assertEquals(bytes.length, buffer.position());
+        assertEquals("hello pooled buffer", buffer.toString(0, buffer.position(), StandardCharsets.UTF_8));
+        buffer.release();
+    }
+
+    @Test
+    void read_through_pooled_input_stream() throws IOException {
+        ByteBufferPool pool = new ByteBufferPool(4, 64, 4, true, false);
+        PooledInputStream in = new PooledInputStream(new ByteArrayInputStream("GET / HTTP/1.1".getBytes(StandardCharsets.US_ASCII)), pool);
+        StringBuilder sb = new StringBuilder();
+        int i;
+        while ((i = in.read()) != -1) {
+            sb.append((char) i);
+        }
+        in.release();
+
+        assertEquals("GET / HTTP/1.1", sb.toString());
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.sam.server.http.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescerTest {
+
+    @Test
+    void shareResultOfConcurrentCalls() throws Exception {
+        Coalescer<String, Integer> coalescer = Coalescer.create();
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger[] results = new AtomicInteger[8];
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            AtomicInteger result = results[i] = new AtomicInteger();
+            threads.add(new Thread(() -> result.set(coalescer.execute("key", () -> {
+                started.countDown();
+                await(release);
+                return invocations.incrementAndGet();
+            }))));
+        }
+        threads.get(0).start();
+        started.await();
+        for (Thread waiter : threads.subList(1, threads.size())) {
+            waiter.start();
+        }
+        for (Thread waiter : threads.subList(1, threads.size())) {
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+
+        assertEquals(1, invocations.get());
+        for (AtomicInteger result : results) {
+            assertEquals(1, result.get());
+        }
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void rethrowAndForgetFailure() {
+        Coalescer<String, Integer> coalescer = Coalescer.create();
+        assertThrows(IllegalArgumentException.class, () -> coalescer.execute("key", () -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(0, coalescer.getInFlightCount());
+        assertEquals(2, coalescer.execute("key", () -> 2));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.sam.server.http.cache;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.annotation.handle.SingleFlight;
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledInputStream;
+import org.sam.server.http.web.HttpRequest;
+import org.sam.server.http.web.Request;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    @Test
+    void sameKeyRegardlessOfParameterOrder() throws Exception {
+        RequestCoalescer requestCoalescer = RequestCoalescer.of(Fixture.class.getDeclaredMethod("search", String.class, int.class));
+        assertNotNull(requestCoalescer);
+        assertSame(requestCoalescer, RequestCoalescer.of(Fixture.class.getDeclaredMethod("search", String.class, int.class)));
+
+        String first = requestCoalescer.keyOf(parse("GET /items?q=a&page=1 HTTP/1.1\r\nAccept-Language: ko\r\nUser-Agent: a\r\n\r\n"));
+        String second = requestCoalescer.keyOf(parse("GET /items?page=1&q=a HTTP/1.1\r\nUser-Agent: b\r\nAccept-Language: ko\r\n\r\n"));
+        String otherHeader = requestCoalescer.keyOf(parse("GET /items?q=a&page=1 HTTP/1.1\r\nAccept-Language: en\r\n\r\n"));
+        String otherMethod = requestCoalescer.keyOf(parse("HEAD /items?q=a&page=1 HTTP/1.1\r\nAccept-Language: ko\r\n\r\n"));
+
+        assertEquals(first, second);
+        assertNotEquals(first, otherHeader);
+        assertNotEquals(first, otherMethod);
+    }
+
+    @Test
+    void separateRequestsWithDifferentCookies() throws Exception {
+        RequestCoalescer requestCoalescer = RequestCoalescer.of(Fixture.class.getDeclaredMethod("search", String.class, int.class));
+
+        String first = requestCoalescer.keyOf(parse("GET /items?q=a HTTP/1.1\r\nCookie: sessionId=1; theme=dark\r\n\r\n"));
+        String same = requestCoalescer.keyOf(parse("GET /items?q=a HTTP/1.1\r\nCookie: sessionId=1; theme=dark\r\n\r\n"));
+        String otherSession = requestCoalescer.keyOf(parse("GET /items?q=a HTTP/1.1\r\nCookie: sessionId=2; theme=dark\r\n\r\n"));
+        String noCookie = requestCoalescer.keyOf(parse("GET /items?q=a HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+
+        assertEquals(first, same);
+        assertNotEquals(first, otherSession);
+        assertNotEquals(first, noCookie);
+    }
+
+    @Test
+    void ignoreMethodWithoutAnnotation() throws Exception {
+        assertNull(RequestCoalescer.of(Fixture.class.getDeclaredMethod("list")));
+    }
+
+    private static Request parse(String message) {
+        return HttpRequest.from(new PooledInputStream(
+                new ByteArrayInputStream(message.getBytes(StandardCharsets.US_ASCII)), ByteBufferPool.getInstance()));
+    }
+
+    static class Fixture {
+
+        @SingleFlight(headers = "Accept-Language")
+        void search(String q, int page) {}
+
+        void list() {}
+    }
+
+}
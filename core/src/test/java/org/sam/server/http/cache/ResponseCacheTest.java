@@ -0,0 +1,82 @@
+package org.sam.server.http.cache;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.annotation.handle.CacheResponse;
+import org.sam.server.constant.HttpStatus;
+import org.sam.server.http.buffer.ByteBufferPool;
+import org.sam.server.http.buffer.PooledInputStream;
+import org.sam.server.http.web.HttpRequest;
+import org.sam.server.http.web.Request;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    @Test
+    void keyOnAllParametersByDefault() throws Exception {
+        ResponseCache responseCache = ResponseCache.of(Fixture.class.getDeclaredMethod("list"));
+        assertNotNull(responseCache);
+
+        String first = responseCache.keyOf(parse("GET /items?q=a&page=1 HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+        String second = responseCache.keyOf(parse("GET /items?page=1&q=a HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+        String otherPage = responseCache.keyOf(parse("GET /items?q=a&page=2 HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+        String noParameters = responseCache.keyOf(parse("GET /items HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+
+        assertEquals(first, second);
+        assertNotEquals(first, otherPage);
+        assertNotEquals(first, noParameters);
+    }
+
+    @Test
+    void keyOnlyOnSelectedParameters() throws Exception {
+        ResponseCache responseCache = ResponseCache.of(Fixture.class.getDeclaredMethod("search"));
+
+        String first = responseCache.keyOf(parse("GET /items?q=a&trace=1 HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+        String otherTrace = responseCache.keyOf(parse("GET /items?trace=2&q=a HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+        String otherQuery = responseCache.keyOf(parse("GET /items?q=b&trace=1 HTTP/1.1\r\nHost: localhost\r\n\r\n"));
+
+        assertEquals(first, otherTrace);
+        assertNotEquals(first, otherQuery);
+    }
+
+    @Test
+    void storeOnlySuccessfulResponses() throws Exception {
+        ResponseCache responseCache = ResponseCache.of(Fixture.class.getDeclaredMethod("failing"));
+        AtomicInteger loads = new AtomicInteger();
+
+        responseCache.load("key", () -> {
+            loads.incrementAndGet();
+            return CachedResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, new byte[0], null, 0);
+        });
+        assertThrows(IllegalStateException.class, () -> responseCache.load("key", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("failed");
+        }));
+
+        assertEquals(2, loads.get());
+        assertNull(responseCache.get("key"));
+        assertEquals(0, responseCache.size());
+    }
+
+    private static Request parse(String message) {
+        return HttpRequest.from(new PooledInputStream(
+                new ByteArrayInputStream(message.getBytes(StandardCharsets.US_ASCII)), ByteBufferPool.getInstance()));
+    }
+
+    static class Fixture {
+
+        @CacheResponse
+        void list() {}
+
+        @CacheResponse(key = "q")
+        void search() {}
+
+        @CacheResponse
+        void failing() {}
+    }
+
+}
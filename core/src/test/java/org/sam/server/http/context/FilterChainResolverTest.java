@@ -0,0 +1,152 @@
+package org.sam.server.http.context;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.annotation.WebFilter;
+import org.sam.server.http.Filter;
+import org.sam.server.http.FilterChain;
+import org.sam.server.http.web.Request;
+import org.sam.server.http.web.Response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterChainResolverTest {
+
+    private static final List<String> calls = new ArrayList<>();
+
+    @WebFilter(value = "/api/**", order = 2)
+    static class ApiFilter implements Filter {
+        @Override
+        public void doFilter(Request request, Response response, FilterChain chain) {
+            calls.add("api");
+            chain.doFilter(request, response);
+        }
+    }
+
+    @WebFilter(order = 1)
+    static class LogFilter implements Filter {
+        @Override
+        public void doFilter(Request request, Response response, FilterChain chain) {
+            calls.add("log");
+            chain.doFilter(request, response);
+        }
+    }
+
+    @WebFilter(value = "/api/admin/*", order = 3)
+    static class AuthFilter implements Filter {
+        @Override
+        public void doFilter(Request request, Response response, FilterChain chain) {
+            calls.add("auth");
+        }
+    }
+
+    @WebFilter(value = "/static/*", order = 4)
+    static class StaticFilter implements Filter {
+        @Override
+        public void doFilter(Request request, Response response, FilterChain chain) {
+            calls.add("static");
+            chain.doFilter(request, response);
+        }
+    }
+
+    @WebFilter(value = "/users/admin", order = 5)
+    static class UserAdminFilter implements Filter {
+        @Override
+        public void doFilter(Request request, Response response, FilterChain chain) {
+            calls.add("users");
+            chain.doFilter(request, response);
+        }
+    }
+
+    @Test
+    void include_filters_matching_request_url_in_order() {
+        FilterChainResolver resolver = createResolver();
+
+        run(resolver, "/api/items");
+        assertEquals(Arrays.asList("log", "api", "endpoint"), calls);
+
+        run(resolver, "/api/items/3?sort=name");
+        assertEquals(Arrays.asList("log", "api", "endpoint"), calls);
+
+        run(resolver, "/about");
+        assertEquals(Arrays.asList("log", "endpoint"), calls);
+    }
+
+    @Test
+    void stop_at_filter_that_does_not_continue() {
+        FilterChainResolver resolver = createResolver();
+
+        run(resolver, "/api/admin/users");
+
+        assertEquals(Arrays.asList("log", "api", "auth"), calls);
+    }
+
+    @Test
+    void run_matching_filters_for_urls_without_handler() {
+        FilterChainResolver resolver = createResolver();
+
+        run(resolver, "/api/admin/missing");
+        assertEquals(Arrays.asList("log", "api", "auth"), calls);
+
+        run(resolver, "/static/app.js");
+        assertEquals(Arrays.asList("log", "static", "endpoint"), calls);
+    }
+
+    @Test
+    void match_concrete_pattern_against_url() {
+        FilterChainResolver resolver = createResolver();
+
+        run(resolver, "/users/admin");
+        assertEquals(Arrays.asList("log", "users", "endpoint"), calls);
+
+        run(resolver, "/users/sam");
+        assertEquals(Arrays.asList("log", "endpoint"), calls);
+    }
+
+    @Test
+    void reuse_chain_per_matched_filters() {
+        FilterChainResolver resolver = createResolver();
+
+        FilterChain chain = resolver.resolve("/api/items/1");
+
+        assertSame(chain, resolver.resolve("/api/items/2"));
+        assertSame(chain, resolver.resolve("/api/orders"));
+        assertNotSame(chain, resolver.resolve("/about"));
+        assertEquals(2, chain.size());
+    }
+
+    @Test
+    void use_one_chain_when_all_filters_are_catch_all() {
+        FilterChainResolver resolver = FilterChainResolver.of(Collections.singletonList(new LogFilter()),
+                (request, response) -> calls.add("endpoint"));
+
+        assertSame(resolver.resolve("/api/items"), resolver.resolve("/static/app.js"));
+        run(resolver, "/missing");
+        assertEquals(Arrays.asList("log", "endpoint"), calls);
+    }
+
+    @Test
+    void run_endpoint_without_filters() {
+        FilterChainResolver resolver = FilterChainResolver.of(Collections.emptyList(),
+                (request, response) -> calls.add("endpoint"));
+
+        run(resolver, "/api/items");
+
+        assertEquals(Collections.singletonList("endpoint"), calls);
+    }
+
+    private static FilterChainResolver createResolver() {
+        List<Filter> filters = Arrays.asList(new LogFilter(), new ApiFilter(), new AuthFilter(), new StaticFilter(), new UserAdminFilter());
+        return FilterChainResolver.of(filters, (request, response) -> calls.add("endpoint"));
+    }
+
+    private static void run(FilterChainResolver resolver, String url) {
+        calls.clear();
+        resolver.resolve(url).doFilter(null, null);
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.sam.server.http.context;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdleConnectionsTest {
+
+    @Test
+    void closeOldestIdleConnection() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+             Socket first = new Socket(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+             Socket firstAccepted = serverSocket.accept();
+             Socket second = new Socket(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+             Socket secondAccepted = serverSocket.accept()) {
+            Thread firstConnection = process(firstAccepted);
+            awaitIdle(1);
+            Thread secondConnection = process(secondAccepted);
+            awaitIdle(2);
+
+            assertTrue(IdleConnections.closeOldest());
+            firstConnection.join(5000);
+            assertFalse(firstConnection.isAlive());
+            assertTrue(firstAccepted.isClosed());
+            assertClosedByServer(first);
+            assertTrue(secondConnection.isAlive());
+            assertEquals(1, IdleConnections.size());
+
+            assertTrue(IdleConnections.closeOldest());
+            secondConnection.join(5000);
+            assertFalse(secondConnection.isAlive());
+            assertClosedByServer(second);
+            assertFalse(IdleConnections.closeOldest());
+        }
+    }
+
+    private static Thread process(Socket socket) throws IOException {
+        HttpConnection connection = HttpConnection.of(socket);
+        Thread thread = new Thread(connection::process);
+        thread.start();
+        return thread;
+    }
+
+    private static void assertClosedByServer(Socket client) throws IOException {
+        client.setSoTimeout(5000);
+        assertEquals(-1, client.getInputStream().read());
+    }
+
+    private static void awaitIdle(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (IdleConnections.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, IdleConnections.size());
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.sam.server.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.sam.server.constant.HttpMethod;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerEventsTest {
+
+    @Test
+    void disabledByDefault() {
+        assertFalse(ServerEvents.ENABLED);
+    }
+
+    @Test
+    void recordEvents() throws Exception {
+        Path file = Files.createTempFile("server-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.sam.server.Invoke").withoutThreshold();
+            recording.enable("org.sam.server.Write").withoutThreshold();
+            recording.start();
+            new InvokeEvent().finish(HttpMethod.GET, "/items/1", "/items/{id}", 0);
+            new WriteEvent().finish(HttpMethod.GET, "/items/1", "/items/{id}", 200);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        RecordedEvent event = events.stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("org.sam.server.Invoke"))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals("GET", event.getString("method"));
+        assertEquals("/items/1", event.getString("url"));
+        assertEquals("/items/{id}", event.getString("route"));
+        assertEquals(0, event.getInt("status"));
+        RecordedEvent writeEvent = events.stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("org.sam.server.Write"))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(200, writeEvent.getInt("status"));
+        assertTrue(event.getEventType().getCategoryNames().contains("Sambastian"));
+    }
+
+}
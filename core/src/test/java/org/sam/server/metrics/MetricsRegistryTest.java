@@ -0,0 +1,66 @@
+package org.sam.server.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void bucketIndex() {
+        assertEquals(0, Histogram.bucketIndex(0));
+        assertEquals(0, Histogram.bucketIndex(32));
+        assertEquals(1, Histogram.bucketIndex(33));
+        assertEquals(1, Histogram.bucketIndex(36));
+        assertEquals(2, Histogram.bucketIndex(37));
+        assertEquals(8, Histogram.bucketIndex(64));
+        assertEquals(9, Histogram.bucketIndex(65));
+        assertEquals(160, Histogram.bucketIndex(1L << 25));
+        assertEquals(161, Histogram.bucketIndex((1L << 25) + 1));
+        assertEquals(161, Histogram.bucketIndex(Long.MAX_VALUE / 1000));
+    }
+
+    @Test
+    void separateValuesWithinOneOctave() {
+        assertNotEquals(Histogram.bucketIndex(1100), Histogram.bucketIndex(2000));
+        assertEquals(1152, Histogram.upperBound(Histogram.bucketIndex(1100)));
+        assertEquals(2048, Histogram.upperBound(Histogram.bucketIndex(2000)));
+    }
+
+    @Test
+    void valueFitsUnderUpperBoundWithinOneEighth() {
+        for (long micros = 33; micros <= 1L << 25; micros += micros / 7 + 1) {
+            long upperBound = Histogram.upperBound(Histogram.bucketIndex(micros));
+            assertTrue(micros <= upperBound);
+            assertTrue(upperBound - micros < upperBound / 8 + 1, "micros=" + micros);
+            int index = Histogram.bucketIndex(micros);
+            assertTrue(micros > Histogram.upperBound(index - 1));
+        }
+    }
+
+    @Test
+    void scrapePrometheusText() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.counter("test_requests_total", "test counter", "route", "status").labels("/items/{id}", "200").add(3);
+        Histogram histogram = registry.histogram("test_duration_seconds", "test histogram", "route").labels("/items/{id}");
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(50));
+        histogram.record(TimeUnit.SECONDS.toNanos(60));
+        registry.gauge("test_gauge", "test gauge", () -> 7);
+
+        String text = registry.scrape();
+
+        assertTrue(text.contains("# TYPE test_requests_total counter\n"));
+        assertTrue(text.contains("test_requests_total{route=\"/items/{id}\",status=\"200\"} 3\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{route=\"/items/{id}\",le=\"0.000032\"} 0\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{route=\"/items/{id}\",le=\"0.000048\"} 0\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{route=\"/items/{id}\",le=\"0.000052\"} 1\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{route=\"/items/{id}\",le=\"33.554432\"} 1\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{route=\"/items/{id}\",le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("test_duration_seconds_sum{route=\"/items/{id}\"} 60.00005\n"));
+        assertTrue(text.contains("test_duration_seconds_count{route=\"/items/{id}\"} 2\n"));
+        assertTrue(text.contains("test_gauge 7\n"));
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.sam.server.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentIndexProcessorTest {
+
+    @Test
+    void write_component_index(@TempDir Path output) throws IOException {
+        List<JavaFileObject> sources = Arrays.asList(
+                source("app.Application", "package app; @org.sam.server.annotation.ComponentScan public class Application {}"),
+                source("app.service.GreetingService", "package app.service; @org.sam.server.annotation.component.Service public class GreetingService {}"),
+                source("app.handler.GreetingHandler", "package app.handler; @org.sam.server.annotation.component.Handler(\"/api\") public class GreetingHandler {}"),
+                source("app.LogInterceptor", "package app; public class LogInterceptor implements org.sam.server.http.Interceptor {" +
+                        " public void preHandler(org.sam.server.http.web.Request req, org.sam.server.http.web.Response res) {}" +
+                        " public void postHandler(org.sam.server.http.web.Request req, org.sam.server.http.web.Response res) {} }")
+        );
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                Arrays.asList("-d", output.toString(), "-classpath", System.getProperty("java.class.path")), null, sources);
+        task.setProcessors(Collections.singletonList(new ComponentIndexProcessor()));
+        assertTrue(task.call());
+
+        List<String> lines = Files.readAllLines(output.resolve(ComponentIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+        assertTrue(lines.contains("scan-root=app"));
+        assertTrue(lines.contains("component=app.service.GreetingService"));
+        assertTrue(lines.contains("handler=app.handler.GreetingHandler"));
+        assertTrue(lines.contains("interceptor=app.LogInterceptor"));
+        assertFalse(lines.contains("component=app.handler.GreetingHandler"));
+    }
+
+    @Test
+    void keep_entries_of_classes_not_recompiled(@TempDir Path output) throws IOException {
+        assertTrue(compile(output, Arrays.asList(
+                source("app.Application", "package app; @org.sam.server.annotation.ComponentScan public class Application {}"),
+                source("app.service.GreetingService", "package app.service; @org.sam.server.annotation.component.Service public class GreetingService {}"),
+                source("app.service.RemovedService", "package app.service; @org.sam.server.annotation.component.Service public class RemovedService {}")
+        )));
+        Files.delete(output.resolve("app/service/RemovedService.class"));
+
+        assertTrue(compile(output, Collections.singletonList(
+                source("app.handler.GreetingHandler", "package app.handler; @org.sam.server.annotation.component.Handler(\"/api\") public class GreetingHandler {}")
+        )));
+
+        List<String> lines = Files.readAllLines(output.resolve(ComponentIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+        assertTrue(lines.contains("scan-root=app"));
+        assertTrue(lines.contains("component=app.service.GreetingService"));
+        assertTrue(lines.contains("handler=app.handler.GreetingHandler"));
+        assertFalse(lines.contains("component=app.service.RemovedService"));
+    }
+
+    @Test
+    void drop_entries_of_recompiled_classes(@TempDir Path output) throws IOException {
+        assertTrue(compile(output, Arrays.asList(
+                source("app.Application", "package app; @org.sam.server.annotation.ComponentScan public class Application {}"),
+                source("app.service.GreetingService", "package app.service; @org.sam.server.annotation.component.Service public class GreetingService {}")
+        )));
+
+        assertTrue(compile(output, Collections.singletonList(
+                source("app.service.GreetingService", "package app.service; public class GreetingService {}")
+        )));
+
+        List<String> lines = Files.readAllLines(output.resolve(ComponentIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+        assertTrue(lines.contains("scan-root=app"));
+        assertFalse(lines.contains("component=app.service.GreetingService"));
+    }
+
+    private boolean compile(Path output, List<JavaFileObject> sources) {
+        String classPath = output + System.getProperty("path.separator") + System.getProperty("java.class.path");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                Arrays.asList("-d", output.toString(), "-classpath", classPath), null, sources);
+        task.setProcessors(Collections.singletonList(new ComponentIndexProcessor()));
+        return task.call();
+    }
+
+    private JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.sam.server.util;
+
+import org.junit.jupiter.api.Test;
+import org.sam.server.annotation.handle.JsonRequest;
+import org.sam.server.http.web.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConverterTest {
+
+    enum Grade { GOLD, SILVER }
+
+    public static class Address {
+        private String city;
+        public String getCity() { return city; }
+        public void setCity(String city) { this.city = city; }
+    }
+
+    public static class Member {
+        private String name;
+        private int age;
+        private Long point;
+        private Grade grade;
+        private LocalDate joinedAt;
+        private Address address;
+        public void setName(String name) { this.name = name; }
+        public void setAge(int age) { this.age = age; }
+        public void setPoint(Long point) { this.point = point; }
+        public void setGrade(Grade grade) { this.grade = grade; }
+        public void setJoinedAt(LocalDate joinedAt) { this.joinedAt = joinedAt; }
+        public void setAddress(Address address) { this.address = address; }
+    }
+
+    @Test
+    void parameter_to_object() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("name", "sam");
+        parameters.put("age", "31");
+        parameters.put("point", "1000");
+        parameters.put("grade", "GOLD");
+        parameters.put("joinedAt", "2020-01-02");
+        parameters.put("address.city", "seoul");
+
+        Member member = (Member) Converter.parameterToObject(parameters, Member.class);
+
+        assertEquals("sam", member.name);
+        assertEquals(31, member.age);
+        assertEquals(1000L, member.point);
+        assertEquals(Grade.GOLD, member.grade);
+        assertEquals(LocalDate.of(2020, 1, 2), member.joinedAt);
+        assertEquals("seoul", member.address.getCity());
+    }
+
+    @Test
+    void skip_invalid_and_missing_values() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("age", "abc");
+
+        Member member = (Member) Converter.parameterToObject(parameters, Member.class);
+
+        assertEquals(0, member.age);
+        assertNull(member.name);
+        assertNull(member.address);
+    }
+
+    @Test
+    void read_generic_json_request_parameter() throws Exception {
+        Method method = AddressHandler.class.getDeclaredMethod("save", List.class);
+        Type type = method.getParameters()[0].getParameterizedType();
+
+        List<Address> addresses = Converter.jsonToObject(stream("[{\"city\":\"seoul\"},{\"city\":\"busan\"}]"), type);
+
+        assertEquals(2, addresses.size());
+        assertEquals("seoul", addresses.get(0).getCity());
+        assertEquals("busan", addresses.get(1).getCity());
+    }
+
+    @Test
+    void unwrap_completion_stage_and_response_entity() throws Exception {
+        Method method = AddressHandler.class.getDeclaredMethod("findAll");
+
+        Type type = Converter.getResponseBodyType(method);
+
+        assertTrue(type instanceof ParameterizedType);
+        assertEquals(List.class, ((ParameterizedType) type).getRawType());
+        assertArrayEquals(new Type[]{Address.class}, ((ParameterizedType) type).getActualTypeArguments());
+    }
+
+    @Test
+    void return_null_for_empty_json_body() throws Exception {
+        Type type = AddressHandler.class.getDeclaredMethod("save", List.class).getParameters()[0].getParameterizedType();
+
+        assertNull(Converter.jsonToObject(null, type));
+        assertNull(Converter.jsonToObject(stream(""), type));
+        assertNull(Converter.jsonToObject(stream("  \r\n"), type));
+    }
+
+    @Test
+    void write_json_with_declared_generic_type() throws Exception {
+        Address address = new Address();
+        address.setCity("seoul");
+        Type type = Converter.getResponseBodyType(AddressHandler.class.getDeclaredMethod("findAll"));
+        StringWriter writer = new StringWriter();
+
+        Converter.writeJson(Arrays.asList(address), type, writer);
+
+        assertEquals("[{\"city\":\"seoul\"}]", writer.toString());
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class AddressHandler {
+
+        public String save(@JsonRequest List<Address> addresses) {
+            return String.valueOf(addresses.size());
+        }
+
+        public CompletionStage<ResponseEntity<List<Address>>> findAll() {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.sam.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappingPlanTest {
+
+    public static class Tag {
+        private String name;
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+    }
+
+    public static class TagDto {
+        private String name;
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+    }
+
+    public static class Post {
+        private int id;
+        private Integer views;
+        private boolean published;
+        private Tag mainTag;
+        private List<Tag> tags;
+        public int getId() { return id; }
+        public Integer getViews() { return views; }
+        public boolean isPublished() { return published; }
+        public Tag getMainTag() { return mainTag; }
+        public List<Tag> getTags() { return tags; }
+    }
+
+    public static class PostDto {
+        private long id;
+        private int views = -1;
+        private Boolean published;
+        private TagDto mainTag;
+        private List<TagDto> tags;
+        public void setId(long id) { this.id = id; }
+        public void setViews(int views) { this.views = views; }
+        public void setPublished(Boolean published) { this.published = published; }
+        public void setMainTag(TagDto mainTag) { this.mainTag = mainTag; }
+        public void setTags(List<TagDto> tags) { this.tags = tags; }
+    }
+
+    @Test
+    void map_primitive_nested_and_collection_properties() {
+        Tag tag = new Tag();
+        tag.setName("java");
+        Post post = new Post();
+        post.id = 3;
+        post.published = true;
+        post.mainTag = tag;
+        post.tags = Arrays.asList(tag, tag);
+
+        PostDto dto = (PostDto) MappingPlan.of(Post.class, PostDto.class).map(post, null);
+
+        assertEquals(3L, dto.id);
+        assertEquals(-1, dto.views);
+        assertEquals(Boolean.TRUE, dto.published);
+        assertEquals("java", dto.mainTag.getName());
+        assertEquals(2, dto.tags.size());
+        assertEquals("java", dto.tags.get(0).getName());
+    }
+
+    @Test
+    void reuse_plan_for_same_pair() {
+        assertSame(MappingPlan.of(Post.class, PostDto.class), MappingPlan.of(Post.class, PostDto.class));
+    }
+
+}
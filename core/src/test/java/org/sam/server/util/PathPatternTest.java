@@ -0,0 +1,35 @@
+package org.sam.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathPatternTest {
+
+    @Test
+    void matchSingleSegment() {
+        PathPattern pattern = PathPattern.of("/api/*");
+        assertTrue(pattern.matches("/api"));
+        assertTrue(pattern.matches("/api/items"));
+        assertTrue(pattern.matches("/api/items?id=1"));
+        assertFalse(pattern.matches("/api/items/1"));
+        assertFalse(pattern.matches("/admin"));
+    }
+
+    @Test
+    void matchAnySegments() {
+        PathPattern pattern = PathPattern.of("/api/**");
+        assertTrue(pattern.matches("/api"));
+        assertTrue(pattern.matches("/api/items/1"));
+        assertFalse(pattern.matches("/apis"));
+    }
+
+    @Test
+    void matchExtension() {
+        PathPattern pattern = PathPattern.of("*.json");
+        assertTrue(pattern.matches("/data.json"));
+        assertTrue(pattern.matches("/api/items/data.json"));
+        assertFalse(pattern.matches("/api/items/data.xml"));
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.sam.server.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 측정 결과를 기준 결과와 비교하는 클래스입니다. 같은 이름의 시나리오끼리 비교합니다.
+ * 처리량이 허용 비율 보다 많이 줄었거나 p99 지연 시간이 허용 비율 보다 많이 늘었다면, 혹은 기준 결과에 없던 실패가 생겼다면 성능 저하로 판단합니다.
+ * OPEN 방식의 처리량은 예약한 요청 수로 정해지므로 지연 시간과 실패만 비교합니다.
+ *
+ * @author hypernova1
+ * @see LoadTestReport
+ */
+final class Baseline {
+
+    private Baseline() {}
+
+    /**
+     * 성능 저하 목록을 반환합니다.
+     *
+     * @param baseline 기준 보고서
+     * @param current 현재 보고서
+     * @param tolerance 허용 비율, 0.1은 10%
+     * @return 성능 저하 설명 목록, 없다면 빈 목록
+     * */
+    static List<String> compare(LoadTestReport baseline, LoadTestReport current, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (ScenarioResult result : current.getScenarios()) {
+            ScenarioResult base = find(baseline, result.getName());
+            if (base == null) continue;
+            if (result.getMode() == LoadMode.CLOSED && result.getRps() < base.getRps() * (1 - tolerance)) {
+                regressions.add(format("%s: rps %.1f < baseline %.1f (-%.1f%%)",
+                        result.getName(), result.getRps(), base.getRps(), percent(base.getRps() - result.getRps(), base.getRps())));
+            }
+            double p99 = result.getLatencyMs().getP99();
+            double baseP99 = base.getLatencyMs().getP99();
+            if (p99 > baseP99 * (1 + tolerance)) {
+                regressions.add(format("%s: p99 %.3fms > baseline %.3fms (+%.1f%%)",
+                        result.getName(), p99, baseP99, percent(p99 - baseP99, baseP99)));
+            }
+            if (base.getErrors() == 0 && result.getErrors() > 0) {
+                regressions.add(format("%s: %d errors, baseline had none", result.getName(), result.getErrors()));
+            }
+        }
+        return regressions;
+    }
+
+    private static ScenarioResult find(LoadTestReport report, String name) {
+        for (ScenarioResult result : report.getScenarios()) {
+            if (result.getName().equals(name)) return result;
+        }
+        return null;
+    }
+
+    private static double percent(double difference, double base) {
+        return base == 0 ? 0 : difference / base * 100;
+    }
+
+    private static String format(String format, Object... args) {
+        return String.format(Locale.ROOT, format, args);
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.sam.server.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 측정한 지연 시간을 모두 저장하는 클래스입니다. 쓰레드마다 하나씩 사용하며, 측정이 끝난 후 합쳐서 백분위 수를 계산합니다.
+ * 구간으로 나누어 근사하지 않으므로 백분위 수는 정확한 값입니다.
+ *
+ * @author hypernova1
+ */
+final class Latencies {
+
+    private long[] values = new long[4096];
+
+    private int size;
+
+    private boolean sorted;
+
+    /**
+     * 지연 시간을 기록합니다.
+     *
+     * @param nanos 지연 시간(나노초)
+     * */
+    void record(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+        sorted = false;
+    }
+
+    /**
+     * 여러 인스턴스의 기록을 합친 인스턴스를 반환합니다.
+     *
+     * @param latenciesList 합칠 인스턴스 목록
+     * @return 합친 인스턴스
+     * */
+    static Latencies merge(List<Latencies> latenciesList) {
+        int total = 0;
+        for (Latencies latencies : latenciesList) {
+            total += latencies.size;
+        }
+        Latencies merged = new Latencies();
+        merged.values = new long[Math.max(total, 1)];
+        for (Latencies latencies : latenciesList) {
+            System.arraycopy(latencies.values, 0, merged.values, merged.size, latencies.size);
+            merged.size += latencies.size;
+        }
+        return merged;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 백분위 수를 반환합니다.
+     *
+     * @param percentile 0 초과 100 이하의 백분위
+     * @return 지연 시간(나노초), 기록이 없다면 0
+     * */
+    long percentile(double percentile) {
+        if (size == 0) return 0;
+        sort();
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        return values[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    long max() {
+        if (size == 0) return 0;
+        sort();
+        return values[size - 1];
+    }
+
+    double mean() {
+        if (size == 0) return 0;
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum / size;
+    }
+
+    private void sort() {
+        if (sorted) return;
+        Arrays.sort(values, 0, size);
+        sorted = true;
+    }
+
+}
@@ -0,0 +1,188 @@
+package org.sam.server.loadtest;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 시나리오에 따라 서버에 부하를 만드는 클래스입니다. 연결마다 쓰레드를 하나씩 사용합니다.
+ * 예열 시간 동안의 요청은 기록하지 않으며, 측정 시간이 끝나면 진행 중인 요청의 응답까지 받은 후 종료합니다.
+ *
+ * OPEN 방식은 n번째 요청을 시작 시각 + n * (1초 / 초당 요청 수)에 보내도록 예약하고, 지연 시간을 예약된 시각부터 측정합니다.
+ * 서버가 느려져 모든 연결이 응답을 기다리는 동안 보내지 못한 요청의 대기 시간도 지연 시간에 포함되므로 coordinated omission을 보정합니다.
+ * 측정 시간이 끝나고 같은 시간이 더 지나도록 보내지 못한 예약 요청은 실패로 집계합니다.
+ *
+ * @author hypernova1
+ * @see LoadMode
+ */
+final class LoadGenerator {
+
+    private final InetSocketAddress address;
+
+    private final long warmupNanos;
+
+    private final long durationNanos;
+
+    private LoadGenerator(InetSocketAddress address, long warmupNanos, long durationNanos) {
+        this.address = address;
+        this.warmupNanos = warmupNanos;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param address 서버 주소
+     * @param warmupSeconds 예열 시간(초)
+     * @param durationSeconds 측정 시간(초)
+     * @return LoadGenerator 인스턴스
+     * */
+    static LoadGenerator of(InetSocketAddress address, int warmupSeconds, int durationSeconds) {
+        if (durationSeconds < 1) throw new IllegalArgumentException("duration must be positive: " + durationSeconds);
+        return new LoadGenerator(address, TimeUnit.SECONDS.toNanos(Math.max(0, warmupSeconds)), TimeUnit.SECONDS.toNanos(durationSeconds));
+    }
+
+    /**
+     * 시나리오를 실행하고 결과를 반환합니다.
+     *
+     * @param scenario 시나리오
+     * @return 측정 결과
+     * @throws InterruptedException 측정 중 인터럽트가 발생했을 시
+     * */
+    ScenarioResult run(Scenario scenario) throws InterruptedException {
+        int connections = scenario.getConnections();
+        List<Latencies> latenciesList = new ArrayList<>(connections);
+        List<Thread> workers = new ArrayList<>(connections);
+        LongAdder errors = new LongAdder();
+        AtomicLong tickets = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(connections);
+        Window window = new Window();
+
+        for (int i = 0; i < connections; i++) {
+            Latencies latencies = new Latencies();
+            latenciesList.add(latencies);
+            LoopbackClient client = LoopbackClient.of(address, scenario.getPath(), scenario.isKeepAlive());
+            Runnable task = scenario.getMode() == LoadMode.OPEN
+                    ? () -> runOpen(client, latencies, errors, tickets, scenario.getRate(), window, ready)
+                    : () -> runClosed(client, latencies, errors, window, ready);
+            Thread worker = new Thread(task, "loadtest-" + scenario.getName() + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        ready.await();
+        window.open(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10), warmupNanos, durationNanos);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Latencies merged = Latencies.merge(latenciesList);
+        long failed = errors.sum();
+        if (scenario.getMode() == LoadMode.OPEN) {
+            long scheduled = (long) (durationNanos / 1e9 * scenario.getRate());
+            failed += Math.max(0, scheduled - merged.size() - failed);
+        }
+        return ScenarioResult.of(scenario, durationNanos, merged, failed);
+    }
+
+    /**
+     * 응답을 받은 즉시 다음 요청을 보냅니다.
+     * */
+    private static void runClosed(LoopbackClient client, Latencies latencies, LongAdder errors, Window window, CountDownLatch ready) {
+        window.await(ready);
+        try {
+            while (true) {
+                long begin = System.nanoTime();
+                if (begin >= window.end) break;
+                boolean succeeded = send(client);
+                long finish = System.nanoTime();
+                if (begin < window.measureStart) continue;
+                if (succeeded) {
+                    latencies.record(finish - begin);
+                } else {
+                    errors.increment();
+                }
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * 예약된 시각에 요청을 보내고, 지연 시간을 예약된 시각부터 측정합니다.
+     * */
+    private static void runOpen(LoopbackClient client, Latencies latencies, LongAdder errors, AtomicLong tickets,
+                                int rate, Window window, CountDownLatch ready) {
+        window.await(ready);
+        double interval = 1e9 / rate;
+        long deadline = window.end + (window.end - window.measureStart);
+        try {
+            while (true) {
+                long intended = window.start + (long) (tickets.getAndIncrement() * interval);
+                if (intended >= window.end) break;
+                long now;
+                while ((now = System.nanoTime()) < intended) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                if (now > deadline) break;
+                boolean succeeded = send(client);
+                long finish = System.nanoTime();
+                if (intended < window.measureStart) continue;
+                if (succeeded) {
+                    latencies.record(finish - intended);
+                } else {
+                    errors.increment();
+                }
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    private static boolean send(LoopbackClient client) {
+        try {
+            int status = client.send();
+            return status >= 200 && status < 400;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 모든 쓰레드가 같은 시각을 기준으로 측정하도록 시작 시각을 전달하는 클래스입니다.
+     * */
+    private static final class Window {
+
+        private final CountDownLatch opened = new CountDownLatch(1);
+
+        private volatile long start;
+
+        private volatile long measureStart;
+
+        private volatile long end;
+
+        private void open(long start, long warmupNanos, long durationNanos) {
+            this.start = start;
+            this.measureStart = start + warmupNanos;
+            this.end = measureStart + durationNanos;
+            opened.countDown();
+        }
+
+        private void await(CountDownLatch ready) {
+            ready.countDown();
+            try {
+                opened.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.sam.server.loadtest;
+
+/**
+ * 부하를 만드는 방식입니다.
+ *
+ * @author hypernova1
+ */
+public enum LoadMode {
+
+    /**
+     * 연결마다 응답을 받은 즉시 다음 요청을 보냅니다. 서버가 처리할 수 있는 최대 처리량을 측정합니다.
+     * */
+    CLOSED,
+
+    /**
+     * 서버의 응답 속도와 관계없이 정해진 간격으로 요청을 보냅니다.
+     * 지연 시간은 요청을 보내려던 시각부터 측정하므로 서버가 늦어져 요청을 늦게 보낸 시간도 포함합니다.
+     * */
+    OPEN
+
+}
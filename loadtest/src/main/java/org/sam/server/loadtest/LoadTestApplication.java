@@ -0,0 +1,15 @@
+package org.sam.server.loadtest;
+
+import org.sam.server.annotation.ComponentScan;
+
+/**
+ * 부하 테스트 대상 핸들러의 루트 패키지를 지정하는 클래스입니다.
+ *
+ * @author hypernova1
+ */
+@ComponentScan
+public class LoadTestApplication {
+
+    private LoadTestApplication() {}
+
+}
@@ -0,0 +1,77 @@
+package org.sam.server.loadtest;
+
+import org.sam.server.annotation.component.Handler;
+import org.sam.server.annotation.handle.GetMapping;
+import org.sam.server.annotation.handle.RestApi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 부하 테스트에서 호출하는 핸들러입니다. 응답 크기별로 비교할 수 있도록 짧은 응답과 목록 응답을 제공합니다.
+ *
+ * @author hypernova1
+ */
+@Handler("/load")
+public class LoadTestHandler {
+
+    private static final List<Item> ITEMS = createItems(20);
+
+    @RestApi
+    @GetMapping("/ping")
+    public String ping() {
+        return "pong";
+    }
+
+    @RestApi
+    @GetMapping("/items")
+    public List<Item> items() {
+        return ITEMS;
+    }
+
+    private static List<Item> createItems(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(i, "item-" + i, 1000 + i * 10, Arrays.asList("load", "test")));
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    public static class Item {
+
+        private final long id;
+
+        private final String name;
+
+        private final int price;
+
+        private final List<String> tags;
+
+        private Item(long id, String name, int price, List<String> tags) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.tags = tags;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+    }
+
+}
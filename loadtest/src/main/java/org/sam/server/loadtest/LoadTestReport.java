@@ -0,0 +1,109 @@
+package org.sam.server.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 부하 테스트 보고서입니다. 측정 환경과 시나리오별 결과, 기준 결과와 비교한 성능 저하 목록을 JSON으로 저장합니다.
+ * 기준 결과 파일도 같은 형식을 사용합니다.
+ *
+ * @author hypernova1
+ * @see Baseline
+ */
+public final class LoadTestReport {
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private String createdAt;
+
+    private String javaVersion;
+
+    private String osName;
+
+    private int availableProcessors;
+
+    private List<ScenarioResult> scenarios = new ArrayList<>();
+
+    private List<String> regressions = new ArrayList<>();
+
+    private LoadTestReport() {}
+
+    /**
+     * 현재 환경의 정보를 담은 인스턴스를 생성합니다.
+     *
+     * @return LoadTestReport 인스턴스
+     * */
+    static LoadTestReport create() {
+        LoadTestReport report = new LoadTestReport();
+        report.createdAt = Instant.now().toString();
+        report.javaVersion = System.getProperty("java.version");
+        report.osName = System.getProperty("os.name") + " " + System.getProperty("os.arch");
+        report.availableProcessors = Runtime.getRuntime().availableProcessors();
+        return report;
+    }
+
+    /**
+     * 파일에서 보고서를 읽습니다.
+     *
+     * @param path 파일 경로
+     * @return 보고서
+     * @throws IOException 파일을 읽지 못 했을 시
+     * */
+    static LoadTestReport read(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            LoadTestReport report = gson.fromJson(reader, LoadTestReport.class);
+            if (report == null) throw new IOException("empty report: " + path);
+            return report;
+        }
+    }
+
+    /**
+     * 보고서를 파일에 씁니다. 상위 디렉토리가 없다면 생성합니다.
+     *
+     * @param path 파일 경로
+     * @throws IOException 파일을 쓰지 못 했을 시
+     * */
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            gson.toJson(this, writer);
+        }
+    }
+
+    String toJson() {
+        return gson.toJson(this);
+    }
+
+    void addScenario(ScenarioResult result) {
+        scenarios.add(result);
+    }
+
+    void setRegressions(List<String> regressions) {
+        this.regressions = new ArrayList<>(regressions);
+    }
+
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    public List<ScenarioResult> getScenarios() {
+        return scenarios == null ? Collections.emptyList() : Collections.unmodifiableList(scenarios);
+    }
+
+    public List<String> getRegressions() {
+        return regressions == null ? Collections.emptyList() : Collections.unmodifiableList(regressions);
+    }
+
+}
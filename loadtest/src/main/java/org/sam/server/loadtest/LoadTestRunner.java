@@ -0,0 +1,180 @@
+package org.sam.server.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 부하 테스트를 실행하는 클래스입니다.
+ * 대상 서버를 지정하지 않았다면 같은 프로세스에서 LoadTestApplication으로 서버를 띄운 후 루프백 주소로 요청합니다.
+ * 시나리오마다 결과를 측정하여 JSON 보고서를 쓰고, 기준 결과보다 성능이 허용 비율 이상 떨어졌다면 1을 반환하며 종료합니다.
+ *
+ * <pre>
+ * --target=host:port     이미 실행 중인 서버를 대상으로 측정 (기본: 내장 서버)
+ * --scenarios=a,b        실행할 시나리오 (기본: closed-keepalive,closed-close,open-keepalive,open-close)
+ * --path=/load/items     요청 경로
+ * --connections=16       동시 연결 수
+ * --rate=2000            OPEN 방식의 초당 요청 수
+ * --warmup=5             시나리오별 예열 시간(초)
+ * --duration=15          시나리오별 측정 시간(초)
+ * --baseline=baseline.json
+ * --tolerance=0.15       허용 비율
+ * --update-baseline      측정 결과를 기준 결과로 저장
+ * --output=target/loadtest-result.json
+ * </pre>
+ *
+ * @author hypernova1
+ * @see LoadGenerator
+ * @see Baseline
+ */
+public final class LoadTestRunner {
+
+    private static final String LOG_CONFIGURATION = "log4j2-loadtest.xml";
+
+    private static final long SERVER_START_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private static final int EXIT_REGRESSION = 1;
+
+    private static final int EXIT_USAGE = 2;
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("log4j.configurationFile") == null) {
+            System.setProperty("log4j.configurationFile", LOG_CONFIGURATION);
+        }
+        Map<String, String> options;
+        try {
+            options = parseOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_USAGE);
+            return;
+        }
+        System.exit(run(options));
+    }
+
+    private static int run(Map<String, String> options) throws Exception {
+        InetSocketAddress address = options.containsKey("target")
+                ? parseAddress(options.get("target"))
+                : startServer();
+        List<Scenario> scenarios = selectScenarios(options);
+        LoadGenerator generator = LoadGenerator.of(address,
+                getInt(options, "warmup", 5), getInt(options, "duration", 15));
+
+        LoadTestReport report = LoadTestReport.create();
+        for (Scenario scenario : scenarios) {
+            System.err.printf("running %s against %s:%d...%n", scenario.getName(), address.getHostString(), address.getPort());
+            ScenarioResult result = generator.run(scenario);
+            System.err.printf(Locale.ROOT, "  %.1f rps, p50 %.3fms, p99 %.3fms, %d errors%n",
+                    result.getRps(), result.getLatencyMs().getP50(), result.getLatencyMs().getP99(), result.getErrors());
+            report.addScenario(result);
+        }
+
+        Path baselinePath = Paths.get(options.getOrDefault("baseline", "baseline.json"));
+        double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.15"));
+        if (options.containsKey("update-baseline")) {
+            report.write(baselinePath);
+            System.err.println("baseline updated: " + baselinePath);
+        } else if (Files.exists(baselinePath)) {
+            LoadTestReport baseline = LoadTestReport.read(baselinePath);
+            if (baseline.getAvailableProcessors() != report.getAvailableProcessors()) {
+                System.err.printf("warning: baseline was measured with %d processors, current machine has %d%n",
+                        baseline.getAvailableProcessors(), report.getAvailableProcessors());
+            }
+            report.setRegressions(Baseline.compare(baseline, report, tolerance));
+        } else {
+            System.err.println("no baseline found at " + baselinePath + ", run with --update-baseline to create one");
+        }
+
+        report.write(Paths.get(options.getOrDefault("output", "target/loadtest-result.json")));
+        System.out.println(report.toJson());
+        for (String regression : report.getRegressions()) {
+            System.err.println("REGRESSION " + regression);
+        }
+        return report.getRegressions().isEmpty() ? 0 : EXIT_REGRESSION;
+    }
+
+    private static List<Scenario> selectScenarios(Map<String, String> options) {
+        List<Scenario> scenarios = Scenario.defaults(
+                getInt(options, "connections", 16),
+                getInt(options, "rate", 2000),
+                options.getOrDefault("path", "/load/items"));
+        String names = options.get("scenarios");
+        if (names == null) return scenarios;
+        List<Scenario> selected = new ArrayList<>();
+        for (String name : names.split(",")) {
+            Scenario scenario = scenarios.stream()
+                    .filter(candidate -> candidate.getName().equals(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("unknown scenario: " + name));
+            selected.add(scenario);
+        }
+        return selected;
+    }
+
+    /**
+     * 내장 서버를 데몬 쓰레드에서 시작하고 연결을 받을 수 있을 때 까지 기다립니다.
+     *
+     * @return 서버 주소
+     * @throws IOException 제한 시간 안에 서버가 시작되지 않았을 시
+     * */
+    private static InetSocketAddress startServer() throws IOException, InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread server = new Thread(() -> {
+            try {
+                org.sam.server.http.context.HttpServer.start();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        }, "loadtest-server");
+        server.setDaemon(true);
+        server.start();
+
+        int port = org.sam.server.common.ServerProperties.getInt("server.port", 8080);
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", port);
+        long deadline = System.currentTimeMillis() + SERVER_START_TIMEOUT;
+        while (System.currentTimeMillis() < deadline) {
+            if (failure.get() != null) throw new IOException("server failed to start", failure.get());
+            try (Socket socket = new Socket()) {
+                socket.connect(address, 1000);
+                return address;
+            } catch (IOException e) {
+                Thread.sleep(50);
+            }
+        }
+        throw new IOException("server did not start within " + SERVER_START_TIMEOUT + "ms on port " + port);
+    }
+
+    private static InetSocketAddress parseAddress(String target) {
+        int index = target.lastIndexOf(':');
+        if (index == -1) throw new IllegalArgumentException("target must be host:port: " + target);
+        return new InetSocketAddress(target.substring(0, index), Integer.parseInt(target.substring(index + 1)));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("unknown argument: " + arg);
+            int index = arg.indexOf('=');
+            if (index == -1) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, index), arg.substring(index + 1));
+            }
+        }
+        return options;
+    }
+
+    private static int getInt(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+}
@@ -0,0 +1,163 @@
+package org.sam.server.loadtest;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 부하 테스트에서 사용하는 HTTP/1.1 클라이언트입니다. 하나의 쓰레드에서만 사용합니다.
+ * 연결을 유지하는 경우 응답을 받은 후에도 소켓을 재사용하며, 서버가 Connection: close로 응답하거나 오류가 발생하면 다음 요청에서 다시 연결합니다.
+ *
+ * @author hypernova1
+ */
+final class LoopbackClient implements Closeable {
+
+    private static final int CONNECT_TIMEOUT = 5000;
+
+    private static final int READ_TIMEOUT = 30000;
+
+    private final InetSocketAddress address;
+
+    private final boolean keepAlive;
+
+    private final byte[] request;
+
+    private final byte[] buffer = new byte[8192];
+
+    private final StringBuilder line = new StringBuilder();
+
+    private Socket socket;
+
+    private InputStream in;
+
+    private OutputStream out;
+
+    private LoopbackClient(InetSocketAddress address, String path, boolean keepAlive) {
+        this.address = address;
+        this.keepAlive = keepAlive;
+        this.request = ("GET " + path + " HTTP/1.1\r\n"
+                + "Host: " + address.getHostString() + ":" + address.getPort() + "\r\n"
+                + "User-Agent: sambastian-loadtest\r\n"
+                + "Accept: application/json\r\n"
+                + "Connection: " + (keepAlive ? "keep-alive" : "close") + "\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 인스턴스를 생성합니다. 연결은 첫 요청을 보낼 때 맺습니다.
+     *
+     * @param address 서버 주소
+     * @param path 요청 경로
+     * @param keepAlive 연결 유지 여부
+     * @return LoopbackClient 인스턴스
+     * */
+    static LoopbackClient of(InetSocketAddress address, String path, boolean keepAlive) {
+        return new LoopbackClient(address, path, keepAlive);
+    }
+
+    /**
+     * 요청을 보내고 응답 바디까지 모두 읽습니다.
+     *
+     * @return 응답 상태 코드
+     * @throws IOException 연결하거나 응답을 읽지 못 했을 시
+     * */
+    int send() throws IOException {
+        if (socket == null) connect();
+        try {
+            out.write(request);
+            out.flush();
+            int status = readResponse();
+            if (!keepAlive) close();
+            return status;
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void connect() throws IOException {
+        Socket socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.setSoTimeout(READ_TIMEOUT);
+        socket.connect(address, CONNECT_TIMEOUT);
+        this.socket = socket;
+        this.in = new BufferedInputStream(socket.getInputStream(), buffer.length);
+        this.out = socket.getOutputStream();
+    }
+
+    /**
+     * 상태 줄과 헤더를 읽은 후 Content-Length 만큼 바디를 읽습니다. Content-Length가 없다면 연결이 닫힐 때 까지 읽습니다.
+     *
+     * @return 응답 상태 코드
+     * @throws IOException 응답 형식이 올바르지 않거나 연결이 끊겼을 시
+     * */
+    private int readResponse() throws IOException {
+        String statusLine = readLine();
+        if (statusLine.length() < 12 || !statusLine.startsWith("HTTP/")) {
+            throw new IOException("invalid status line: " + statusLine);
+        }
+        int status = Integer.parseInt(statusLine.substring(9, 12));
+        long contentLength = -1;
+        boolean closeRequested = false;
+        String header;
+        while (!(header = readLine()).isEmpty()) {
+            int index = header.indexOf(':');
+            if (index == -1) continue;
+            String name = header.substring(0, index).trim();
+            String value = header.substring(index + 1).trim();
+            if (name.equalsIgnoreCase("content-length")) {
+                contentLength = Long.parseLong(value);
+            } else if (name.equalsIgnoreCase("connection")) {
+                closeRequested = value.equalsIgnoreCase("close");
+            }
+        }
+        if (contentLength < 0) {
+            while (in.read(buffer) != -1) {
+                // 연결이 닫힐 때 까지 읽습니다.
+            }
+            close();
+            return status;
+        }
+        skipBody(contentLength);
+        if (closeRequested) close();
+        return status;
+    }
+
+    private void skipBody(long contentLength) throws IOException {
+        long remaining = contentLength;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) throw new EOFException("unexpected end of body");
+            remaining -= read;
+        }
+    }
+
+    private String readLine() throws IOException {
+        line.setLength(0);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                int length = line.length();
+                if (length > 0 && line.charAt(length - 1) == '\r') line.setLength(length - 1);
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        throw new EOFException("connection closed by server");
+    }
+
+    @Override
+    public void close() {
+        if (socket == null) return;
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        } finally {
+            socket = null;
+            in = null;
+            out = null;
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.sam.server.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 시나리오입니다.
+ *
+ * @author hypernova1
+ * @see LoadGenerator
+ */
+public final class Scenario {
+
+    private final String name;
+
+    private final LoadMode mode;
+
+    private final boolean keepAlive;
+
+    private final int connections;
+
+    private final int rate;
+
+    private final String path;
+
+    private Scenario(String name, LoadMode mode, boolean keepAlive, int connections, int rate, String path) {
+        this.name = name;
+        this.mode = mode;
+        this.keepAlive = keepAlive;
+        this.connections = connections;
+        this.rate = rate;
+        this.path = path;
+    }
+
+    /**
+     * 인스턴스를 생성합니다.
+     *
+     * @param name 시나리오 이름
+     * @param mode 부하를 만드는 방식
+     * @param keepAlive 연결 유지 여부
+     * @param connections 동시 연결 수
+     * @param rate 초당 요청 수, CLOSED 방식에서는 사용하지 않음
+     * @param path 요청 경로
+     * @return Scenario 인스턴스
+     * */
+    public static Scenario of(String name, LoadMode mode, boolean keepAlive, int connections, int rate, String path) {
+        if (connections < 1) throw new IllegalArgumentException("connections must be positive: " + connections);
+        if (mode == LoadMode.OPEN && rate < 1) throw new IllegalArgumentException("rate must be positive: " + rate);
+        return new Scenario(name, mode, keepAlive, connections, mode == LoadMode.OPEN ? rate : 0, path);
+    }
+
+    /**
+     * 기본 시나리오 목록을 반환합니다. 부하 방식과 연결 유지 여부의 조합마다 하나씩 만듭니다.
+     *
+     * @param connections 동시 연결 수
+     * @param rate OPEN 방식의 초당 요청 수
+     * @param path 요청 경로
+     * @return 시나리오 목록
+     * */
+    public static List<Scenario> defaults(int connections, int rate, String path) {
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(of("closed-keepalive", LoadMode.CLOSED, true, connections, 0, path));
+        scenarios.add(of("closed-close", LoadMode.CLOSED, false, connections, 0, path));
+        scenarios.add(of("open-keepalive", LoadMode.OPEN, true, connections, rate, path));
+        scenarios.add(of("open-close", LoadMode.OPEN, false, connections, rate, path));
+        return scenarios;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LoadMode getMode() {
+        return mode;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+}
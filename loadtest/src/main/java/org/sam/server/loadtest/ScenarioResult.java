@@ -0,0 +1,131 @@
+package org.sam.server.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오 하나의 측정 결과입니다. JSON으로 변환하여 보고하고 기준 결과로 저장합니다.
+ * 지연 시간은 밀리초 단위입니다.
+ *
+ * @author hypernova1
+ */
+public final class ScenarioResult {
+
+    private String name;
+
+    private LoadMode mode;
+
+    private boolean keepAlive;
+
+    private int connections;
+
+    private int targetRps;
+
+    private double durationSeconds;
+
+    private long requests;
+
+    private long errors;
+
+    private double rps;
+
+    private LatencySummary latencyMs;
+
+    private ScenarioResult() {}
+
+    /**
+     * 측정한 값으로 인스턴스를 생성합니다.
+     *
+     * @param scenario 시나리오
+     * @param durationNanos 측정 시간(나노초)
+     * @param latencies 성공한 요청의 지연 시간
+     * @param errors 실패하거나 보내지 못한 요청 수
+     * @return ScenarioResult 인스턴스
+     * */
+    static ScenarioResult of(Scenario scenario, long durationNanos, Latencies latencies, long errors) {
+        ScenarioResult result = new ScenarioResult();
+        result.name = scenario.getName();
+        result.mode = scenario.getMode();
+        result.keepAlive = scenario.isKeepAlive();
+        result.connections = scenario.getConnections();
+        result.targetRps = scenario.getRate();
+        result.durationSeconds = round(durationNanos / 1e9);
+        result.requests = latencies.size();
+        result.errors = errors;
+        result.rps = round(latencies.size() / (durationNanos / 1e9));
+        result.latencyMs = LatencySummary.of(latencies);
+        return result;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LoadMode getMode() {
+        return mode;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getRps() {
+        return rps;
+    }
+
+    public LatencySummary getLatencyMs() {
+        return latencyMs;
+    }
+
+    /**
+     * 지연 시간의 평균과 백분위 수입니다.
+     * */
+    public static final class LatencySummary {
+
+        private double mean;
+
+        private double p50;
+
+        private double p90;
+
+        private double p99;
+
+        private double p999;
+
+        private double max;
+
+        private LatencySummary() {}
+
+        private static LatencySummary of(Latencies latencies) {
+            LatencySummary summary = new LatencySummary();
+            summary.mean = toMillis(latencies.mean());
+            summary.p50 = toMillis(latencies.percentile(50));
+            summary.p90 = toMillis(latencies.percentile(90));
+            summary.p99 = toMillis(latencies.percentile(99));
+            summary.p999 = toMillis(latencies.percentile(99.9));
+            summary.max = toMillis(latencies.max());
+            return summary;
+        }
+
+        private static double toMillis(double nanos) {
+            return round(nanos / TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+    }
+
+}
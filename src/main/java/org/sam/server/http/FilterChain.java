@@ -1,12 +0,0 @@
-package org.sam.server.http;
-
-import org.sam.server.http.web.Request;
-import org.sam.server.http.web.Response;
-
-public class FilterChain {
-
-    public void doFilter(Request request, Response response) {
-
-    }
-
-}